@@ -11,6 +11,9 @@
 
 package org.kitodo.api.command;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
 public interface CommandInterface {
 
     /**
@@ -23,4 +26,35 @@ public interface CommandInterface {
      * @return A commandResult, which contains id and result messages.
      */
     CommandResult runCommand(Integer id, String command);
+
+    /**
+     * Runs a given command in the background. The returned future is completed
+     * with the command result when the command has finished.
+     *
+     * @param id
+     *            The id, to identify the command and it's results.
+     * @param command
+     *            The command as a String.
+     * @return A future of the commandResult.
+     */
+    default CompletableFuture<CommandResult> runCommandAsync(Integer id, String command) {
+        return CompletableFuture.supplyAsync(() -> runCommand(id, command));
+    }
+
+    /**
+     * Runs a given command in the background. If the command does not finish
+     * within the given time, it is terminated and the future is completed with
+     * an unsuccessful command result.
+     *
+     * @param id
+     *            The id, to identify the command and it's results.
+     * @param command
+     *            The command as a String.
+     * @param timeout
+     *            maximum time the command may run
+     * @param unit
+     *            time unit of the timeout
+     * @return A future of the commandResult.
+     */
+    CompletableFuture<CommandResult> runCommandAsync(Integer id, String command, long timeout, TimeUnit unit);
 }
@@ -14,6 +14,7 @@ package org.kitodo.api.imagemanagement;
 import java.awt.Image;
 import java.io.IOException;
 import java.net.URI;
+import java.util.List;
 
 public interface ImageManagementInterface {
 
@@ -50,6 +51,30 @@ public interface ImageManagementInterface {
     boolean createDerivative(URI imageFileUri, double percent, URI resultFileUri, ImageFileFormat resultFileFormat)
             throws IOException;
 
+    /**
+     * Creates several derivatives for an image at a given path. An
+     * implementation should read and decode the image only once for all
+     * derivatives. By default, the derivatives are created one after another.
+     *
+     * @param imageFileUri
+     *            the URI to the image
+     * @param derivatives
+     *            the derivatives to create
+     * @return true, if creation of all derivatives was successful, false
+     *         otherwise
+     * @throws IOException
+     *             if the plug-in is configured incorrectly, the image is
+     *             missing or corrupted, etc.
+     */
+    default boolean createDerivatives(URI imageFileUri, List<ImageDerivative> derivatives) throws IOException {
+        boolean created = true;
+        for (ImageDerivative derivative : derivatives) {
+            created &= createDerivative(imageFileUri, derivative.getPercent(), derivative.getResultFileUri(),
+                derivative.getResultFileFormat());
+        }
+        return created;
+    }
+
     /**
      * Scales an image at a given path and returns it.
      *
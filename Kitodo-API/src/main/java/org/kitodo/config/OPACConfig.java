@@ -33,6 +33,10 @@ public class OPACConfig {
     private static final Logger logger = LogManager.getLogger(OPACConfig.class);
     private static XMLConfiguration config;
 
+    private static final int DEFAULT_MAX_CONNECTIONS = 4;
+    private static final int DEFAULT_CONNECT_TIMEOUT = 3000;
+    private static final int DEFAULT_READ_TIMEOUT = 30000;
+
     /**
      * Private constructor.
      */
@@ -266,6 +270,33 @@ public class OPACConfig {
         return getCatalog(catalogName).configurationAt("credentials").getString("password");
     }
 
+    /**
+     * Get the maximum number of open connections to the host of the catalog.
+     * @param catalogName OPAC for which to get the maximum number of connections
+     * @return maximum number of connections, defaults to 4
+     */
+    public static int getMaxConnections(String catalogName) {
+        return getCatalog(catalogName).getInt("connection[@maxConnections]", DEFAULT_MAX_CONNECTIONS);
+    }
+
+    /**
+     * Get the time in milliseconds to wait for a connection to the catalog.
+     * @param catalogName OPAC for which to get the connect timeout
+     * @return connect timeout in milliseconds, defaults to 3000
+     */
+    public static int getConnectTimeout(String catalogName) {
+        return getCatalog(catalogName).getInt("connection[@connectTimeout]", DEFAULT_CONNECT_TIMEOUT);
+    }
+
+    /**
+     * Get the time in milliseconds to wait for data from the catalog.
+     * @param catalogName OPAC for which to get the read timeout
+     * @return read timeout in milliseconds, defaults to 30000
+     */
+    public static int getReadTimeout(String catalogName) {
+        return getCatalog(catalogName).getInt("connection[@readTimeout]", DEFAULT_READ_TIMEOUT);
+    }
+
     /**
      * If a mappingFile for parentInRecord is configured.
      * @param catalogName OPAC for witch to get the config
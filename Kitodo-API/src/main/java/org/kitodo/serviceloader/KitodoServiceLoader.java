@@ -26,17 +26,25 @@ import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Properties;
+import java.util.ServiceConfigurationError;
 import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
+import java.util.stream.Collectors;
 
 import javax.faces.context.FacesContext;
 import javax.servlet.http.HttpSession;
@@ -64,6 +72,23 @@ public class KitodoServiceLoader<T> {
 
     private static final Logger logger = LogManager.getLogger(KitodoServiceLoader.class);
 
+    /**
+     * Jars of the module folder with their modification time, as they were last
+     * loaded into the classpath.
+     */
+    private static Map<Path, FileTime> classpathJars = Collections.emptyMap();
+
+    /**
+     * Jars of the module folder with their modification time, as their beans
+     * and frontend files were last loaded into the core module.
+     */
+    private static Map<Path, FileTime> frontendJars = Collections.emptyMap();
+
+    /**
+     * Classes implementing the interfaces which were already loaded.
+     */
+    private static final Map<Class<?>, List<Class<?>>> providerClasses = new ConcurrentHashMap<>();
+
     /**
      * Constructor for KitodoServiceLoader.
      *
@@ -80,12 +105,61 @@ public class KitodoServiceLoader<T> {
         }
     }
 
+    /**
+     * Loads the modules implementing the constructed clazz. The module folder
+     * is scanned and the frontend files are extracted only if a jar was added,
+     * removed or modified since the last call. The classes implementing an
+     * interface are looked up only once, afterwards new instances of them are
+     * created directly.
+     */
     @SuppressWarnings("unchecked")
-    private ServiceLoader<T> getClassLoader() {
-        loadModulesIntoClasspath();
-        loadBeans();
-        loadFrontendFilesIntoCore();
-        return ServiceLoader.load(clazz);
+    private List<T> loadProviders() {
+        Map<Path, FileTime> moduleJars = listModuleJars();
+        synchronized (KitodoServiceLoader.class) {
+            if (!moduleJars.equals(classpathJars)) {
+                loadModulesIntoClasspath();
+                providerClasses.clear();
+                classpathJars = moduleJars;
+            }
+            if (!moduleJars.equals(frontendJars) && Objects.nonNull(FacesContext.getCurrentInstance())
+                    && loadBeans() && loadFrontendFilesIntoCore()) {
+                frontendJars = moduleJars;
+            }
+        }
+        List<T> modules = new LinkedList<>();
+        List<Class<?>> classes = providerClasses.get(clazz);
+        if (Objects.isNull(classes)) {
+            ServiceLoader.load(clazz).iterator().forEachRemaining(module -> modules.add((T) module));
+            providerClasses.put(clazz, modules.stream().map(Object::getClass).collect(Collectors.toList()));
+        } else {
+            for (Class<?> providerClass : classes) {
+                try {
+                    modules.add((T) providerClass.newInstance());
+                } catch (InstantiationException | IllegalAccessException e) {
+                    throw new ServiceConfigurationError(clazz.getName() + ": Provider " + providerClass.getName()
+                            + " could not be instantiated", e);
+                }
+            }
+        }
+        return modules;
+    }
+
+    /**
+     * Lists the jars of the module folder with their modification time.
+     *
+     * @return map of jar paths to modification times
+     */
+    private Map<Path, FileTime> listModuleJars() {
+        Map<Path, FileTime> moduleJars = new HashMap<>();
+        Path moduleFolder = FileSystems.getDefault().getPath(modulePath);
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(moduleFolder, JAR)) {
+            for (Path jar : stream) {
+                moduleJars.put(jar.toAbsolutePath(), Files.getLastModifiedTime(jar));
+            }
+        } catch (IOException e) {
+            logger.error(ERROR, e.getMessage());
+        }
+        return moduleJars;
     }
 
     /**
@@ -95,8 +169,7 @@ public class KitodoServiceLoader<T> {
      * @return A module with type T.
      */
     public T loadModule() {
-        ServiceLoader<T> loader = getClassLoader();
-        Iterator<T> loaderIterator = loader.iterator();
+        Iterator<T> loaderIterator = loadProviders().iterator();
         if (!loaderIterator.hasNext()) {
             logger.error("Couldn't find a module for {}!", clazz);
         }
@@ -108,17 +181,16 @@ public class KitodoServiceLoader<T> {
      * @return List of modules with type T
      */
     public List<T> loadModules() {
-        ServiceLoader<T> loader = getClassLoader();
-        LinkedList<T> modules = new LinkedList<>();
-        loader.iterator().forEachRemaining(modules::add);
-        return modules;
+        return loadProviders();
     }
 
     /**
      * Loads bean classes and registers them to the FacesContext. Afterwards
      * they can be used in all frontend files
+     *
+     * @return whether the beans were registered
      */
-    private void loadBeans() {
+    private boolean loadBeans() {
         Path moduleFolder = FileSystems.getDefault().getPath(modulePath);
         try (DirectoryStream<Path> stream = Files.newDirectoryStream(moduleFolder, JAR)) {
 
@@ -167,8 +239,10 @@ public class KitodoServiceLoader<T> {
                     }
                 }
             }
+            return true;
         } catch (Exception e) {
             logger.error(ERROR, e.getMessage());
+            return false;
         }
     }
 
@@ -177,8 +251,10 @@ public class KitodoServiceLoader<T> {
      * copied into the frontend folder of the core module. Before copying,
      * existing frontend files of the same module will be deleted from the core
      * module. Afterwards the created temporary folder will be deleted as well.
+     *
+     * @return whether the frontend files were copied
      */
-    private void loadFrontendFilesIntoCore() {
+    private boolean loadFrontendFilesIntoCore() {
 
         Path moduleFolder = FileSystems.getDefault().getPath(modulePath);
 
@@ -216,8 +292,10 @@ public class KitodoServiceLoader<T> {
                     }
                 }
             }
+            return true;
         } catch (Exception e) {
             logger.error(ERROR, e.getMessage());
+            return false;
         }
     }
 
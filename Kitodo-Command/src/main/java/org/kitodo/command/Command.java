@@ -11,17 +11,29 @@
 
 package org.kitodo.command;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Scanner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.kitodo.api.command.CommandInterface;
 import org.kitodo.api.command.CommandResult;
+import org.kitodo.config.KitodoConfig;
+import org.kitodo.config.enums.ParameterCommand;
 
 public class Command implements CommandInterface {
 
@@ -30,7 +42,31 @@ public class Command implements CommandInterface {
     private static final String MESSAGE = "Execution of Command ";
 
     /**
-     * Method executes a script.
+     * Default timeout for a command.
+     */
+    private static final int DEFAULT_TIMEOUT_SEC = (int) TimeUnit.HOURS.toSeconds(2);
+
+    /**
+     * Time to wait for the remaining output after a command has ended. Child
+     * processes of a script may hold its output streams open after the script
+     * itself was terminated.
+     */
+    private static final long OUTPUT_GRACE_MILLIS = 1000;
+
+    private static final AtomicInteger threadNumber = new AtomicInteger();
+
+    private static final ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "Command-" + threadNumber.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final Semaphore runningProcesses = new Semaphore(Math.max(1, KitodoConfig.getIntParameter(
+        ParameterCommand.MAX_CONCURRENT, 2 * Runtime.getRuntime().availableProcessors())), true);
+
+    /**
+     * Method executes a script. The script is terminated if it does not finish
+     * within the configured timeout.
      *
      * @param id
      *            The id, to identify the command and it's results.
@@ -40,28 +76,61 @@ public class Command implements CommandInterface {
      */
     @Override
     public CommandResult runCommand(Integer id, String command) {
+        return execute(id, command, getTimeoutSec(), TimeUnit.SECONDS);
+    }
+
+    /**
+     * Method executes a script in the background. The script is terminated if
+     * it does not finish within the configured timeout.
+     *
+     * @param id
+     *            The id, to identify the command and it's results.
+     * @param command
+     *            The command as a String.
+     * @return A future of the command result.
+     */
+    @Override
+    public CompletableFuture<CommandResult> runCommandAsync(Integer id, String command) {
+        return runCommandAsync(id, command, getTimeoutSec(), TimeUnit.SECONDS);
+    }
+
+    /**
+     * Method executes a script in the background.
+     *
+     * @param id
+     *            The id, to identify the command and it's results.
+     * @param command
+     *            The command as a String.
+     * @param timeout
+     *            maximum time the script may run, if not positive, the script
+     *            may run as long as it takes
+     * @param unit
+     *            time unit of the timeout
+     * @return A future of the command result.
+     */
+    @Override
+    public CompletableFuture<CommandResult> runCommandAsync(Integer id, String command, long timeout, TimeUnit unit) {
+        return CompletableFuture.supplyAsync(() -> execute(id, command, timeout, unit), executor);
+    }
+
+    private static long getTimeoutSec() {
+        return KitodoConfig.getIntParameter(ParameterCommand.TIMEOUT_SEC, DEFAULT_TIMEOUT_SEC);
+    }
+
+    /**
+     * Executes a script as soon as the limit of concurrently running scripts
+     * permits it.
+     */
+    private CommandResult execute(Integer id, String command, long timeout, TimeUnit unit) {
         CommandResult commandResult;
-        Process process;
         String[] callSequence = command.split("[\\r\\n\\s]+");
 
         try {
-            process = new ProcessBuilder(callSequence).start();
-            try (InputStream inputStream = process.getInputStream();
-                    InputStream errorInputStream = process.getErrorStream()) {
-                List<String> outputMessage = inputStreamArrayToList(inputStream);
-                List<String> errorMessage = inputStreamArrayToList(errorInputStream);
-                int errCode = process.waitFor();
-
-                outputMessage.addAll(errorMessage);
-
-                commandResult = new CommandResult(id, command, errCode == 0, outputMessage);
-                if (commandResult.isSuccessful()) {
-                    logger.info(MESSAGE + commandResult.getId() + " " + commandResult.getCommand()
-                            + " was successful!: " + commandResult.getMessages());
-                } else {
-                    logger.error(MESSAGE + commandResult.getId() + " " + commandResult.getCommand()
-                            + " failed!: " + commandResult.getMessages());
-                }
+            runningProcesses.acquire();
+            try {
+                commandResult = execute(id, command, callSequence, timeout, unit);
+            } finally {
+                runningProcesses.release();
             }
         } catch (InterruptedException e) {
             commandResult = new CommandResult(id, command, false, Collections.singletonList(e.getMessage()));
@@ -81,21 +150,104 @@ public class Command implements CommandInterface {
     }
 
     /**
-     * The method reads an InputStream and returns it as a ArrayList.
+     * Starts the script process and reads its standard output and error
+     * output concurrently, so that the script cannot block on a full pipe.
+     * Output messages are followed by error messages in the result.
+     */
+    private CommandResult execute(Integer id, String command, String[] callSequence, long timeout, TimeUnit unit)
+            throws IOException, InterruptedException {
+
+        Process process = new ProcessBuilder(callSequence).start();
+        try {
+            List<String> outputMessage = Collections.synchronizedList(new ArrayList<>());
+            List<String> errorMessage = Collections.synchronizedList(new ArrayList<>());
+            Future<?> outputReader = executor.submit(() -> readLines(process.getInputStream(), outputMessage));
+            Future<?> errorReader = executor.submit(() -> readLines(process.getErrorStream(), errorMessage));
+
+            boolean finished;
+            if (timeout > 0) {
+                finished = process.waitFor(timeout, unit);
+            } else {
+                process.waitFor();
+                finished = true;
+            }
+            if (!finished) {
+                process.destroyForcibly();
+            }
+            awaitOutput(outputReader, command);
+            awaitOutput(errorReader, command);
+
+            List<String> messages;
+            synchronized (outputMessage) {
+                messages = new ArrayList<>(outputMessage);
+            }
+            synchronized (errorMessage) {
+                messages.addAll(errorMessage);
+            }
+            if (!finished) {
+                messages.add("Command timed out and was terminated after " + timeout + " " + unit.toString().toLowerCase());
+            }
+
+            CommandResult commandResult = new CommandResult(id, command, finished && process.exitValue() == 0,
+                    messages);
+            if (commandResult.isSuccessful()) {
+                logger.info(MESSAGE + commandResult.getId() + " " + commandResult.getCommand()
+                        + " was successful!: " + commandResult.getMessages());
+            } else {
+                logger.error(MESSAGE + commandResult.getId() + " " + commandResult.getCommand()
+                        + " failed!: " + commandResult.getMessages());
+            }
+            return commandResult;
+        } finally {
+            if (process.isAlive()) {
+                process.destroyForcibly();
+            }
+            closeStream(process.getInputStream(), command);
+            closeStream(process.getErrorStream(), command);
+            closeStream(process.getOutputStream(), command);
+        }
+    }
+
+    /**
+     * Closes a stream of the script. Child processes of the script are not
+     * terminated together with the script and may still hold the stream open,
+     * so its reader is only stopped by closing it.
+     */
+    private static void closeStream(Closeable stream, String command) {
+        try {
+            stream.close();
+        } catch (IOException e) {
+            logger.warn("Closing stream of {} failed: {}", command, e.getMessage());
+        }
+    }
+
+    /**
+     * Waits for a stream of the script to be read to its end.
+     */
+    private static void awaitOutput(Future<?> reader, String command) throws InterruptedException {
+        try {
+            reader.get(OUTPUT_GRACE_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            logger.warn("Reading output of {} failed: {}", command, e.getCause().getMessage());
+        } catch (TimeoutException e) {
+            logger.warn("Output of {} is still open after the command ended, ignoring further output", command);
+            reader.cancel(true);
+        }
+    }
+
+    /**
+     * The method reads an InputStream line by line until its end.
      *
      * @param inputStream
-     *            The Stream to convert.
-     * @return A ArrayList holding the single lines.
+     *            The Stream to read.
+     * @param lines
+     *            A list to add the single lines to.
      */
-    private static ArrayList<String> inputStreamArrayToList(InputStream inputStream) {
-        ArrayList<String> list = new ArrayList<>();
-
+    private static void readLines(InputStream inputStream, List<String> lines) {
         try (Scanner inputLines = new Scanner(inputStream, CHARSET)) {
             while (inputLines.hasNextLine()) {
-                String myLine = inputLines.nextLine();
-                list.add(myLine);
+                lines.add(inputLines.nextLine());
             }
         }
-        return list;
     }
 }
@@ -12,6 +12,8 @@
 package org.kitodo.command;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 import java.io.File;
 import java.io.IOException;
@@ -22,6 +24,8 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
@@ -39,6 +43,10 @@ public class CommandTest {
             System.getProperty("user.dir") + "/src/test/resources/working_script_with_parameters.sh");
     private static File notWorkingScript = new File(
             System.getProperty("user.dir") + "/src/test/resources/not_working_script.sh");
+    private static File errorOutputScript = new File(
+            System.getProperty("user.dir") + "/src/test/resources/error_output_script.sh");
+    private static File sleepingScript = new File(
+            System.getProperty("user.dir") + "/src/test/resources/sleeping_script.sh");
 
     @BeforeClass
     public static void setUp() throws IOException {
@@ -52,6 +60,8 @@ public class CommandTest {
             setFileExecuteable(workingScript);
             setFileExecuteable(workingScriptWithParameters);
             setFileExecuteable(notWorkingScript);
+            setFileExecuteable(errorOutputScript);
+            setFileExecuteable(sleepingScript);
         }
 
     }
@@ -62,6 +72,8 @@ public class CommandTest {
             setFileNotExecuteable(workingScript);
             setFileNotExecuteable(workingScriptWithParameters);
             setFileNotExecuteable(notWorkingScript);
+            setFileNotExecuteable(errorOutputScript);
+            setFileNotExecuteable(sleepingScript);
         }
     }
 
@@ -142,6 +154,56 @@ public class CommandTest {
                 commandResult.getMessages());
     }
 
+    @Test
+    public void shouldRunCommandWritingHeavilyToErrorOutput() {
+        Command command = new Command();
+
+        String commandString = "src/test/resources/error_output_script" + scriptExtension;
+        CommandResult commandResult = command.runCommand(processId, commandString);
+
+        List<String> messages = commandResult.getMessages();
+        assertTrue("Command should be successful", commandResult.isSuccessful());
+        assertEquals("Wrong number of result messages", 10001, messages.size());
+        assertEquals("Output messages should come first", "Hello World", messages.get(0));
+        assertEquals("Error messages should come last",
+            "error line 10000, written to fill the pipe buffer of the error output", messages.get(10000));
+    }
+
+    @Test
+    public void shouldRunCommandsAsync() throws Exception {
+        Command command = new Command();
+
+        String commandString = "src/test/resources/error_output_script" + scriptExtension;
+        List<CompletableFuture<CommandResult>> futures = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            futures.add(command.runCommandAsync(i, commandString));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(1, TimeUnit.MINUTES);
+
+        for (int i = 0; i < futures.size(); i++) {
+            CommandResult commandResult = futures.get(i).get();
+            assertEquals("Wrong id of CommandResult", Integer.valueOf(i), commandResult.getId());
+            assertTrue("Command should be successful", commandResult.isSuccessful());
+            assertEquals("Wrong number of result messages", 10001, commandResult.getMessages().size());
+        }
+    }
+
+    @Test
+    public void shouldTerminateCommandAfterTimeout() throws Exception {
+        Command command = new Command();
+
+        String commandString = "src/test/resources/sleeping_script" + scriptExtension;
+        long start = System.nanoTime();
+        CommandResult commandResult = command.runCommandAsync(processId, commandString, 1, TimeUnit.SECONDS).get();
+        long duration = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start);
+
+        assertFalse("Command should not be successful", commandResult.isSuccessful());
+        assertTrue("Command should have been terminated after timeout, but took " + duration + " s", duration < 10);
+        List<String> messages = commandResult.getMessages();
+        assertFalse("Command should not have finished", messages.contains("Hello World"));
+        assertTrue("Result should report the timeout", messages.get(messages.size() - 1).contains("timed out"));
+    }
+
     private static void setFileExecuteable(File file) throws IOException {
         Set<PosixFilePermission> perms = new HashSet<>();
 
@@ -0,0 +1,15 @@
+::
+:: (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+::
+:: This file is part of the Kitodo project.
+::
+:: It is licensed under GNU General Public License version 3 or later.
+::
+:: For the full copyright and license information, please read the
+:: GPL3-License.txt file that was distributed with this source code.
+::
+
+
+@echo off
+for /L %%i in (1,1,10000) do >&2 echo error line %%i, written to fill the pipe buffer of the error output
+echo Hello World
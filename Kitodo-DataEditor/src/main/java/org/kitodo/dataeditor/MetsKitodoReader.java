@@ -16,14 +16,13 @@ import java.io.InputStream;
 import java.io.StringReader;
 import java.net.URI;
 
-import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Unmarshaller;
 import javax.xml.transform.TransformerException;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.kitodo.api.filemanagement.FileManagementInterface;
+import org.kitodo.dataformat.JaxbContextRegistry;
 import org.kitodo.dataformat.metskitodo.Mets;
 import org.kitodo.serviceloader.KitodoServiceLoader;
 import org.xml.sax.InputSource;
@@ -51,10 +50,9 @@ class MetsKitodoReader {
      * @return The Mets object in mets-kitodo format.
      */
     static Mets readStringToMets(String xmlString) throws JAXBException {
-        JAXBContext jaxbMetsContext = JAXBContext.newInstance(Mets.class);
-        Unmarshaller jaxbUnmarshaller = jaxbMetsContext.createUnmarshaller();
         try (StringReader stringReader = new StringReader(xmlString)) {
-            return (Mets) jaxbUnmarshaller.unmarshal(new InputSource(stringReader));
+            return JaxbContextRegistry.unmarshal(Mets.class,
+                unmarshaller -> (Mets) unmarshaller.unmarshal(new InputSource(stringReader)));
         }
     }
 
@@ -69,10 +67,9 @@ class MetsKitodoReader {
         FileManagementInterface fileManagementModule = new KitodoServiceLoader<FileManagementInterface>(
                 FileManagementInterface.class).loadModule();
         if (fileManagementModule.fileExist(xmlFile)) {
-            JAXBContext jaxbMetsContext = JAXBContext.newInstance(Mets.class);
-            Unmarshaller jaxbUnmarshaller = jaxbMetsContext.createUnmarshaller();
             try (InputStream inputStream = fileManagementModule.read(xmlFile)) {
-                return (Mets) jaxbUnmarshaller.unmarshal(inputStream);
+                return JaxbContextRegistry.unmarshal(Mets.class,
+                    unmarshaller -> (Mets) unmarshaller.unmarshal(inputStream));
             }
         } else {
             throw new IOException("File was not found: " + xmlFile.getPath());
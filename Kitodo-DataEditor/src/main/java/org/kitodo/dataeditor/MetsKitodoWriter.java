@@ -22,6 +22,7 @@ import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
 import javax.xml.datatype.DatatypeConfigurationException;
 
+import org.kitodo.dataformat.JaxbContextRegistry;
 import org.kitodo.dataformat.metskitodo.Mets;
 
 /**
@@ -37,7 +38,7 @@ public class MetsKitodoWriter {
      * The Constructor which instantiates the JAXB context of MetsKitodo format.
      */
     public MetsKitodoWriter() throws JAXBException {
-        jaxbMetsContext = JAXBContext.newInstance(Mets.class);
+        jaxbMetsContext = JaxbContextRegistry.getContext(Mets.class);
         jaxbMetsMarshaller = jaxbMetsContext.createMarshaller();
     }
 
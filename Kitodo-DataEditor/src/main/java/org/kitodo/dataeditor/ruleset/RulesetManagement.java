@@ -23,9 +23,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
-import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Unmarshaller;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -38,6 +36,7 @@ import org.kitodo.dataeditor.ruleset.xml.Division;
 import org.kitodo.dataeditor.ruleset.xml.Key;
 import org.kitodo.dataeditor.ruleset.xml.Namespace;
 import org.kitodo.dataeditor.ruleset.xml.Ruleset;
+import org.kitodo.dataformat.JaxbContextRegistry;
 
 /**
  * This class provides the functionality of the rule set.
@@ -280,8 +279,7 @@ public class RulesetManagement implements RulesetManagementInterface {
     @SuppressWarnings("unchecked")
     private <T> T read(Class<T> objectClass, File inputFile) throws IOException {
         try {
-            Unmarshaller reader = JAXBContext.newInstance(objectClass).createUnmarshaller();
-            return (T) reader.unmarshal(inputFile);
+            return JaxbContextRegistry.unmarshal(objectClass, reader -> (T) reader.unmarshal(inputFile));
         } catch (JAXBException e) {
             /*
              * If the parser ran on an IOException, we can throw it out
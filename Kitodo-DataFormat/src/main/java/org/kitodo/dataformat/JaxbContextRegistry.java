@@ -0,0 +1,163 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.dataformat;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+
+/**
+ * Registry of JAXB contexts and pools of marshallers and unmarshallers.
+ * Creating a JAXB context is expensive, so there is only one context per root
+ * class, which is thread-safe. Marshallers and unmarshallers are not
+ * thread-safe; they are lent to one caller at a time and returned to a pool
+ * afterwards.
+ */
+public final class JaxbContextRegistry {
+
+    /**
+     * Maximum number of idle marshallers and unmarshallers kept per root class.
+     */
+    private static final int POOL_SIZE = 16;
+
+    private static final Map<Class<?>, JAXBContext> contexts = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, BlockingQueue<Unmarshaller>> unmarshallers = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, BlockingQueue<Marshaller>> marshallers = new ConcurrentHashMap<>();
+
+    /**
+     * Function which uses a marshaller or unmarshaller.
+     *
+     * @param <T>
+     *            type of marshaller or unmarshaller
+     * @param <R>
+     *            type of the result
+     */
+    @FunctionalInterface
+    public interface JaxbFunction<T, R> {
+        /**
+         * Apply the function.
+         *
+         * @param t
+         *            marshaller or unmarshaller
+         * @return the result
+         * @throws JAXBException
+         *             if (un)marshalling fails
+         */
+        R apply(T t) throws JAXBException;
+    }
+
+    /**
+     * Action which uses a marshaller.
+     */
+    @FunctionalInterface
+    public interface JaxbConsumer {
+        /**
+         * Perform the action.
+         *
+         * @param marshaller
+         *            marshaller to use
+         * @throws JAXBException
+         *             if marshalling fails
+         */
+        void accept(Marshaller marshaller) throws JAXBException;
+    }
+
+    /**
+     * Private constructor to hide the implicit public one.
+     */
+    private JaxbContextRegistry() {
+    }
+
+    /**
+     * Get the JAXB context for the given root class. The context is created on
+     * first use.
+     *
+     * @param rootClass
+     *            class to be bound
+     * @return the JAXB context
+     * @throws JAXBException
+     *             if the context cannot be created
+     */
+    public static JAXBContext getContext(Class<?> rootClass) throws JAXBException {
+        JAXBContext context = contexts.get(rootClass);
+        if (Objects.isNull(context)) {
+            context = JAXBContext.newInstance(rootClass);
+            JAXBContext concurrentContext = contexts.putIfAbsent(rootClass, context);
+            if (Objects.nonNull(concurrentContext)) {
+                context = concurrentContext;
+            }
+        }
+        return context;
+    }
+
+    /**
+     * Lend an unmarshaller for the given root class to the function. The
+     * unmarshaller must not be used after the function returned.
+     *
+     * @param rootClass
+     *            class to be bound
+     * @param function
+     *            function which unmarshals
+     * @param <R>
+     *            type of the result
+     * @return the result of the function
+     * @throws JAXBException
+     *             if unmarshalling fails
+     */
+    public static <R> R unmarshal(Class<?> rootClass, JaxbFunction<Unmarshaller, R> function) throws JAXBException {
+        BlockingQueue<Unmarshaller> pool = unmarshallers.computeIfAbsent(rootClass,
+            key -> new ArrayBlockingQueue<>(POOL_SIZE));
+        Unmarshaller unmarshaller = pool.poll();
+        if (Objects.isNull(unmarshaller)) {
+            unmarshaller = getContext(rootClass).createUnmarshaller();
+        }
+        R result = function.apply(unmarshaller);
+        // only returned to the pool if it did not fail
+        unmarshaller.setSchema(null);
+        unmarshaller.setEventHandler(null);
+        pool.offer(unmarshaller);
+        return result;
+    }
+
+    /**
+     * Lend a marshaller for the given root class to the action. The marshaller
+     * produces unformatted output unless the action sets
+     * {@link Marshaller#JAXB_FORMATTED_OUTPUT}. It must not be used after the
+     * action returned.
+     *
+     * @param rootClass
+     *            class to be bound
+     * @param action
+     *            action which marshals
+     * @throws JAXBException
+     *             if marshalling fails
+     */
+    public static void marshal(Class<?> rootClass, JaxbConsumer action) throws JAXBException {
+        BlockingQueue<Marshaller> pool = marshallers.computeIfAbsent(rootClass,
+            key -> new ArrayBlockingQueue<>(POOL_SIZE));
+        Marshaller marshaller = pool.poll();
+        if (Objects.isNull(marshaller)) {
+            marshaller = getContext(rootClass).createMarshaller();
+        }
+        action.accept(marshaller);
+        // only returned to the pool if it did not fail
+        marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, false);
+        pool.offer(marshaller);
+    }
+}
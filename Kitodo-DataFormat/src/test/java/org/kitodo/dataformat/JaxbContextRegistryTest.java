@@ -0,0 +1,63 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.dataformat;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.io.File;
+import java.io.StringWriter;
+
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+
+import org.junit.Test;
+import org.kitodo.dataformat.metskitodo.Mets;
+
+public class JaxbContextRegistryTest {
+
+    @Test
+    public void shouldShareContext() throws JAXBException {
+        assertSame("Context was not shared!", JaxbContextRegistry.getContext(Mets.class),
+            JaxbContextRegistry.getContext(Mets.class));
+    }
+
+    @Test
+    public void shouldReuseUnmarshaller() throws JAXBException {
+        File metsFile = new File("src/test/resources/meta.xml");
+        Unmarshaller first = JaxbContextRegistry.unmarshal(Mets.class, unmarshaller -> unmarshaller);
+        Mets mets = JaxbContextRegistry.unmarshal(Mets.class, unmarshaller -> {
+            assertSame("Unmarshaller was not reused!", first, unmarshaller);
+            return (Mets) unmarshaller.unmarshal(metsFile);
+        });
+        assertEquals("Wrong number of structure maps!", 2, mets.getStructMap().size());
+    }
+
+    @Test
+    public void shouldLendDifferentMarshallersAtTheSameTime() throws JAXBException {
+        JaxbContextRegistry.marshal(Mets.class, outer -> JaxbContextRegistry.marshal(Mets.class, inner -> {
+            assertNotSame("Marshaller was lent twice!", outer, inner);
+        }));
+    }
+
+    @Test
+    public void shouldResetFormattedOutput() throws JAXBException {
+        JaxbContextRegistry.marshal(Mets.class, marshaller -> {
+            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+            marshaller.marshal(new Mets(), new StringWriter());
+        });
+        JaxbContextRegistry.marshal(Mets.class, marshaller -> assertEquals("Formatted output was not reset!",
+            Boolean.FALSE, marshaller.getProperty(Marshaller.JAXB_FORMATTED_OUTPUT)));
+    }
+}
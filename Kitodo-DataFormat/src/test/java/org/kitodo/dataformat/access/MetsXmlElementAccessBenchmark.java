@@ -0,0 +1,111 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.dataformat.access;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+
+import org.kitodo.dataformat.JaxbContextRegistry;
+import org.kitodo.dataformat.metskitodo.Mets;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares reading and saving METS files with a new JAXB context per call to
+ * the shared context and pooled (un)marshallers of the
+ * {@link JaxbContextRegistry}. This is not a unit test; run it with the main
+ * method from the test class path of this module.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MetsXmlElementAccessBenchmark {
+
+    private byte[] metsFile;
+    private Mets mets;
+
+    /**
+     * Load the METS file of the tests once.
+     */
+    @Setup
+    public void setUp() throws Exception {
+        metsFile = Files.readAllBytes(Paths.get("src/test/resources/meta.xml"));
+        mets = (Mets) JAXBContext.newInstance(Mets.class).createUnmarshaller()
+                .unmarshal(new ByteArrayInputStream(metsFile));
+    }
+
+    @Benchmark
+    public Object readWithNewContext() throws JAXBException {
+        return JAXBContext.newInstance(Mets.class).createUnmarshaller().unmarshal(new ByteArrayInputStream(metsFile));
+    }
+
+    @Benchmark
+    public Object readWithRegistry() throws JAXBException {
+        return JaxbContextRegistry.unmarshal(Mets.class,
+            unmarshaller -> unmarshaller.unmarshal(new ByteArrayInputStream(metsFile)));
+    }
+
+    @Benchmark
+    public Object readWorkpiece() throws Exception {
+        return new MetsXmlElementAccess().read(new ByteArrayInputStream(metsFile));
+    }
+
+    @Benchmark
+    public byte[] saveWithNewContext() throws JAXBException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(metsFile.length);
+        Marshaller marshaller = JAXBContext.newInstance(Mets.class).createMarshaller();
+        marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        marshaller.marshal(mets, out);
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] saveWithRegistry() throws JAXBException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(metsFile.length);
+        JaxbContextRegistry.marshal(Mets.class, marshaller -> {
+            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+            marshaller.marshal(mets, out);
+        });
+        return out.toByteArray();
+    }
+
+    /**
+     * Run the benchmark.
+     *
+     * @param args
+     *            not used
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(MetsXmlElementAccessBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,291 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+
+package org.kitodo.data.database.beans;
+
+import java.util.Date;
+import java.util.Objects;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Table;
+
+import org.kitodo.data.database.enums.JobState;
+
+/**
+ * Job bean. A job is the database record of a long running task of the task
+ * manager, which allows to resume the task after a restart of the
+ * application.
+ */
+@Entity
+@Table(name = "job")
+public class Job extends BaseBean {
+
+    /**
+     * The field type holds the fully qualified class name of the task.
+     */
+    @Column(name = "type")
+    private String type;
+
+    @Column(name = "title")
+    private String title;
+
+    @Column(name = "state")
+    @Enumerated(EnumType.STRING)
+    private JobState state = JobState.NEW;
+
+    /**
+     * The field parameters holds everything the task needs to be created
+     * again. It is written once when the job is created.
+     */
+    @Column(name = "parameters", columnDefinition = "longtext")
+    private String parameters;
+
+    /**
+     * The field checkpoint holds the state of the work of the task up to which
+     * it can be resumed. It is updated while the task is working.
+     */
+    @Column(name = "checkpoint", columnDefinition = "longtext")
+    private String checkpoint;
+
+    @Column(name = "progress")
+    private Integer progress = 0;
+
+    @Column(name = "retries")
+    private Integer retries = 0;
+
+    @Column(name = "errorLog", columnDefinition = "longtext")
+    private String errorLog;
+
+    @Column(name = "creationDate")
+    private Date creationDate;
+
+    @Column(name = "modificationDate")
+    private Date modificationDate;
+
+    /**
+     * Get type.
+     *
+     * @return fully qualified class name of the task
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * Set type.
+     *
+     * @param type
+     *            fully qualified class name of the task
+     */
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    /**
+     * Get title.
+     *
+     * @return value of title
+     */
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * Set title.
+     *
+     * @param title
+     *            as String
+     */
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    /**
+     * Get state.
+     *
+     * @return value of state
+     */
+    public JobState getState() {
+        return state;
+    }
+
+    /**
+     * Set state.
+     *
+     * @param state
+     *            as org.kitodo.data.database.enums.JobState
+     */
+    public void setState(JobState state) {
+        this.state = state;
+    }
+
+    /**
+     * Get parameters.
+     *
+     * @return value of parameters
+     */
+    public String getParameters() {
+        return parameters;
+    }
+
+    /**
+     * Set parameters.
+     *
+     * @param parameters
+     *            as String
+     */
+    public void setParameters(String parameters) {
+        this.parameters = parameters;
+    }
+
+    /**
+     * Get checkpoint.
+     *
+     * @return value of checkpoint
+     */
+    public String getCheckpoint() {
+        return checkpoint;
+    }
+
+    /**
+     * Set checkpoint.
+     *
+     * @param checkpoint
+     *            as String
+     */
+    public void setCheckpoint(String checkpoint) {
+        this.checkpoint = checkpoint;
+    }
+
+    /**
+     * Get progress.
+     *
+     * @return progress in percent
+     */
+    public int getProgress() {
+        if (Objects.isNull(progress)) {
+            progress = 0;
+        }
+        return progress;
+    }
+
+    /**
+     * Set progress.
+     *
+     * @param progress
+     *            in percent
+     */
+    public void setProgress(int progress) {
+        this.progress = progress;
+    }
+
+    /**
+     * Get retries.
+     *
+     * @return number of times the job was retried after it failed
+     */
+    public int getRetries() {
+        if (Objects.isNull(retries)) {
+            retries = 0;
+        }
+        return retries;
+    }
+
+    /**
+     * Set retries.
+     *
+     * @param retries
+     *            number of times the job was retried after it failed
+     */
+    public void setRetries(int retries) {
+        this.retries = retries;
+    }
+
+    /**
+     * Get error log.
+     *
+     * @return value of errorLog
+     */
+    public String getErrorLog() {
+        return errorLog;
+    }
+
+    /**
+     * Set error log.
+     *
+     * @param errorLog
+     *            as String
+     */
+    public void setErrorLog(String errorLog) {
+        this.errorLog = errorLog;
+    }
+
+    /**
+     * Get creation date.
+     *
+     * @return creation date as Date
+     */
+    public Date getCreationDate() {
+        return creationDate;
+    }
+
+    /**
+     * Set creation date.
+     *
+     * @param creationDate
+     *            as Date
+     */
+    public void setCreationDate(Date creationDate) {
+        this.creationDate = creationDate;
+    }
+
+    /**
+     * Get modification date.
+     *
+     * @return modification date as Date
+     */
+    public Date getModificationDate() {
+        return modificationDate;
+    }
+
+    /**
+     * Set modification date.
+     *
+     * @param modificationDate
+     *            as Date
+     */
+    public void setModificationDate(Date modificationDate) {
+        this.modificationDate = modificationDate;
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) {
+            return true;
+        }
+
+        if (object instanceof Job) {
+            Job job = (Job) object;
+            return Objects.equals(this.getId(), job.getId());
+        }
+
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, creationDate);
+    }
+}
@@ -17,6 +17,7 @@ package org.kitodo.data.database.enums;
  */
 public enum IndexAction {
     INDEX,
+    INDEXING,
     DELETE,
     DONE
 }
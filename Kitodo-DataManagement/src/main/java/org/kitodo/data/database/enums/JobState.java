@@ -0,0 +1,31 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+
+package org.kitodo.data.database.enums;
+
+/**
+ * Enum for the state of a job of the task manager:
+ *
+ * <dl>
+ * <dt>NEW</dt>
+ * <dd>the job is waiting to be started, or to be resumed after a restart</dd>
+ * <dt>WORKING</dt>
+ * <dd>the job is in operation</dd>
+ * <dt>FAILED</dt>
+ * <dd>the job has failed and will not be retried any more</dd>
+ * </dl>
+ */
+public enum JobState {
+    NEW,
+    WORKING,
+    FAILED
+}
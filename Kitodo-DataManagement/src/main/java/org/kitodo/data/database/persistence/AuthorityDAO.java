@@ -30,7 +30,7 @@ public class AuthorityDAO extends BaseDAO<Authority> {
 
     @Override
     public List<Authority> getAll() throws DAOException {
-        return retrieveAllObjects(Authority.class);
+        return getByCacheableQuery("FROM Authority ORDER BY id ASC", Collections.emptyMap());
     }
 
     @Override
@@ -56,7 +56,8 @@ public class AuthorityDAO extends BaseDAO<Authority> {
      * @return matching authority
      */
     public Authority getByTitle(String title) throws DAOException {
-        List<Authority> authorities = getByQuery("FROM Authority WHERE title = :title", Collections.singletonMap("title", title));
+        List<Authority> authorities = getByCacheableQuery("FROM Authority WHERE title = :title",
+            Collections.singletonMap("title", title));
 
         if (!authorities.isEmpty()) {
             return authorities.get(0);
@@ -22,6 +22,7 @@ import javax.persistence.PersistenceException;
 
 import org.hibernate.Hibernate;
 import org.hibernate.Session;
+import org.hibernate.StatelessSession;
 import org.hibernate.Transaction;
 import org.hibernate.exception.SQLGrammarException;
 import org.hibernate.query.Query;
@@ -35,6 +36,13 @@ public abstract class BaseDAO<T extends BaseBean> implements Serializable {
 
     private static final Object lockObject = new Object();
 
+    /**
+     * Number of objects written in one JDBC batch when storing lists of
+     * objects. After each batch, the session is flushed and cleared, so its
+     * size does not grow with the length of the list.
+     */
+    private static final int BATCH_SIZE = 50;
+
     /**
      * Retrieves a BaseBean identified by the given id from the database.
      *
@@ -75,6 +83,47 @@ public abstract class BaseDAO<T extends BaseBean> implements Serializable {
      */
     public abstract List<T> getAllNotIndexed(int offset, int size) throws DAOException;
 
+    /**
+     * Retrieves BaseBean objects with an id greater than the given id, ordered by
+     * id. Other than paging with an offset, the database can seek directly to the
+     * first row of the page, so the page costs do not grow with its position.
+     * Only DAOs of indexed beans support this.
+     *
+     * @param lastId
+     *            id of the last bean of the previous page, 0 for the first page
+     * @param size
+     *            amount of results
+     * @return constrained list of persisted beans
+     */
+    public List<T> getAllAfterId(int lastId, int size) throws DAOException {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Retrieves not indexed BaseBean objects with an id greater than the given
+     * id, ordered by id. Only DAOs of indexed beans support this.
+     *
+     * @param lastId
+     *            id of the last bean of the previous page, 0 for the first page
+     * @param size
+     *            amount of results
+     * @return constrained list of persisted beans
+     */
+    public List<T> getAllNotIndexedAfterId(int lastId, int size) throws DAOException {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Marks the objects which were being indexed from the index outbox when
+     * the application stopped for indexing again. Only DAOs of indexed beans
+     * support this.
+     *
+     * @return amount of marked objects
+     */
+    public int resetIndexingObjects() throws DAOException {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Saves a BaseBean object to the database.
      *
@@ -88,6 +137,36 @@ public abstract class BaseDAO<T extends BaseBean> implements Serializable {
         storeObject(baseBean);
     }
 
+    /**
+     * Saves a list of BaseBean objects to the database in one transaction. The
+     * statements are sent to the database in JDBC batches.
+     *
+     * @param list
+     *            of objects to persist
+     * @throws DAOException
+     *             if the current session can't be retrieved or an exception is
+     *             thrown while performing the rollback
+     */
+    public void saveList(List<T> list) throws DAOException {
+        storeList(list);
+    }
+
+    /**
+     * Inserts a list of new BaseBean objects into the database in one
+     * transaction, bypassing the session cache. This is meant for loading
+     * large amounts of new objects. Only the objects themselves are inserted,
+     * related objects are not saved in cascade and collections mapped to join
+     * tables are not written.
+     *
+     * @param list
+     *            of new objects to insert
+     * @throws DAOException
+     *             if an exception is thrown while inserting the objects
+     */
+    public void insertList(List<T> list) throws DAOException {
+        insertObjects(list);
+    }
+
     /**
      * Removes BaseBean object specified by the given id from the database.
      *
@@ -188,6 +267,30 @@ public abstract class BaseDAO<T extends BaseBean> implements Serializable {
         }
     }
 
+    /**
+     * Retrieves BaseBean objects from database by given query. The result of
+     * the query is kept in the query cache until one of the queried tables is
+     * changed, so this should only be used for queries on objects which are
+     * rarely changed and whose entity class is cached.
+     *
+     * @param query
+     *            as String
+     * @param parameters
+     *            for query
+     * @return list of beans objects
+     */
+    @SuppressWarnings("unchecked")
+    List<T> getByCacheableQuery(String query, Map<String, Object> parameters) throws DAOException {
+        try (Session session = HibernateUtil.getSession()) {
+            Query<T> q = session.createQuery(query);
+            q.setCacheable(true);
+            addParameters(q, parameters);
+            return q.list();
+        } catch (PersistenceException e) {
+            throw new DAOException(e);
+        }
+    }
+
     /**
      * Retrieves BaseBean objects from database by given query.
      *
@@ -240,6 +343,30 @@ public abstract class BaseDAO<T extends BaseBean> implements Serializable {
         }
     }
 
+    /**
+     * Executes a bulk update or delete query in its own transaction.
+     *
+     * @param query
+     *            HQL update or delete statement
+     * @param parameters
+     *            for query
+     * @return amount of updated or deleted rows
+     */
+    public int updateByQuery(String query, Map<String, Object> parameters) throws DAOException {
+        try (Session session = HibernateUtil.getSession()) {
+            Transaction transaction = session.beginTransaction();
+            synchronized (lockObject) {
+                Query<?> q = session.createQuery(query);
+                addParameters(q, parameters);
+                int updated = q.executeUpdate();
+                transaction.commit();
+                return updated;
+            }
+        } catch (PersistenceException e) {
+            throw new DAOException(e);
+        }
+    }
+
     /**
      * Removes the object from the database with with specified class type and
      * {@code id}.
@@ -321,6 +448,30 @@ public abstract class BaseDAO<T extends BaseBean> implements Serializable {
         }
     }
 
+    /**
+     * Retrieve objects by given query for the page following the given id. The
+     * query must contain the parameter 'lastId' and be ordered by id.
+     *
+     * @param query
+     *            string
+     * @param lastId
+     *            id of the last object of the previous page
+     * @param max
+     *            amount of results
+     * @return constrained list of results
+     */
+    @SuppressWarnings("unchecked")
+    List<T> retrieveObjectsAfterId(String query, int lastId, int max) throws DAOException {
+        try (Session session = HibernateUtil.getSession()) {
+            Query<T> sessionQuery = session.createQuery(query);
+            sessionQuery.setParameter("lastId", lastId);
+            sessionQuery.setMaxResults(max);
+            return sessionQuery.list();
+        } catch (PersistenceException e) {
+            throw new DAOException(e);
+        }
+    }
+
     /**
      * Retrieve all objects fro given class.
      *
@@ -367,9 +518,15 @@ public abstract class BaseDAO<T extends BaseBean> implements Serializable {
      */
     void storeList(List<T> list) throws DAOException {
         try (Session session = HibernateUtil.getSession()) {
+            session.setJdbcBatchSize(BATCH_SIZE);
             Transaction transaction = session.beginTransaction();
+            int stored = 0;
             for (Object obj : list) {
                 session.saveOrUpdate(obj);
+                if (++stored % BATCH_SIZE == 0) {
+                    session.flush();
+                    session.clear();
+                }
             }
             session.flush();
             transaction.commit();
@@ -378,6 +535,25 @@ public abstract class BaseDAO<T extends BaseBean> implements Serializable {
         }
     }
 
+    /**
+     * Insert given list of new objects with a stateless session.
+     *
+     * @param list
+     *            of objects
+     */
+    void insertObjects(List<T> list) throws DAOException {
+        try (StatelessSession session = HibernateUtil.openStatelessSession()) {
+            session.setJdbcBatchSize(BATCH_SIZE);
+            Transaction transaction = session.beginTransaction();
+            for (T object : list) {
+                session.insert(object);
+            }
+            transaction.commit();
+        } catch (RuntimeException e) {
+            throw new DAOException(e);
+        }
+    }
+
     /**
      * Evict object associated with the session.
      *
@@ -11,6 +11,7 @@
 
 package org.kitodo.data.database.persistence;
 
+import java.util.Collections;
 import java.util.List;
 
 import org.kitodo.data.database.beans.Batch;
@@ -49,6 +50,24 @@ public class BatchDAO extends BaseDAO<Batch> {
             size);
     }
 
+    @Override
+    public List<Batch> getAllAfterId(int lastId, int size) throws DAOException {
+        return retrieveObjectsAfterId("FROM Batch WHERE id > :lastId ORDER BY id ASC", lastId, size);
+    }
+
+    @Override
+    public List<Batch> getAllNotIndexedAfterId(int lastId, int size) throws DAOException {
+        return retrieveObjectsAfterId(
+            "FROM Batch WHERE id > :lastId AND (indexAction = 'INDEX' OR indexAction IS NULL) ORDER BY id ASC",
+            lastId, size);
+    }
+
+    @Override
+    public int resetIndexingObjects() throws DAOException {
+        return updateByQuery("UPDATE Batch SET indexAction = 'INDEX' WHERE indexAction = 'INDEXING'",
+            Collections.emptyMap());
+    }
+
     @Override
     public void remove(Integer id) throws DAOException {
         removeObject(Batch.class, id);
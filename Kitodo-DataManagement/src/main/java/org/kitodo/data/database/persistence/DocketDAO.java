@@ -11,6 +11,7 @@
 
 package org.kitodo.data.database.persistence;
 
+import java.util.Collections;
 import java.util.List;
 
 import org.kitodo.data.database.beans.Docket;
@@ -43,6 +44,24 @@ public class DocketDAO extends BaseDAO<Docket> {
                 size);
     }
 
+    @Override
+    public List<Docket> getAllAfterId(int lastId, int size) throws DAOException {
+        return retrieveObjectsAfterId("FROM Docket WHERE id > :lastId ORDER BY id ASC", lastId, size);
+    }
+
+    @Override
+    public List<Docket> getAllNotIndexedAfterId(int lastId, int size) throws DAOException {
+        return retrieveObjectsAfterId(
+            "FROM Docket WHERE id > :lastId AND (indexAction = 'INDEX' OR indexAction IS NULL) ORDER BY id ASC",
+            lastId, size);
+    }
+
+    @Override
+    public int resetIndexingObjects() throws DAOException {
+        return updateByQuery("UPDATE Docket SET indexAction = 'INDEX' WHERE indexAction = 'INDEXING'",
+            Collections.emptyMap());
+    }
+
     @Override
     public void remove(Integer docketId) throws DAOException {
         removeObject(Docket.class, docketId);
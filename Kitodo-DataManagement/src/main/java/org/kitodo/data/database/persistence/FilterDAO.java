@@ -11,6 +11,7 @@
 
 package org.kitodo.data.database.persistence;
 
+import java.util.Collections;
 import java.util.List;
 
 import org.kitodo.data.database.beans.Filter;
@@ -46,6 +47,24 @@ public class FilterDAO extends BaseDAO<Filter> {
                 size);
     }
 
+    @Override
+    public List<Filter> getAllAfterId(int lastId, int size) throws DAOException {
+        return retrieveObjectsAfterId("FROM Filter WHERE id > :lastId ORDER BY id ASC", lastId, size);
+    }
+
+    @Override
+    public List<Filter> getAllNotIndexedAfterId(int lastId, int size) throws DAOException {
+        return retrieveObjectsAfterId(
+            "FROM Filter WHERE id > :lastId AND (indexAction = 'INDEX' OR indexAction IS NULL) ORDER BY id ASC",
+            lastId, size);
+    }
+
+    @Override
+    public int resetIndexingObjects() throws DAOException {
+        return updateByQuery("UPDATE Filter SET indexAction = 'INDEX' WHERE indexAction = 'INDEXING'",
+            Collections.emptyMap());
+    }
+
     @Override
     public void remove(Integer filterId) throws DAOException {
         removeObject(Filter.class, filterId);
@@ -16,6 +16,7 @@ import java.util.Objects;
 import org.hibernate.HibernateException;
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
 import org.hibernate.boot.Metadata;
 import org.hibernate.boot.MetadataSources;
 import org.hibernate.boot.registry.StandardServiceRegistry;
@@ -59,6 +60,16 @@ public class HibernateUtil {
         return session;
     }
 
+    /**
+     * Opens a new stateless session. A stateless session has no session cache
+     * and must be closed by the caller.
+     *
+     * @return StatelessSession
+     */
+    public static StatelessSession openStatelessSession() {
+        return getSessionFactory().openStatelessSession();
+    }
+
     /**
      * Retrieve current SessionFactory.
      *
@@ -0,0 +1,71 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+
+package org.kitodo.data.database.persistence;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.kitodo.data.database.beans.Job;
+import org.kitodo.data.database.enums.JobState;
+import org.kitodo.data.database.exceptions.DAOException;
+
+/**
+ * DAO class for Job bean.
+ */
+public class JobDAO extends BaseDAO<Job> {
+
+    @Override
+    public Job getById(Integer jobId) throws DAOException {
+        Job job = retrieveObject(Job.class, jobId);
+        if (Objects.isNull(job)) {
+            throw new DAOException("Object cannot be found in database");
+        }
+        return job;
+    }
+
+    @Override
+    public List<Job> getAll() throws DAOException {
+        return retrieveAllObjects(Job.class);
+    }
+
+    @Override
+    public List<Job> getAll(int offset, int size) throws DAOException {
+        return retrieveObjects("FROM Job ORDER BY id ASC", offset, size);
+    }
+
+    @Override
+    public List<Job> getAllNotIndexed(int offset, int size) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Get all jobs in the given state, in the order in which they were
+     * created.
+     *
+     * @param state
+     *            state of the jobs
+     * @return list of jobs
+     */
+    public List<Job> getByState(JobState state) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("state", state);
+        return getByQuery("FROM Job WHERE state = :state ORDER BY id ASC", parameters);
+    }
+
+    @Override
+    public void remove(Integer jobId) throws DAOException {
+        removeObject(Job.class, jobId);
+    }
+}
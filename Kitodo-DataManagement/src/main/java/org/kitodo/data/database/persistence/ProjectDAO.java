@@ -11,6 +11,7 @@
 
 package org.kitodo.data.database.persistence;
 
+import java.util.Collections;
 import java.util.List;
 
 import org.kitodo.data.database.beans.Project;
@@ -43,6 +44,24 @@ public class ProjectDAO extends BaseDAO<Project> {
             offset, size);
     }
 
+    @Override
+    public List<Project> getAllAfterId(int lastId, int size) throws DAOException {
+        return retrieveObjectsAfterId("FROM Project WHERE id > :lastId ORDER BY id ASC", lastId, size);
+    }
+
+    @Override
+    public List<Project> getAllNotIndexedAfterId(int lastId, int size) throws DAOException {
+        return retrieveObjectsAfterId(
+            "FROM Project WHERE id > :lastId AND (indexAction = 'INDEX' OR indexAction IS NULL) ORDER BY id ASC",
+            lastId, size);
+    }
+
+    @Override
+    public int resetIndexingObjects() throws DAOException {
+        return updateByQuery("UPDATE Project SET indexAction = 'INDEX' WHERE indexAction = 'INDEXING'",
+            Collections.emptyMap());
+    }
+
     @Override
     public void remove(Integer id) throws DAOException {
         removeObject(Project.class, id);
@@ -0,0 +1,215 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.data.elasticsearch.index;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.elasticsearch.ElasticsearchException;
+import org.elasticsearch.action.ActionListener;
+import org.elasticsearch.action.bulk.BulkItemResponse;
+import org.elasticsearch.action.bulk.BulkRequest;
+import org.elasticsearch.action.bulk.BulkResponse;
+import org.elasticsearch.action.index.IndexRequest;
+import org.elasticsearch.client.ResponseException;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.rest.RestStatus;
+import org.kitodo.config.ConfigMain;
+import org.kitodo.data.elasticsearch.exceptions.CustomResponseException;
+
+/**
+ * Sends documents to the index in asynchronous bulk requests. Documents are
+ * split into bulk requests by number and size, several bulk requests can be in
+ * flight at the same time, and requests rejected because Elastic Search is
+ * overloaded are retried with exponential backoff. If the maximum number of
+ * requests is in flight, adding documents blocks until one of them is
+ * finished, so callers cannot run away from the index.
+ */
+class BulkRequestProcessor {
+
+    private static final Logger logger = LogManager.getLogger(BulkRequestProcessor.class);
+
+    private final RestHighLevelClient highLevelClient;
+    private final Semaphore requestsInFlight;
+    private final int maxActions;
+    private final int maxBytes;
+    private final int maxRetries;
+    private final long initialBackoff;
+    private final ScheduledExecutorService retryScheduler;
+
+    /**
+     * Constructor with values from configuration.
+     *
+     * @param highLevelClient
+     *            client used to send the bulk requests
+     */
+    BulkRequestProcessor(RestHighLevelClient highLevelClient) {
+        this(highLevelClient, ConfigMain.getIntParameter("elasticsearch.bulk.concurrentRequests", 4),
+                ConfigMain.getIntParameter("elasticsearch.bulk.actions", 100),
+                ConfigMain.getIntParameter("elasticsearch.bulk.size", 5 * 1024 * 1024),
+                ConfigMain.getIntParameter("elasticsearch.bulk.retries", 3),
+                ConfigMain.getIntParameter("elasticsearch.bulk.backoff", 50));
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param highLevelClient
+     *            client used to send the bulk requests
+     * @param concurrentRequests
+     *            maximum number of bulk requests in flight
+     * @param maxActions
+     *            number of documents after which a bulk request is sent
+     * @param maxBytes
+     *            estimated size in bytes after which a bulk request is sent
+     * @param maxRetries
+     *            how often a rejected bulk request is retried
+     * @param initialBackoff
+     *            milliseconds to wait before the first retry, doubled for each
+     *            following retry
+     */
+    BulkRequestProcessor(RestHighLevelClient highLevelClient, int concurrentRequests, int maxActions, int maxBytes,
+            int maxRetries, long initialBackoff) {
+        this.highLevelClient = highLevelClient;
+        this.requestsInFlight = new Semaphore(Math.max(concurrentRequests, 1));
+        this.maxActions = Math.max(maxActions, 1);
+        this.maxBytes = maxBytes;
+        this.maxRetries = maxRetries;
+        this.initialBackoff = initialBackoff;
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "BulkRequestRetry");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Add documents to the index. The documents are split into bulk requests
+     * which are sent as soon as they are full. This method blocks while the
+     * maximum number of bulk requests is in flight.
+     *
+     * @param index
+     *            name of the index
+     * @param type
+     *            for which request is performed
+     * @param documentsToIndex
+     *            map of ids to documents
+     * @return future completed when all bulk requests for the documents are
+     *         finished, completed exceptionally with a CustomResponseException
+     *         if one of them failed
+     */
+    CompletableFuture<Void> add(String index, String type, Map<Integer, Map<String, Object>> documentsToIndex) {
+        List<CompletableFuture<Void>> batches = new ArrayList<>();
+        BulkRequest bulkRequest = new BulkRequest();
+        for (Map.Entry<Integer, Map<String, Object>> entry : documentsToIndex.entrySet()) {
+            bulkRequest.add(new IndexRequest(index, type, String.valueOf(entry.getKey())).source(entry.getValue()));
+            if (bulkRequest.numberOfActions() >= maxActions || bulkRequest.estimatedSizeInBytes() >= maxBytes) {
+                batches.add(submit(bulkRequest));
+                bulkRequest = new BulkRequest();
+            }
+        }
+        if (bulkRequest.numberOfActions() > 0) {
+            batches.add(submit(bulkRequest));
+        }
+        return CompletableFuture.allOf(batches.toArray(new CompletableFuture[0]));
+    }
+
+    private CompletableFuture<Void> submit(BulkRequest bulkRequest) {
+        CompletableFuture<Void> batch = new CompletableFuture<>();
+        try {
+            requestsInFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            batch.completeExceptionally(new CustomResponseException(e));
+            return batch;
+        }
+        batch.whenComplete((result, exception) -> requestsInFlight.release());
+        send(bulkRequest, batch, 0, new ArrayList<>());
+        return batch;
+    }
+
+    private void send(BulkRequest bulkRequest, CompletableFuture<Void> batch, int attempt, List<String> failures) {
+        highLevelClient.bulkAsync(bulkRequest, new ActionListener<BulkResponse>() {
+            @Override
+            public void onResponse(BulkResponse bulkResponse) {
+                BulkRequest rejected = new BulkRequest();
+                if (bulkResponse.hasFailures()) {
+                    for (BulkItemResponse item : bulkResponse.getItems()) {
+                        if (item.isFailed()) {
+                            if (isRetryable(item.getFailure().getStatus()) && attempt < maxRetries) {
+                                rejected.add(bulkRequest.requests().get(item.getItemId()));
+                            } else {
+                                failures.add(item.getFailureMessage());
+                            }
+                        }
+                    }
+                }
+                if (rejected.numberOfActions() > 0) {
+                    retry(rejected, batch, attempt, failures);
+                } else {
+                    complete(batch, failures);
+                }
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                if (isRetryable(e) && attempt < maxRetries) {
+                    retry(bulkRequest, batch, attempt, failures);
+                } else {
+                    logger.error(e.getMessage(), e);
+                    batch.completeExceptionally(new CustomResponseException(e));
+                }
+            }
+        });
+    }
+
+    private void retry(BulkRequest bulkRequest, CompletableFuture<Void> batch, int attempt, List<String> failures) {
+        long backoff = initialBackoff << attempt;
+        logger.debug("Retrying {} documents in {} ms", bulkRequest.numberOfActions(), backoff);
+        retryScheduler.schedule(() -> send(bulkRequest, batch, attempt + 1, failures), backoff,
+            TimeUnit.MILLISECONDS);
+    }
+
+    private void complete(CompletableFuture<Void> batch, List<String> failures) {
+        if (failures.isEmpty()) {
+            batch.complete(null);
+        } else {
+            String failureMessage = String.join("\n", failures);
+            logger.error(failureMessage);
+            batch.completeExceptionally(new CustomResponseException(failureMessage));
+        }
+    }
+
+    private static boolean isRetryable(Exception e) {
+        if (e instanceof ResponseException) {
+            int statusCode = ((ResponseException) e).getResponse().getStatusLine().getStatusCode();
+            return isRetryable(RestStatus.fromCode(statusCode));
+        } else if (e instanceof ElasticsearchException) {
+            return isRetryable(((ElasticsearchException) e).status());
+        }
+        return false;
+    }
+
+    private static boolean isRetryable(RestStatus status) {
+        return Objects.equals(status, RestStatus.TOO_MANY_REQUESTS)
+                || Objects.equals(status, RestStatus.SERVICE_UNAVAILABLE);
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.data.elasticsearch.index;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.ws.rs.HttpMethod;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.elasticsearch.action.support.WriteRequest;
+import org.elasticsearch.client.RestClient;
+import org.kitodo.config.ConfigMain;
+
+/**
+ * Decides how a write, which should be visible right after it is finished,
+ * makes the index refresh. Forcing a refresh for every single write is
+ * expensive, so besides refreshing immediately, writes can wait until the next
+ * periodic refresh of Elastic Search, or refreshes can be coalesced to one
+ * refresh per index in a given interval.
+ */
+class IndexRefresher {
+
+    private static final Logger logger = LogManager.getLogger(IndexRefresher.class);
+
+    /**
+     * Ways to make a write visible.
+     */
+    enum RefreshMode {
+        /**
+         * Refresh the index with every write.
+         */
+        IMMEDIATE,
+
+        /**
+         * Let the write wait until the next periodic refresh of the index.
+         */
+        WAIT_UNTIL,
+
+        /**
+         * Refresh the index once after the configured interval for all writes
+         * made in that interval.
+         */
+        COALESCE
+    }
+
+    private final RestClient client;
+    private final RefreshMode refreshMode;
+    private final long refreshInterval;
+    private final Set<String> pendingRefreshes = ConcurrentHashMap.newKeySet();
+    private final AtomicLong avoidedRefreshes = new AtomicLong();
+    private ScheduledExecutorService refreshScheduler;
+
+    /**
+     * Constructor with values from configuration.
+     *
+     * @param client
+     *            low level client used to refresh the index
+     */
+    IndexRefresher(RestClient client) {
+        this(client, parseRefreshMode(ConfigMain.getParameter("elasticsearch.refresh", "immediate")),
+                ConfigMain.getIntParameter("elasticsearch.refreshInterval", 1000));
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param client
+     *            low level client used to refresh the index
+     * @param refreshMode
+     *            how writes are made visible
+     * @param refreshInterval
+     *            milliseconds in which refreshes are coalesced
+     */
+    IndexRefresher(RestClient client, RefreshMode refreshMode, long refreshInterval) {
+        this.client = client;
+        this.refreshMode = refreshMode;
+        this.refreshInterval = refreshInterval;
+    }
+
+    /**
+     * Returns the refresh mode for a configured value. An unknown value falls
+     * back to immediate refreshes, which is the default.
+     *
+     * @param value
+     *            configured value, case-insensitive
+     * @return the refresh mode
+     */
+    static RefreshMode parseRefreshMode(String value) {
+        try {
+            return RefreshMode.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Unknown value \"{}\" for elasticsearch.refresh, using \"immediate\" instead", value);
+            return RefreshMode.IMMEDIATE;
+        }
+    }
+
+    /**
+     * Prepare the request before it is sent.
+     *
+     * @param request
+     *            index or delete request
+     * @param forceRefresh
+     *            if true, the written document should be visible right after
+     *            the write is finished
+     */
+    void prepare(WriteRequest<?> request, boolean forceRefresh) {
+        if (forceRefresh) {
+            if (Objects.equals(refreshMode, RefreshMode.IMMEDIATE)) {
+                request.setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
+            } else if (Objects.equals(refreshMode, RefreshMode.WAIT_UNTIL)) {
+                request.setRefreshPolicy(WriteRequest.RefreshPolicy.WAIT_UNTIL);
+                avoidedRefreshes.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Schedule a refresh after the request is written, if refreshes are
+     * coalesced. If a refresh for the index is already scheduled, the written
+     * document becomes visible with that refresh.
+     *
+     * @param index
+     *            name of the index written to
+     * @param forceRefresh
+     *            if true, the written document should be visible soon
+     */
+    void written(String index, boolean forceRefresh) {
+        if (forceRefresh && Objects.equals(refreshMode, RefreshMode.COALESCE)) {
+            if (pendingRefreshes.add(index)) {
+                getRefreshScheduler().schedule(() -> refresh(index), refreshInterval, TimeUnit.MILLISECONDS);
+            } else {
+                avoidedRefreshes.incrementAndGet();
+            }
+        }
+    }
+
+    private void refresh(String index) {
+        // writes made from now on need another refresh
+        pendingRefreshes.remove(index);
+        try {
+            client.performRequest(HttpMethod.POST, "/" + index + "/_refresh");
+        } catch (IOException e) {
+            logger.error(e.getMessage(), e);
+        }
+    }
+
+    private synchronized ScheduledExecutorService getRefreshScheduler() {
+        if (Objects.isNull(refreshScheduler)) {
+            refreshScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "IndexRefresh");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return refreshScheduler;
+    }
+
+    /**
+     * Get the number of refreshes which were requested by writes, but not
+     * performed, because the write waited for a periodic refresh or was
+     * coalesced with other writes.
+     *
+     * @return number of avoided refreshes
+     */
+    long getAvoidedRefreshes() {
+        return avoidedRefreshes.get();
+    }
+}
@@ -15,6 +15,7 @@ import java.io.IOException;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 import javax.ws.rs.HttpMethod;
 
@@ -26,7 +27,6 @@ import org.elasticsearch.action.bulk.BulkResponse;
 import org.elasticsearch.action.delete.DeleteRequest;
 import org.elasticsearch.action.index.IndexRequest;
 import org.elasticsearch.action.index.IndexResponse;
-import org.elasticsearch.action.support.WriteRequest;
 import org.elasticsearch.client.Response;
 import org.elasticsearch.client.ResponseException;
 import org.kitodo.data.elasticsearch.KitodoRestClient;
@@ -42,7 +42,8 @@ public class IndexRestClient extends KitodoRestClient {
      * IndexRestClient singleton.
      */
     private static volatile IndexRestClient instance = null;
-    private final Object lock = new Object();
+    private BulkRequestProcessor bulkRequestProcessor;
+    private IndexRefresher indexRefresher;
 
     private IndexRestClient() {
     }
@@ -60,6 +61,8 @@ public class IndexRestClient extends KitodoRestClient {
                 if (Objects.isNull(localReference)) {
                     localReference = new IndexRestClient();
                     localReference.initiateClient();
+                    localReference.bulkRequestProcessor = new BulkRequestProcessor(localReference.highLevelClient);
+                    localReference.indexRefresher = new IndexRefresher(localReference.client);
                     instance = localReference;
                 }
             }
@@ -78,18 +81,18 @@ public class IndexRestClient extends KitodoRestClient {
      * @param id
      *            of document - equal to the id from table in database
      * @param forceRefresh
-     *            force index refresh - if true, time of execution is longer but
-     *            object is right after that available for display
+     *            force index refresh - if true, object is available for display
+     *            right after that or, depending on the configured refresh mode,
+     *            shortly after that
      */
     public void addDocument(String type, Map<String, Object> entity, Integer id, boolean forceRefresh)
             throws IOException, CustomResponseException {
         IndexRequest indexRequest = new IndexRequest(this.index, type, String.valueOf(id)).source(entity);
-        if (forceRefresh) {
-            indexRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
-        }
+        indexRefresher.prepare(indexRequest, forceRefresh);
 
         IndexResponse indexResponse = highLevelClient.index(indexRequest);
         processStatusCode(indexResponse.status());
+        indexRefresher.written(this.index, forceRefresh);
     }
 
     /**
@@ -116,29 +119,18 @@ public class IndexRestClient extends KitodoRestClient {
 
     /**
      * Add list of documents to the index. This method will be used for add whole
-     * table to the index. It performs asynchronous request.
+     * table to the index. It performs asynchronous bulk requests, of which
+     * several can be in flight at the same time. It blocks only while the
+     * maximum number of bulk requests is in flight.
      *
      * @param type
      *            for which request is performed
      * @param documentsToIndex
      *            list of json documents to the index
+     * @return future completed when all documents are indexed
      */
-    void addTypeAsync(String type, Map<Integer, Map<String, Object>> documentsToIndex) {
-        BulkRequest bulkRequest = prepareBulkRequest(type, documentsToIndex);
-
-        ResponseListener responseListener = new ResponseListener(type, documentsToIndex.size());
-        highLevelClient.bulkAsync(bulkRequest, responseListener);
-
-        synchronized (lock) {
-            while (Objects.isNull(responseListener.getBulkResponse())) {
-                try {
-                    lock.wait(1000);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    break;
-                }
-            }
-        }
+    CompletableFuture<Void> addTypeAsync(String type, Map<Integer, Map<String, Object>> documentsToIndex) {
+        return bulkRequestProcessor.add(this.index, type, documentsToIndex);
     }
 
     /**
@@ -149,17 +141,17 @@ public class IndexRestClient extends KitodoRestClient {
      * @param id
      *            of the document
      * @param forceRefresh
-     *            force index refresh - if true, time of execution is longer but
-     *            object is right after that available for display
+     *            force index refresh - if true, object is removed from display
+     *            right after that or, depending on the configured refresh mode,
+     *            shortly after that
      */
     void deleteDocument(String type, Integer id, boolean forceRefresh) throws CustomResponseException, DataException {
         DeleteRequest deleteRequest = new DeleteRequest(this.index, type, String.valueOf(id));
-        if (forceRefresh) {
-            deleteRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
-        }
+        indexRefresher.prepare(deleteRequest, forceRefresh);
 
         try {
             highLevelClient.delete(deleteRequest);
+            indexRefresher.written(this.index, forceRefresh);
         } catch (ResponseException e) {
             handleResponseException(e);
         }  catch (IOException e) {
@@ -167,6 +159,17 @@ public class IndexRestClient extends KitodoRestClient {
         }
     }
 
+    /**
+     * Get the number of index refreshes requested by single writes which were
+     * not performed, because the configured refresh mode waits for or
+     * coalesces refreshes.
+     *
+     * @return number of avoided refreshes
+     */
+    public long getAvoidedRefreshes() {
+        return indexRefresher.getAvoidedRefreshes();
+    }
+
     /**
      * Enable sorting by text field.
      *
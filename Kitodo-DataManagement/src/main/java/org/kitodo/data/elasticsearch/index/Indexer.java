@@ -14,6 +14,7 @@ package org.kitodo.data.elasticsearch.index;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import javax.ws.rs.HttpMethod;
 
@@ -104,23 +105,43 @@ public class Indexer<T extends BaseIndexedBean, S extends BaseType> extends Inde
      *            list of bean objects which will be added to index
      * @param baseType
      *            type on which will be called method createDocument()
+     * @param async
+     *            if true, documents are sent in asynchronous bulk requests and
+     *            the method returns as soon as they are sent
+     * @return future completed when all documents are indexed, can be composed
+     *         with the futures of other batches
      */
     @SuppressWarnings("unchecked")
-    public void performMultipleRequests(List<T> baseIndexedBeans, S baseType, boolean async) throws CustomResponseException {
+    public CompletableFuture<Void> performMultipleRequests(List<T> baseIndexedBeans, S baseType, boolean async)
+            throws CustomResponseException {
         IndexRestClient restClient = initiateRestClient();
 
         if (method.equals(HttpMethod.PUT)) {
             Map<Integer, Map<String, Object>> documents = baseType.createDocuments(baseIndexedBeans);
             if (async) {
-                restClient.addTypeAsync(this.type, documents);
+                return restClient.addTypeAsync(this.type, documents);
             } else {
                 restClient.addTypeSync(this.type, documents);
+                return CompletableFuture.completedFuture(null);
             }
         } else {
             throw new CustomResponseException(INCORRECT_HTTP);
         }
     }
 
+    /**
+     * Add already created documents to the index in one bulk request. The
+     * request is performed synchronously, so several threads can call this
+     * method to have more than one bulk request in flight.
+     *
+     * @param documents
+     *            map of bean ids to documents which will be added to index
+     */
+    public void performMultipleRequests(Map<Integer, Map<String, Object>> documents) throws CustomResponseException {
+        IndexRestClient restClient = initiateRestClient();
+        restClient.addTypeSync(this.type, documents);
+    }
+
     private IndexRestClient initiateRestClient() {
         IndexRestClient restClient = IndexRestClient.getInstance();
         restClient.setIndex(index);
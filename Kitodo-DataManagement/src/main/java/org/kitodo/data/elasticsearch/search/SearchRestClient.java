@@ -16,6 +16,8 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.ws.rs.HttpMethod;
 
@@ -35,6 +37,8 @@ import org.elasticsearch.search.aggregations.AggregationBuilder;
 import org.elasticsearch.search.aggregations.Aggregations;
 import org.elasticsearch.search.builder.SearchSourceBuilder;
 import org.elasticsearch.search.sort.SortBuilder;
+import org.elasticsearch.search.sort.SortBuilders;
+import org.elasticsearch.search.sort.SortOrder;
 import org.kitodo.data.elasticsearch.KitodoRestClient;
 import org.kitodo.data.elasticsearch.exceptions.CustomResponseException;
 import org.kitodo.data.exceptions.DataException;
@@ -44,11 +48,21 @@ import org.kitodo.data.exceptions.DataException;
  */
 public class SearchRestClient extends KitodoRestClient {
 
+    /**
+     * Field holding type and id of a document, which is unique in the index.
+     */
+    private static final String UNIQUE_ID_FIELD = "_uid";
+
     /**
      * SearchRestClient singleton.
      */
     private static volatile SearchRestClient instance = null;
 
+    /**
+     * Number of requests for documents sent so far, by type.
+     */
+    private final Map<String, AtomicLong> documentRequests = new ConcurrentHashMap<>();
+
     private SearchRestClient() {
     }
 
@@ -132,6 +146,7 @@ public class SearchRestClient extends KitodoRestClient {
     Map<String, Object> getDocument(String type, Integer id) throws CustomResponseException, DataException {
         try {
             GetRequest getRequest = new GetRequest(this.index, type, String.valueOf(id));
+            countDocumentRequest(type);
             GetResponse getResponse = highLevelClient.get(getRequest);
             if (getResponse.isExists()) {
                 Map<String, Object> response = getResponse.getSourceAsMap();
@@ -181,6 +196,59 @@ public class SearchRestClient extends KitodoRestClient {
         searchRequest.types(type);
         searchRequest.source(sourceBuilder);
 
+        countDocumentRequest(type);
+        try {
+            SearchResponse response = highLevelClient.search(searchRequest);
+            return response.getHits();
+        } catch (ResponseException e) {
+            handleResponseException(e);
+            return SearchHits.empty();
+        } catch (IOException e) {
+            throw new DataException(e);
+        }
+    }
+
+    /**
+     * Get a page of documents by query, continuing after the given sort values
+     * of the last document of the previous page. The documents are sorted by
+     * the given sort conditions and then by their unique id, so that each
+     * document is returned exactly once when paging through all pages, no
+     * matter how many documents are matching the query.
+     *
+     * @param type
+     *            for which request is performed
+     * @param query
+     *            to find documents
+     * @param sort
+     *            as String with sort conditions, may be null
+     * @param searchAfter
+     *            sort values of the last document of the previous page, null
+     *            for the first page
+     * @param size
+     *            maximal number of documents of the page
+     * @param fetchSource
+     *            if false, only the ids of the documents are returned
+     * @return search hits of the page
+     */
+    SearchHits getDocumentsAfter(String type, QueryBuilder query, SortBuilder sort, Object[] searchAfter, int size,
+            boolean fetchSource) throws CustomResponseException, DataException {
+        SearchSourceBuilder sourceBuilder = new SearchSourceBuilder();
+        sourceBuilder.query(query);
+        sourceBuilder.fetchSource(fetchSource);
+        if (Objects.nonNull(sort)) {
+            sourceBuilder.sort(sort);
+        }
+        sourceBuilder.sort(SortBuilders.fieldSort(UNIQUE_ID_FIELD).order(SortOrder.ASC));
+        if (Objects.nonNull(searchAfter)) {
+            sourceBuilder.searchAfter(searchAfter);
+        }
+        sourceBuilder.size(size);
+
+        SearchRequest searchRequest = new SearchRequest(this.index);
+        searchRequest.types(type);
+        searchRequest.source(sourceBuilder);
+
+        countDocumentRequest(type);
         try {
             SearchResponse response = highLevelClient.search(searchRequest);
             return response.getHits();
@@ -192,6 +260,23 @@ public class SearchRestClient extends KitodoRestClient {
         }
     }
 
+    /**
+     * Returns the number of requests for documents of a type sent so far.
+     * Requests for counts and aggregations are not included.
+     *
+     * @param type
+     *            type of the documents
+     * @return number of requests for documents
+     */
+    public long getDocumentRequests(String type) {
+        AtomicLong requests = documentRequests.get(type);
+        return Objects.nonNull(requests) ? requests.get() : 0;
+    }
+
+    private void countDocumentRequest(String type) {
+        documentRequests.computeIfAbsent(type, key -> new AtomicLong()).incrementAndGet();
+    }
+
     private String performRequest(String type, HttpEntity entity, String httpMethod, String urlRequest)
             throws CustomResponseException, DataException {
         String output = "";
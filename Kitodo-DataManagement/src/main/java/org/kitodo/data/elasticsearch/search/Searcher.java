@@ -13,9 +13,12 @@ package org.kitodo.data.elasticsearch.search;
 
 import java.io.StringReader;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 
 import javax.json.Json;
@@ -39,6 +42,13 @@ import org.kitodo.data.exceptions.DataException;
  */
 public class Searcher extends Index {
 
+    /**
+     * Number of ids requested at once by {@link #findDocumentIds(QueryBuilder)}.
+     * This is the largest page allowed by the default result window of an
+     * index.
+     */
+    private static final int IDS_PER_PAGE = 10000;
+
     /**
      * Constructor for searcher with type names equal to table names.
      *
@@ -210,9 +220,118 @@ public class Searcher extends Index {
         return searchResults;
     }
 
+    /**
+     * Iterate over all documents matching the query. The documents are
+     * requested page by page while iterating, each page continuing after the
+     * last document of the previous one, so there is no limit on the number of
+     * documents and only one page is held in memory. The first page is
+     * requested immediately.
+     *
+     * @param query
+     *            of searched documents
+     * @param sort
+     *            sort conditions, may be null
+     * @param pageSize
+     *            number of documents requested at once
+     * @return iterator over the documents as JSON objects. If a following page
+     *         cannot be requested, the iterator throws an
+     *         IllegalStateException with the cause.
+     */
+    public Iterator<Map<String, Object>> iterateDocuments(QueryBuilder query, SortBuilder sort, int pageSize)
+            throws CustomResponseException, DataException {
+        DocumentIterator documentIterator = new DocumentIterator(query, sort, pageSize);
+        documentIterator.requestNextPage();
+        return documentIterator;
+    }
+
+    /**
+     * Find the ids of all documents matching the query. Only the ids are
+     * requested, not the documents themselves, and there is no limit on the
+     * number of documents.
+     *
+     * @param query
+     *            of searched documents
+     * @return ids of the documents in the order of their unique ids
+     */
+    public List<Integer> findDocumentIds(QueryBuilder query) throws CustomResponseException, DataException {
+        SearchRestClient restClient = initiateRestClient();
+        List<Integer> ids = new ArrayList<>();
+        Object[] searchAfter = null;
+        SearchHit[] hits;
+        do {
+            hits = restClient.getDocumentsAfter(this.type, query, null, searchAfter, IDS_PER_PAGE, false).getHits();
+            for (SearchHit hit : hits) {
+                ids.add(Integer.valueOf(hit.getId()));
+            }
+            if (hits.length > 0) {
+                searchAfter = hits[hits.length - 1].getSortValues();
+            }
+        } while (hits.length == IDS_PER_PAGE);
+        return ids;
+    }
+
+    /**
+     * Returns the number of requests for documents of the type of this
+     * searcher sent so far. Requests for counts and aggregations are not
+     * included.
+     *
+     * @return number of requests for documents
+     */
+    public long getDocumentRequests() {
+        return SearchRestClient.getInstance().getDocumentRequests(type);
+    }
+
     private SearchRestClient initiateRestClient() {
         SearchRestClient restClient = SearchRestClient.getInstance();
         restClient.setIndex(index);
         return restClient;
     }
+
+    private class DocumentIterator implements Iterator<Map<String, Object>> {
+        private final QueryBuilder query;
+        private final SortBuilder sort;
+        private final int pageSize;
+        private Iterator<SearchHit> page = Collections.emptyIterator();
+        private Object[] searchAfter;
+        private boolean lastPage;
+
+        DocumentIterator(QueryBuilder query, SortBuilder sort, int pageSize) {
+            this.query = query;
+            this.sort = sort;
+            this.pageSize = pageSize;
+        }
+
+        private void requestNextPage() throws CustomResponseException, DataException {
+            SearchHit[] hits = initiateRestClient().getDocumentsAfter(type, query, sort, searchAfter, pageSize, true)
+                    .getHits();
+            if (hits.length > 0) {
+                searchAfter = hits[hits.length - 1].getSortValues();
+            }
+            lastPage = hits.length < pageSize;
+            page = Arrays.asList(hits).iterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!page.hasNext() && !lastPage) {
+                try {
+                    requestNextPage();
+                } catch (CustomResponseException | DataException e) {
+                    throw new IllegalStateException(e.getMessage(), e);
+                }
+            }
+            return page.hasNext();
+        }
+
+        @Override
+        public Map<String, Object> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            SearchHit hit = page.next();
+            Map<String, Object> result = hit.getSourceAsMap();
+            result.put("id", hit.getId());
+            return result;
+        }
+    }
 }
@@ -0,0 +1,31 @@
+--
+-- (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+--
+-- This file is part of the Kitodo project.
+--
+-- It is licensed under GNU General Public License version 3 or later.
+--
+-- For the full copyright and license information, please read the
+-- GPL3-License.txt file that was distributed with this source code.
+--
+
+--
+-- Migration: Create table job for the tasks of the task manager
+
+CREATE TABLE job
+(
+  id               int(11) NOT NULL AUTO_INCREMENT,
+  type             varchar(255) DEFAULT NULL,
+  title            varchar(255) DEFAULT NULL,
+  state            varchar(7)   NOT NULL DEFAULT 'NEW',
+  parameters       longtext,
+  checkpoint       longtext,
+  progress         int(11)      NOT NULL DEFAULT 0,
+  retries          int(11)      NOT NULL DEFAULT 0,
+  errorLog         longtext,
+  creationDate     datetime     DEFAULT NULL,
+  modificationDate datetime     DEFAULT NULL,
+  PRIMARY KEY (`id`),
+  KEY state (state)
+) DEFAULT CHARACTER SET = utf8mb4
+  COLLATE utf8mb4_unicode_ci;
@@ -0,0 +1,24 @@
+--
+-- (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+--
+-- This file is part of the Kitodo project.
+--
+-- It is licensed under GNU General Public License version 3 or later.
+--
+-- For the full copyright and license information, please read the
+-- GPL3-License.txt file that was distributed with this source code.
+--
+
+--
+-- Migration: Widen column indexAction to hold the index action INDEXING.
+
+ALTER TABLE batch MODIFY COLUMN indexAction VARCHAR(8);
+ALTER TABLE docket MODIFY COLUMN indexAction VARCHAR(8);
+ALTER TABLE filter MODIFY COLUMN indexAction VARCHAR(8);
+ALTER TABLE process MODIFY COLUMN indexAction VARCHAR(8);
+ALTER TABLE project MODIFY COLUMN indexAction VARCHAR(8);
+ALTER TABLE property MODIFY COLUMN indexAction VARCHAR(8);
+ALTER TABLE ruleset MODIFY COLUMN indexAction VARCHAR(8);
+ALTER TABLE task MODIFY COLUMN indexAction VARCHAR(8);
+ALTER TABLE template MODIFY COLUMN indexAction VARCHAR(8);
+ALTER TABLE workflow MODIFY COLUMN indexAction VARCHAR(8);
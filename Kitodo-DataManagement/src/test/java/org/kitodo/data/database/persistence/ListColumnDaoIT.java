@@ -0,0 +1,79 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.data.database.persistence;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.hibernate.stat.Statistics;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.kitodo.data.database.beans.ListColumn;
+import org.kitodo.data.database.exceptions.DAOException;
+
+public class ListColumnDaoIT {
+
+    private static final int NUMBER_OF_LIST_COLUMNS = 120;
+
+    private final ListColumnDAO listColumnDAO = new ListColumnDAO();
+    private final List<ListColumn> listColumns = new ArrayList<>();
+    private Statistics statistics;
+    private boolean statisticsEnabled;
+
+    @Before
+    public void enableStatistics() {
+        statistics = HibernateUtil.getSession().getSessionFactory().getStatistics();
+        statisticsEnabled = statistics.isStatisticsEnabled();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @After
+    public void removeListColumns() throws DAOException {
+        statistics.setStatisticsEnabled(statisticsEnabled);
+        statistics.clear();
+        for (ListColumn listColumn : listColumns) {
+            if (Objects.nonNull(listColumn.getId())) {
+                listColumnDAO.remove(listColumn.getId());
+            }
+        }
+    }
+
+    @Test
+    public void shouldInsertAndUpdateListsInBatches() throws DAOException {
+        int numberOfListColumnsBefore = listColumnDAO.getAll().size();
+        for (int i = 1; i <= NUMBER_OF_LIST_COLUMNS; i++) {
+            listColumns.add(new ListColumn("column " + i));
+        }
+        listColumnDAO.insertList(listColumns);
+        for (ListColumn listColumn : listColumns) {
+            assertNotNull("Inserted object has no id!", listColumn.getId());
+        }
+        assertEquals("Objects were not inserted!", numberOfListColumnsBefore + NUMBER_OF_LIST_COLUMNS,
+            listColumnDAO.getAll().size());
+
+        for (ListColumn listColumn : listColumns) {
+            listColumn.setTitle(listColumn.getTitle() + " updated");
+        }
+        statistics.clear();
+        listColumnDAO.saveList(listColumns);
+
+        assertEquals("Objects were not updated!", NUMBER_OF_LIST_COLUMNS, statistics.getEntityUpdateCount());
+        assertTrue("Updates were not sent in batches!", statistics.getPrepareStatementCount() < 10);
+        assertEquals("Object was not updated!", "column 1 updated", listColumnDAO.getById(listColumns.get(0).getId()).getTitle());
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.data.database.persistence;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.util.Objects;
+
+import org.hibernate.stat.Statistics;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.kitodo.data.database.beans.Project;
+import org.kitodo.data.database.exceptions.DAOException;
+
+public class ProjectDaoIT {
+
+    private final ProjectDAO projectDAO = new ProjectDAO();
+    private final AuthorityDAO authorityDAO = new AuthorityDAO();
+    private final Project project = new Project();
+    private Statistics statistics;
+    private boolean statisticsEnabled;
+
+    @Before
+    public void enableStatistics() {
+        statistics = HibernateUtil.getSession().getSessionFactory().getStatistics();
+        statisticsEnabled = statistics.isStatisticsEnabled();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @After
+    public void removeProject() throws DAOException {
+        statistics.setStatisticsEnabled(statisticsEnabled);
+        statistics.clear();
+        if (Objects.nonNull(project.getId())) {
+            projectDAO.remove(project.getId());
+        }
+    }
+
+    @Test
+    public void shouldLoadProjectFromSecondLevelCache() throws DAOException {
+        project.setTitle("cached_project");
+        projectDAO.save(project);
+        Integer id = project.getId();
+        projectDAO.getById(id);
+
+        statistics.clear();
+        assertEquals("Object was not found!", "cached_project", projectDAO.getById(id).getTitle());
+        assertEquals("Object was not found!", "cached_project", projectDAO.getById(id).getTitle());
+
+        assertEquals("Objects were loaded from database!", 0, statistics.getPrepareStatementCount());
+        assertEquals("Objects were not loaded from cache!", 2, statistics.getSecondLevelCacheHitCount());
+    }
+
+    /**
+     * Looks up a title no authority has, so the test does not insert
+     * authorities and does not change the ids expected by other tests.
+     */
+    @Test
+    public void shouldAnswerAuthorityQueryFromQueryCache() {
+        assertAuthorityNotFound();
+
+        statistics.clear();
+        assertAuthorityNotFound();
+        assertAuthorityNotFound();
+
+        assertEquals("Query was not answered from cache!", 2, statistics.getQueryCacheHitCount());
+        assertEquals("Query was sent to database!", 0, statistics.getPrepareStatementCount());
+    }
+
+    private void assertAuthorityNotFound() {
+        try {
+            authorityDAO.getByTitle("missing_authority");
+            fail("Authority should not be found!");
+        } catch (DAOException e) {
+            assertEquals("Wrong exception!", "Object cannot be found in database", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.data.elasticsearch.index;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.TimeUnit;
+
+import org.elasticsearch.action.index.IndexRequest;
+import org.elasticsearch.action.support.WriteRequest;
+import org.junit.Test;
+
+public class IndexRefresherTest {
+
+    private static final String INDEX = "testindex";
+    private static final long ONE_HOUR = TimeUnit.HOURS.toMillis(1);
+
+    @Test
+    public void shouldRefreshImmediately() {
+        IndexRefresher indexRefresher = new IndexRefresher(null, IndexRefresher.RefreshMode.IMMEDIATE, ONE_HOUR);
+        IndexRequest indexRequest = new IndexRequest(INDEX);
+
+        indexRefresher.prepare(indexRequest, true);
+        indexRefresher.written(INDEX, true);
+
+        assertEquals("Wrong refresh policy!", WriteRequest.RefreshPolicy.IMMEDIATE, indexRequest.getRefreshPolicy());
+        assertEquals("Refresh was avoided!", 0, indexRefresher.getAvoidedRefreshes());
+    }
+
+    @Test
+    public void shouldWaitUntilRefresh() {
+        IndexRefresher indexRefresher = new IndexRefresher(null, IndexRefresher.RefreshMode.WAIT_UNTIL, ONE_HOUR);
+        IndexRequest indexRequest = new IndexRequest(INDEX);
+
+        indexRefresher.prepare(indexRequest, true);
+
+        assertEquals("Wrong refresh policy!", WriteRequest.RefreshPolicy.WAIT_UNTIL, indexRequest.getRefreshPolicy());
+        assertEquals("Refresh was not avoided!", 1, indexRefresher.getAvoidedRefreshes());
+    }
+
+    @Test
+    public void shouldCoalesceRefreshes() {
+        IndexRefresher indexRefresher = new IndexRefresher(null, IndexRefresher.RefreshMode.COALESCE, ONE_HOUR);
+        for (int i = 0; i < 3; i++) {
+            IndexRequest indexRequest = new IndexRequest(INDEX);
+            indexRefresher.prepare(indexRequest, true);
+            indexRefresher.written(INDEX, true);
+            assertEquals("Wrong refresh policy!", WriteRequest.RefreshPolicy.NONE, indexRequest.getRefreshPolicy());
+        }
+
+        assertEquals("Refreshes were not coalesced!", 2, indexRefresher.getAvoidedRefreshes());
+    }
+
+    @Test
+    public void shouldNotRefreshWithoutForce() {
+        IndexRefresher indexRefresher = new IndexRefresher(null, IndexRefresher.RefreshMode.COALESCE, ONE_HOUR);
+        IndexRequest indexRequest = new IndexRequest(INDEX);
+
+        indexRefresher.prepare(indexRequest, false);
+        indexRefresher.written(INDEX, false);
+        indexRefresher.written(INDEX, false);
+
+        assertEquals("Wrong refresh policy!", WriteRequest.RefreshPolicy.NONE, indexRequest.getRefreshPolicy());
+        assertEquals("Refresh was counted as avoided!", 0, indexRefresher.getAvoidedRefreshes());
+    }
+
+    @Test
+    public void shouldParseRefreshMode() {
+        assertEquals("Wrong refresh mode!", IndexRefresher.RefreshMode.WAIT_UNTIL,
+            IndexRefresher.parseRefreshMode("wait_until"));
+        assertEquals("Wrong refresh mode!", IndexRefresher.RefreshMode.COALESCE,
+            IndexRefresher.parseRefreshMode("Coalesce"));
+    }
+
+    @Test
+    public void shouldFallBackToImmediateRefreshForUnknownMode() {
+        assertEquals("Wrong refresh mode!", IndexRefresher.RefreshMode.IMMEDIATE,
+            IndexRefresher.parseRefreshMode("coalesse"));
+    }
+}
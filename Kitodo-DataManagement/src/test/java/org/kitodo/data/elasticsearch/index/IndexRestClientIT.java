@@ -13,8 +13,13 @@ package org.kitodo.data.elasticsearch.index;
 
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 import org.elasticsearch.node.Node;
 import org.junit.After;
@@ -24,6 +29,7 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 import org.kitodo.config.ConfigMain;
 import org.kitodo.data.elasticsearch.MockEntity;
+import org.kitodo.data.elasticsearch.exceptions.CustomResponseException;
 import org.kitodo.data.elasticsearch.search.Searcher;
 
 /**
@@ -96,7 +102,7 @@ public class IndexRestClientIT {
         response = searcher.findDocument(2);
         assertFalse(DOCUMENT_EXISTS, isFound(response));
 
-        restClient.addTypeAsync(testTypeName, MockEntity.createEntities());
+        restClient.addTypeAsync(testTypeName, MockEntity.createEntities()).get();
 
         response = searcher.findDocument(1);
         assertTrue("Add of type has failed - document id 1!", isFound(response));
@@ -105,6 +111,41 @@ public class IndexRestClientIT {
 
     }
 
+    @Test
+    public void shouldAddTypeAsyncInSeveralBulkRequests() throws Exception {
+        Map<Integer, Map<String, Object>> entities = MockEntity.createEntities();
+        CompletableFuture<Void> firstBatch = restClient.addTypeAsync(testTypeName, entities);
+        Map<Integer, Map<String, Object>> moreEntities = new HashMap<>();
+        for (Map.Entry<Integer, Map<String, Object>> entity : entities.entrySet()) {
+            moreEntities.put(entity.getKey() + entities.size(), entity.getValue());
+        }
+        CompletableFuture<Void> secondBatch = restClient.addTypeAsync(testTypeName, moreEntities);
+
+        CompletableFuture.allOf(firstBatch, secondBatch).get();
+
+        for (int id = 1; id <= entities.size() * 2; id++) {
+            assertTrue("Add of type has failed - document id " + id + "!", isFound(searcher.findDocument(id)));
+        }
+    }
+
+    @Test
+    public void shouldCompleteAddTypeAsyncExceptionallyOnFailure() throws Exception {
+        restClient.addTypeSync(testTypeName, MockEntity.createEntities());
+
+        Map<String, Object> invalidDocument = new HashMap<>();
+        invalidDocument.put("amount", "not a number");
+        CompletableFuture<Void> batch = restClient.addTypeAsync(testTypeName,
+            Collections.singletonMap(100, invalidDocument));
+
+        try {
+            batch.get();
+            fail("Add of invalid document should have failed!");
+        } catch (ExecutionException e) {
+            assertTrue("Failure was not reported as CustomResponseException!",
+                e.getCause() instanceof CustomResponseException);
+        }
+    }
+
     @Test
     public void shouldDeleteDocument() throws Exception {
         restClient.addTypeSync(testTypeName, MockEntity.createEntities());
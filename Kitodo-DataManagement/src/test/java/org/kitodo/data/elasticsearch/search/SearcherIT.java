@@ -13,10 +13,19 @@ package org.kitodo.data.elasticsearch.search;
 
 import static org.awaitility.Awaitility.await;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
+import org.awaitility.Durations;
+import org.elasticsearch.index.query.Operator;
 import org.elasticsearch.index.query.QueryBuilder;
 import org.elasticsearch.index.query.QueryBuilders;
 import org.elasticsearch.node.Node;
@@ -33,6 +42,7 @@ import org.junit.Test;
 import org.kitodo.config.ConfigMain;
 import org.kitodo.data.elasticsearch.MockEntity;
 import org.kitodo.data.elasticsearch.index.IndexRestClient;
+import org.kitodo.data.elasticsearch.index.Indexer;
 
 /**
  * Test class for Searcher.
@@ -46,6 +56,7 @@ public class SearcherIT {
     private static Searcher searcher = new Searcher("testsearch");
     private static final String TITLE = "title";
     private static final String BATCH_ONE = "Batch1";
+    private static final int NUMBER_OF_MANY_DOCUMENTS = 12000;
     private static final String WRONG_AMOUNT = "Incorrect result - amount doesn't match to given number!";
     private static final String WRONG_ID = "Incorrect result - id doesn't match to given int values!";
     private static final String WRONG_SIZE = "Incorrect result - size doesn't match to given int value!";
@@ -190,6 +201,46 @@ public class SearcherIT {
             getIdFromJSONObject(searcher.findDocuments(query, sort, 1, 2).get(1)).intValue()));
     }
 
+    @Test
+    public void shouldIterateOverMoreDocumentsThanResultWindow() throws Exception {
+        Searcher iteratingSearcher = indexDocuments("testiterate", NUMBER_OF_MANY_DOCUMENTS);
+
+        Set<Integer> ids = new HashSet<>();
+        Iterator<Map<String, Object>> iterator = iteratingSearcher.iterateDocuments(query, null, 1000);
+        while (iterator.hasNext()) {
+            assertTrue("Document was returned twice!", ids.add(getIdFromJSONObject(iterator.next())));
+        }
+        assertEquals(WRONG_SIZE, NUMBER_OF_MANY_DOCUMENTS, ids.size());
+    }
+
+    @Test
+    public void shouldFindIdsOfMoreDocumentsThanResultWindow() throws Exception {
+        Searcher idSearcher = indexDocuments("testids", NUMBER_OF_MANY_DOCUMENTS);
+
+        List<Integer> ids = idSearcher.findDocumentIds(query);
+        assertEquals(WRONG_SIZE, NUMBER_OF_MANY_DOCUMENTS, ids.size());
+        assertEquals("Id was returned twice!", NUMBER_OF_MANY_DOCUMENTS, new HashSet<>(ids).size());
+
+        QueryBuilder queryMatch = QueryBuilders.matchQuery(TITLE, "Document 42").operator(Operator.AND);
+        assertEquals(WRONG_ID, Collections.singletonList(42), idSearcher.findDocumentIds(queryMatch));
+    }
+
+    private static Searcher indexDocuments(String type, int numberOfDocuments) throws Exception {
+        Indexer<?, ?> indexer = new Indexer<>(type);
+        Map<Integer, Map<String, Object>> documents = new HashMap<>();
+        for (int id = 1; id <= numberOfDocuments; id++) {
+            documents.put(id, Collections.singletonMap(TITLE, "Document " + id));
+            if (documents.size() == 1000 || id == numberOfDocuments) {
+                indexer.performMultipleRequests(documents);
+                documents.clear();
+            }
+        }
+        Searcher typeSearcher = new Searcher(type);
+        await().atMost(Durations.ONE_MINUTE).untilAsserted(() -> assertEquals(WRONG_AMOUNT, numberOfDocuments,
+            typeSearcher.countDocuments().longValue()));
+        return typeSearcher;
+    }
+
     private static IndexRestClient initializeIndexRestClient() {
         IndexRestClient restClient = IndexRestClient.getInstance();
         restClient.setIndex(testIndexName);
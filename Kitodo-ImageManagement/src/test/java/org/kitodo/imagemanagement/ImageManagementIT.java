@@ -28,6 +28,7 @@ import org.im4java.core.InfoException;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.Test;
+import org.kitodo.api.imagemanagement.ImageDerivative;
 import org.kitodo.api.imagemanagement.ImageFileFormat;
 import org.kitodo.api.imagemanagement.ImageManagementInterface;
 import org.kitodo.config.KitodoConfig;
@@ -61,6 +62,11 @@ public class ImageManagementIT {
      */
     private static final String _00000001_MAX_JPG = RESOURCES + "/00000001_max.jpg";
 
+    /**
+     * Second derivative to generate.
+     */
+    private static final String _00000001_THUMB_PNG = RESOURCES + "/00000001_thumb.png";
+
     /**
      * Creates the input tiff file. The tiff file will contain the “wizard”
      * image that is compiled into ImageMagick. The image has a size of 480 ×
@@ -106,6 +112,20 @@ public class ImageManagementIT {
         assertEquals(new Info(_00000001_TIF, true).getImageWidth(), new Info(_00000001_MAX_JPG, true).getImageWidth());
     }
 
+    @Test
+    public void testCreateDerivatives() throws IOException, InfoException {
+        assert new File(_00000001_TIF).exists();
+        File maxDerivative = new File(_00000001_MAX_JPG);
+        File thumbnail = new File(_00000001_THUMB_PNG);
+        ImageManagementInterface module = new ImageManagement();
+        assertTrue(module.createDerivatives(new File(_00000001_TIF).toURI(),
+            Arrays.asList(new ImageDerivative(1.0, maxDerivative.toURI(), ImageFileFormat.JPEG),
+                new ImageDerivative(0.25, thumbnail.toURI(), ImageFileFormat.PNG))));
+        int width = new Info(_00000001_TIF, true).getImageWidth();
+        assertEquals(width, new Info(_00000001_MAX_JPG, true).getImageWidth());
+        assertEquals(Math.round(0.25 * width), new Info(_00000001_THUMB_PNG, true).getImageWidth());
+    }
+
     @Test
     public void testChangeDpi() throws IOException, InfoException {
         assert new File(_00000001_TIF).exists();
@@ -136,5 +156,9 @@ public class ImageManagementIT {
         if (jpgMaxFile.exists()) {
             jpgMaxFile.delete();
         }
+        File pngThumbFile = new File(_00000001_THUMB_PNG);
+        if (pngThumbFile.exists()) {
+            pngThumbFile.delete();
+        }
     }
 }
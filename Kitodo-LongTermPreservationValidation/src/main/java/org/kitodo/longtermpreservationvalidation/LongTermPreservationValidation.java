@@ -11,11 +11,14 @@
 
 package org.kitodo.longtermpreservationvalidation;
 
+import edu.harvard.hul.ois.jhove.JhoveException;
+
 import java.net.URI;
 import java.util.Arrays;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import org.kitodo.api.validation.ValidationResult;
 import org.kitodo.api.validation.longtermpreservation.FileType;
@@ -48,6 +51,14 @@ public class LongTermPreservationValidation implements LongTermPreservationValid
         "edu.harvard.hul.ois.jhove.module.PdfModule", "com.mcgath.jhove.module.PngModule",
         "edu.harvard.hul.ois.jhove.module.TiffModule");
 
+    /**
+     * Configured JHove base of each thread. Setting up the base and its
+     * modules is expensive, so it is done once per thread and reused for the
+     * following files. The modules keep state while parsing a file, so a base
+     * must not be used by two threads at the same time.
+     */
+    private static final ThreadLocal<KitodoJhoveBase> jhoveBases = new ThreadLocal<>();
+
     /**
      * {@inheritDoc}<!-- . -->
      *
@@ -60,11 +71,20 @@ public class LongTermPreservationValidation implements LongTermPreservationValid
     public ValidationResult validate(URI fileUri, FileType fileType) {
         KitodoOutputHandler result = new KitodoOutputHandler();
         try {
-            KitodoJhoveBase jhoveBase = new KitodoJhoveBase(MODULES);
-            jhoveBase.validate(fileUri.getPath(), MODULE_NAMES.get(fileType), result);
+            getJhoveBase().validate(fileUri.getPath(), MODULE_NAMES.get(fileType), result);
         } catch (Exception e) {
+            jhoveBases.remove();
             result.treatException(e);
         }
         return result.toValidationResult();
     }
+
+    private static KitodoJhoveBase getJhoveBase() throws JhoveException {
+        KitodoJhoveBase jhoveBase = jhoveBases.get();
+        if (Objects.isNull(jhoveBase)) {
+            jhoveBase = new KitodoJhoveBase(MODULES);
+            jhoveBases.set(jhoveBase);
+        }
+        return jhoveBase;
+    }
 }
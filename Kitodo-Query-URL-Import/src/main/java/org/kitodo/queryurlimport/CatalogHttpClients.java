@@ -0,0 +1,96 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.queryurlimport;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+
+/**
+ * Shared HTTP clients for catalog queries, one per catalog host. Each client
+ * keeps its connections open and reuses them for subsequent queries, so a
+ * query to a catalog does not need a new TCP and TLS handshake. Connections
+ * which were idle for some time are closed in the background.
+ */
+final class CatalogHttpClients {
+
+    /**
+     * Seconds after which an idle connection is closed.
+     */
+    private static final long IDLE_TIMEOUT = 30;
+
+    private static final Map<String, PoolingHttpClientConnectionManager> connectionManagers
+            = new ConcurrentHashMap<>();
+    private static final Map<String, CloseableHttpClient> clients = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor to hide the implicit public one.
+     */
+    private CatalogHttpClients() {
+    }
+
+    /**
+     * Get the HTTP client for the given catalog host. The client is created on
+     * first use.
+     *
+     * @param scheme
+     *            scheme of the catalog, http or https
+     * @param host
+     *            host of the catalog
+     * @param port
+     *            port of the catalog, -1 for the default port
+     * @param maxConnections
+     *            maximum number of open connections to the host
+     * @return the HTTP client
+     */
+    static CloseableHttpClient getClient(String scheme, String host, int port, int maxConnections) {
+        String key = getKey(scheme, host, port);
+        PoolingHttpClientConnectionManager connectionManager = connectionManagers.computeIfAbsent(key,
+            unused -> new PoolingHttpClientConnectionManager());
+        if (maxConnections > 0 && connectionManager.getMaxTotal() != maxConnections) {
+            connectionManager.setMaxTotal(maxConnections);
+            connectionManager.setDefaultMaxPerRoute(maxConnections);
+        }
+        return clients.computeIfAbsent(key, unused -> HttpClientBuilder.create()
+                .setConnectionManager(connectionManager)
+                .evictExpiredConnections()
+                .evictIdleConnections(IDLE_TIMEOUT, TimeUnit.SECONDS)
+                .build());
+    }
+
+    /**
+     * Get the statistics of the connections to the given catalog host.
+     *
+     * @param scheme
+     *            scheme of the catalog, http or https
+     * @param host
+     *            host of the catalog
+     * @param port
+     *            port of the catalog, -1 for the default port
+     * @return the connection statistics, or null if there was no query to the
+     *         host yet
+     */
+    static PoolStats getStats(String scheme, String host, int port) {
+        PoolingHttpClientConnectionManager connectionManager = connectionManagers.get(getKey(scheme, host, port));
+        return Objects.nonNull(connectionManager) ? connectionManager.getTotalStats() : null;
+    }
+
+    private static String getKey(String scheme, String host, int port) {
+        return scheme + "://" + host + ":" + port;
+    }
+}
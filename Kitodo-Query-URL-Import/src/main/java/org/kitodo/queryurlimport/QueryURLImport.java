@@ -50,15 +50,15 @@ import org.apache.commons.lang.StringUtils;
 import org.apache.commons.net.ftp.FTPClient;
 import org.apache.commons.net.ftp.FTPFile;
 import org.apache.commons.net.ftp.FTPFileFilter;
-import org.apache.http.HttpResponse;
 import org.apache.http.client.ClientProtocolException;
 import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.utils.URLEncodedUtils;
 import org.apache.http.conn.ConnectTimeoutException;
 import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.message.BasicNameValuePair;
+import org.apache.http.util.EntityUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.kitodo.api.externaldatamanagement.ExternalDataImportInterface;
@@ -111,11 +111,12 @@ public class QueryURLImport implements ExternalDataImportInterface {
     private String metadataFormat;
     private String ftpUsername;
     private String ftpPassword;
+    private int maxConnections;
+    private RequestConfig requestConfig = RequestConfig.DEFAULT;
 
     private LinkedHashMap<String, String> parameters = new LinkedHashMap<>();
     private final HashMap<String, String> searchFieldMapping = new HashMap<>();
 
-    private CloseableHttpClient httpClient = HttpClientBuilder.create().build();
     private final FTPClient ftpClient = new FTPClient();
 
     private static final HashMap<String, XmlResponseHandler> formatHandlers;
@@ -208,22 +209,24 @@ public class QueryURLImport implements ExternalDataImportInterface {
     }
 
     private SearchResult performQuery(String queryURL) throws ResponseHandlerNotFoundException {
-        try {
-            httpClient.close();
-            httpClient = HttpClientBuilder.create().build();
-            logger.debug("Requesting: {}", queryURL);
-            HttpResponse response = httpClient.execute(new HttpGet(queryURL));
-            int responseStatusCode = response.getStatusLine().getStatusCode();
-            if (Objects.equals(responseStatusCode, SC_OK)) {
-                if (formatHandlers.containsKey(metadataFormat)) {
-                    return formatHandlers.get(metadataFormat).getSearchResult(response, interfaceType);
+        logger.debug("Requesting: {}", queryURL);
+        try (CloseableHttpResponse response = getHttpClient().execute(createRequest(queryURL))) {
+            try {
+                int responseStatusCode = response.getStatusLine().getStatusCode();
+                if (Objects.equals(responseStatusCode, SC_OK)) {
+                    if (formatHandlers.containsKey(metadataFormat)) {
+                        return formatHandlers.get(metadataFormat).getSearchResult(response, interfaceType);
+                    } else {
+                        throw new ResponseHandlerNotFoundException("No ResponseHandler found for metadata format "
+                                + metadataFormat);
+                    }
                 } else {
-                    throw new ResponseHandlerNotFoundException("No ResponseHandler found for metadata format "
-                            + metadataFormat);
+                    throw new CatalogException(response.getStatusLine().getReasonPhrase() + " (Http status code "
+                            + responseStatusCode + ")");
                 }
-            } else {
-                throw new CatalogException(response.getStatusLine().getReasonPhrase() + " (Http status code "
-                        + responseStatusCode + ")");
+            } finally {
+                // return the connection to the pool
+                EntityUtils.consume(response.getEntity());
             }
         } catch (UnknownHostException e) {
             throw new CatalogException("Unknown host: " + e.getMessage());
@@ -282,19 +285,21 @@ public class QueryURLImport implements ExternalDataImportInterface {
         } else {
             fullUrl = fullUrl + idParameter + equalsOperand + identifier;
         }
-        try {
-            httpClient.close();
-            httpClient = HttpClientBuilder.create().build();
-            logger.debug("Requesting: {}", fullUrl);
-            HttpResponse response = httpClient.execute(new HttpGet(fullUrl));
-            if (Objects.equals(response.getStatusLine().getStatusCode(), SC_OK)) {
-                if (Objects.isNull(response.getEntity())) {
-                    throw new NoRecordFoundException("No record with ID '" + identifier + "' found!");
+        logger.debug("Requesting: {}", fullUrl);
+        try (CloseableHttpResponse response = getHttpClient().execute(createRequest(fullUrl))) {
+            try {
+                if (Objects.equals(response.getStatusLine().getStatusCode(), SC_OK)) {
+                    if (Objects.isNull(response.getEntity())) {
+                        throw new NoRecordFoundException("No record with ID '" + identifier + "' found!");
+                    }
+                    return createRecordFromXMLElement(IOUtils.toString(response.getEntity().getContent(),
+                            Charset.defaultCharset()));
                 }
-                return createRecordFromXMLElement(IOUtils.toString(response.getEntity().getContent(),
-                        Charset.defaultCharset()));
+                throw new ConfigException("Search Query Request Failed");
+            } finally {
+                // return the connection to the pool
+                EntityUtils.consume(response.getEntity());
             }
-            throw new ConfigException("Search Query Request Failed");
         } catch (IOException e) {
             throw new ConfigException(e.getLocalizedMessage());
         }
@@ -303,25 +308,24 @@ public class QueryURLImport implements ExternalDataImportInterface {
     private List<DataRecord> performQueryToMultipleRecords(String queryURL) throws IOException,
             ParserConfigurationException, SAXException, TransformerException {
         List<DataRecord> records = new LinkedList<>();
-        HttpGet request = new HttpGet(queryURL);
-        RequestConfig.Builder requestConfigBuilder = RequestConfig.custom();
-        requestConfigBuilder.setConnectionRequestTimeout(3000);
-        requestConfigBuilder.setConnectTimeout(3000);
-        request.setConfig(requestConfigBuilder.build());
-        try {
-            logger.debug("Requesting: {}", queryURL);
-            HttpResponse response = httpClient.execute(request);
-            int responseStatusCode = response.getStatusLine().getStatusCode();
-            if (Objects.equals(responseStatusCode, SC_OK)) {
-                String xmlContent = IOUtils.toString(response.getEntity().getContent(), Charset.defaultCharset());
-                Document document = stringToDocument(xmlContent);
-                NodeList recordNodes = document.getElementsByTagName(MODS_RECORD_TAG);
-                for (int i = 0; i < recordNodes.getLength(); i++) {
-                    records.add(createRecordFromXMLElement(nodeToString(recordNodes.item(i))));
+        logger.debug("Requesting: {}", queryURL);
+        try (CloseableHttpResponse response = getHttpClient().execute(createRequest(queryURL))) {
+            try {
+                int responseStatusCode = response.getStatusLine().getStatusCode();
+                if (Objects.equals(responseStatusCode, SC_OK)) {
+                    String xmlContent = IOUtils.toString(response.getEntity().getContent(), Charset.defaultCharset());
+                    Document document = stringToDocument(xmlContent);
+                    NodeList recordNodes = document.getElementsByTagName(MODS_RECORD_TAG);
+                    for (int i = 0; i < recordNodes.getLength(); i++) {
+                        records.add(createRecordFromXMLElement(nodeToString(recordNodes.item(i))));
+                    }
+                } else {
+                    throw new CatalogException(response.getStatusLine().getReasonPhrase() + " (Http status code "
+                            + responseStatusCode + ")");
                 }
-            } else {
-                throw new CatalogException(response.getStatusLine().getReasonPhrase() + " (Http status code "
-                        + responseStatusCode + ")");
+            } finally {
+                // return the connection to the pool
+                EntityUtils.consume(response.getEntity());
             }
         } catch (ConnectTimeoutException e) {
             throw new CatalogException("Connection exception: OPAC did not respond within the configured time limit!");
@@ -385,6 +389,16 @@ public class QueryURLImport implements ExternalDataImportInterface {
         return searchResult;
     }
 
+    private CloseableHttpClient getHttpClient() {
+        return CatalogHttpClients.getClient(protocol, host, port, maxConnections);
+    }
+
+    private HttpGet createRequest(String url) {
+        HttpGet request = new HttpGet(url);
+        request.setConfig(requestConfig);
+        return request;
+    }
+
     private DataRecord createRecordFromXMLElement(String xmlContent) {
         DataRecord record = new DataRecord();
         record.setMetadataFormat(MetadataFormat.getMetadataFormat(metadataFormat));
@@ -426,6 +440,12 @@ public class QueryURLImport implements ExternalDataImportInterface {
             idPrefix = OPACConfig.getIdentifierPrefix(opacName);
             fileFormat = OPACConfig.getConfigValue(opacName, RETURN_FORMAT_TAG);
             metadataFormat = OPACConfig.getConfigValue(opacName, METADATA_FORMAT_TAG);
+            maxConnections = OPACConfig.getMaxConnections(opacName);
+            requestConfig = RequestConfig.custom()
+                    .setConnectionRequestTimeout(OPACConfig.getConnectTimeout(opacName))
+                    .setConnectTimeout(OPACConfig.getConnectTimeout(opacName))
+                    .setSocketTimeout(OPACConfig.getReadTimeout(opacName))
+                    .build();
             // ftpUserName and ftpPassword are only required for FTP servers
             if (SearchInterfaceType.FTP.equals(interfaceType)) {
                 try {
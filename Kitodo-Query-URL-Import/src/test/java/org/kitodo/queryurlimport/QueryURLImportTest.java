@@ -32,6 +32,7 @@ import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
 
 import org.apache.commons.io.IOUtils;
+import org.apache.http.pool.PoolStats;
 import org.junit.AfterClass;
 import org.junit.Assert;
 import org.junit.BeforeClass;
@@ -77,6 +78,19 @@ public class QueryURLImportTest {
                 recordIdentifierElement.getTextContent());
     }
 
+    @Test
+    public void shouldReuseConnection() throws NoRecordFoundException {
+        QueryURLImport queryURLImport = new QueryURLImport();
+        queryURLImport.getFullRecordById(OPAC_NAME, RECORD_ID);
+        new QueryURLImport().getFullRecordById(OPAC_NAME, RECORD_ID);
+        queryURLImport.getFullRecordById(OPAC_NAME, RECORD_ID);
+
+        PoolStats stats = CatalogHttpClients.getStats("http", "localhost", PORT);
+        Assert.assertNotNull("No connections to catalog!", stats);
+        Assert.assertEquals("Connection was not returned to the pool!", 0, stats.getLeased());
+        Assert.assertEquals("Connection was not reused!", 1, stats.getAvailable());
+    }
+
     private static void setupServer(String serverResponse) {
         // endpoint for importing record by id
         whenHttp(server)
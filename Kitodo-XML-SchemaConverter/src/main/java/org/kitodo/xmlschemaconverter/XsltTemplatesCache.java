@@ -0,0 +1,120 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.xmlschemaconverter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.xml.transform.Templates;
+import javax.xml.transform.TransformerConfigurationException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.URIResolver;
+import javax.xml.transform.sax.SAXTransformerFactory;
+import javax.xml.transform.stream.StreamSource;
+
+/**
+ * Cache of compiled XSLT stylesheets. Compiling a stylesheet is much more
+ * expensive than applying it, so each mapping file is compiled once and
+ * compiled again only if its modification time changed. Compiled templates are
+ * thread-safe and shared by all converter instances.
+ */
+final class XsltTemplatesCache {
+
+    /**
+     * Resolves imported stylesheets and documents via HTTPS.
+     */
+    static final URIResolver URI_RESOLVER = (href, base) -> new StreamSource(href.replace("http:", "https:"));
+
+    private static final Map<Path, Entry> templates = new ConcurrentHashMap<>();
+    private static volatile SAXTransformerFactory transformerFactory;
+
+    private static class Entry {
+        private final long lastModified;
+        private final Templates templates;
+
+        Entry(long lastModified, Templates templates) {
+            this.lastModified = lastModified;
+            this.templates = templates;
+        }
+    }
+
+    /**
+     * Private constructor to hide the implicit public one.
+     */
+    private XsltTemplatesCache() {
+    }
+
+    /**
+     * Get the transformer factory which compiled the cached templates. Handlers
+     * for the templates must be created by this factory.
+     *
+     * @return the transformer factory
+     */
+    static SAXTransformerFactory getTransformerFactory() {
+        SAXTransformerFactory factory = transformerFactory;
+        if (Objects.isNull(factory)) {
+            synchronized (XsltTemplatesCache.class) {
+                factory = transformerFactory;
+                if (Objects.isNull(factory)) {
+                    factory = (SAXTransformerFactory) TransformerFactory.newInstance();
+                    factory.setURIResolver(URI_RESOLVER);
+                    transformerFactory = factory;
+                }
+            }
+        }
+        return factory;
+    }
+
+    /**
+     * Get the compiled stylesheet of the given mapping file. The file is
+     * compiled if it is not cached yet or was modified since.
+     *
+     * @param mappingFile
+     *            path of the XSLT file
+     * @return the compiled stylesheet
+     * @throws IOException
+     *             if the file cannot be read
+     * @throws TransformerConfigurationException
+     *             if the stylesheet cannot be compiled
+     */
+    static Templates get(Path mappingFile) throws IOException, TransformerConfigurationException {
+        Path key = mappingFile.toAbsolutePath().normalize();
+        long lastModified = Files.getLastModifiedTime(key).toMillis();
+        Entry entry = templates.get(key);
+        if (Objects.nonNull(entry) && entry.lastModified == lastModified) {
+            return entry.templates;
+        }
+        synchronized (XsltTemplatesCache.class) {
+            entry = templates.get(key);
+            if (Objects.isNull(entry) || entry.lastModified != lastModified) {
+                System.setProperty("http.agent", "Chrome");
+                try (InputStream fileStream = Files.newInputStream(key)) {
+                    entry = new Entry(lastModified, getTransformerFactory().newTemplates(new StreamSource(fileStream)));
+                }
+                templates.put(key, entry);
+            }
+            return entry.templates;
+        }
+    }
+
+    /**
+     * Remove all compiled stylesheets.
+     */
+    static void clear() {
+        templates.clear();
+    }
+}
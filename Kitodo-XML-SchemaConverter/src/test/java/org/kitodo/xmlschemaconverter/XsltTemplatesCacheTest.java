@@ -0,0 +1,63 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.xmlschemaconverter;
+
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import javax.xml.transform.Templates;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class XsltTemplatesCacheTest {
+
+    private static final String STYLESHEET = "<xsl:stylesheet version=\"2.0\" "
+            + "xmlns:xsl=\"http://www.w3.org/1999/XSL/Transform\"><xsl:template match=\"/\"/></xsl:stylesheet>";
+
+    private Path stylesheet;
+
+    @Before
+    public void createStylesheet() throws Exception {
+        stylesheet = Files.createTempFile("mapping", ".xsl");
+        Files.write(stylesheet, STYLESHEET.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @After
+    public void deleteStylesheet() throws Exception {
+        XsltTemplatesCache.clear();
+        Files.deleteIfExists(stylesheet);
+    }
+
+    @Test
+    public void shouldCompileStylesheetOnce() throws Exception {
+        Templates templates = XsltTemplatesCache.get(stylesheet);
+
+        assertSame("Stylesheet was compiled again!", templates, XsltTemplatesCache.get(stylesheet));
+    }
+
+    @Test
+    public void shouldCompileModifiedStylesheetAgain() throws Exception {
+        Templates templates = XsltTemplatesCache.get(stylesheet);
+
+        Files.setLastModifiedTime(stylesheet,
+            FileTime.fromMillis(Files.getLastModifiedTime(stylesheet).toMillis() + 1000));
+
+        assertNotSame("Modified stylesheet was not compiled again!", templates, XsltTemplatesCache.get(stylesheet));
+    }
+}
@@ -46,6 +46,11 @@ public enum ParameterCore implements ParameterInterface {
      */
     DIR_RULESETS(new Parameter<UndefinedParameter>("directory.rulesets")),
 
+    /**
+     * Integer, number of loaded rulesets which are kept in memory.
+     */
+    RULESET_CACHE_SIZE(new Parameter<>("rulesets.cacheSize", 16)),
+
     /**
      * Absolute path to the directory that XSLT files are stored in which are used
      * to transform the "XML log" (as visible from the XML button in the processes
@@ -121,6 +126,24 @@ public enum ParameterCore implements ParameterInterface {
      */
     IMPORT_USE_OLD_CONFIGURATION(new Parameter<>("importUseOldConfiguration", false)),
 
+    /**
+     * Integer, maximum number of records a mass import requests from one
+     * catalog at the same time.
+     */
+    MASS_IMPORT_CATALOG_CONNECTIONS(new Parameter<>("massImport.catalogConnections", 4)),
+
+    /**
+     * Integer, minimum milliseconds between two requests of mass imports to one
+     * catalog.
+     */
+    MASS_IMPORT_CATALOG_REQUEST_INTERVAL(new Parameter<>("massImport.catalogRequestInterval", 0)),
+
+    /**
+     * Integer, number of processes for which a Kitodo script run in the
+     * background changes the files at the same time.
+     */
+    KITODO_SCRIPT_THREADS(new Parameter<>("kitodoScript.threads", 4)),
+
     /**
      * Creation and export of process sub-directories, e.g.
      * {@code images/(processtitle)_tif&ocr/(processtitle)_pdf}.
@@ -207,6 +230,19 @@ public enum ParameterCore implements ParameterInterface {
      */
     DONE_DIRECTORY_NAME(new Parameter<>("image.doneDirectoryName", "fertig/")),
 
+    /**
+     * Integer, number of images for which derivatives are generated at the
+     * same time. With 1, the images are processed one after another.
+     */
+    IMAGE_GENERATION_THREADS(new Parameter<>("image.generationThreads", 4)),
+
+    /**
+     * File in which the results of the long term preservation validation of
+     * images are kept. Not set by default, then the results are kept in memory
+     * only.
+     */
+    IMAGE_VALIDATION_CACHE_FILE(new Parameter<UndefinedParameter>("image.validationCacheFile")),
+
     /*
      * VISUAL APPEARANCE
      *
@@ -465,6 +501,20 @@ public enum ParameterCore implements ParameterInterface {
     TASK_MANAGER_KEEP_SUCCESSFUL_MINS(new Parameter<>("taskManager.keepThreads.successful.minutes",
             TimeUnit.MINUTES.convert(20, TimeUnit.MINUTES))),
 
+    /**
+     * Sets how often a task which can be resumed is retried from its last
+     * checkpoint after it has failed. Integer, defaults to 1.
+     */
+    TASK_MANAGER_MAX_RETRIES(new Parameter<>("taskManager.maxRetries", 1)),
+
+    /**
+     * Limits the number of tasks of a type run in parallel. String list of
+     * entries of the simple class name of the task, a colon and the limit, e.g.
+     * {@code ExportDmsTask:2}. Types not listed are only limited by the
+     * autorun limit.
+     */
+    TASK_MANAGER_TYPE_LIMITS(new Parameter<UndefinedParameter>("taskManager.typeLimits")),
+
     /**
      * Sets whether or not to show an option to "add a sample task" in the task
      * manager. This is if for anything at all—useful for debugging or demonstration
@@ -612,7 +662,37 @@ public enum ParameterCore implements ParameterInterface {
      */
 
     ELASTICSEARCH_BATCH(new Parameter<>("elasticsearch.batch", 500)),
-    ELASTICSEARCH_INDEXLIMIT(new Parameter<>("elasticsearch.indexLimit", 5000));
+    ELASTICSEARCH_INDEXLIMIT(new Parameter<>("elasticsearch.indexLimit", 5000)),
+
+    /**
+     * Integer, number of threads which build and send documents during indexing.
+     * If 0, objects are indexed sequentially page by page. The value can be
+     * overridden per object type, e.g. elasticsearch.indexThreads.process.
+     */
+    ELASTICSEARCH_INDEXTHREADS(new Parameter<>("elasticsearch.indexThreads", 0)),
+
+    /**
+     * Integer, number of batches which can wait between the stages of parallel
+     * indexing.
+     */
+    ELASTICSEARCH_INDEXQUEUE(new Parameter<>("elasticsearch.indexQueue", 4)),
+
+    /**
+     * Boolean, if true, saving an object only marks it for indexing and the
+     * index is updated in the background.
+     */
+    ELASTICSEARCH_OUTBOX(new Parameter<>("elasticsearch.outbox", false)),
+
+    /**
+     * Integer, milliseconds after which objects marked for indexing are indexed.
+     */
+    ELASTICSEARCH_OUTBOX_DELAY(new Parameter<>("elasticsearch.outbox.delay", 500)),
+
+    /**
+     * Integer, milliseconds after which indexing of marked objects is retried if
+     * it failed.
+     */
+    ELASTICSEARCH_OUTBOX_RETRY(new Parameter<>("elasticsearch.outbox.retry", 30000));
 
     private Parameter parameter;
 
@@ -299,6 +299,15 @@ public class ExportDms extends ExportMets {
         }
     }
 
+    /**
+     * Returns whether the images are exported.
+     *
+     * @return whether the images are exported
+     */
+    public boolean isExportWithImages() {
+        return exportWithImages;
+    }
+
     /**
      * Get exportDmsTask.
      *
@@ -162,6 +162,18 @@ public class BaseForm implements Serializable {
         this.filter = filter;
     }
 
+    /**
+     * Show the syntax errors of the given filter as error messages.
+     *
+     * @param filter
+     *            the filter entered by the user
+     */
+    protected void showFilterSyntaxErrors(String filter) {
+        for (String error : ServiceManager.getFilterService().getSyntaxErrors(filter)) {
+            Helper.setErrorMessage(error);
+        }
+    }
+
     /**
      * Add filter to user.
      */
@@ -785,6 +785,7 @@ public class CurrentTaskForm extends BaseForm {
     @Override
     public void setFilter(String filter) {
         super.filter = filter;
+        showFilterSyntaxErrors(filter);
         this.lazyDTOModel.setFilterString(filter);
     }
 
@@ -18,9 +18,6 @@ import javax.faces.view.ViewScoped;
 import javax.inject.Named;
 
 import org.apache.commons.lang.StringUtils;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
-import org.kitodo.exceptions.ImportException;
 import org.kitodo.production.helper.Helper;
 import org.kitodo.production.services.ServiceManager;
 import org.kitodo.production.services.data.MassImportService;
@@ -31,8 +28,6 @@ import org.primefaces.model.UploadedFile;
 @ViewScoped
 public class MassImportForm extends BaseForm {
 
-    private static final Logger logger = LogManager.getLogger(MassImportForm.class);
-
     private int projectId;
     private int templateId;
     private String selectedCatalog;
@@ -62,22 +57,16 @@ public class MassImportForm extends BaseForm {
             context.getExternalContext().redirect(path);
         } catch (IOException e) {
             Helper.setErrorMessage(Helper.getTranslation("errorReading", file.getFileName()));
-        } catch (ImportException e) {
-            Helper.setErrorMessage(e.getLocalizedMessage(), logger, e);
         }
     }
 
     /**
-     * Import processes from textField.
+     * Import processes from textField. The import runs in the background and
+     * is shown in the task manager.
      */
     public String importFromText() {
-        try {
-            massImportService.importFromText(selectedCatalog, ppnString, projectId, templateId);
-            return PROCESS_LIST_PATH;
-        } catch (ImportException e) {
-            Helper.setErrorMessage(e.getLocalizedMessage(), logger, e);
-        }
-        return stayOnCurrentPage;
+        massImportService.importFromText(selectedCatalog, ppnString, projectId, templateId);
+        return PROCESS_LIST_PATH;
     }
 
     /**
@@ -19,6 +19,7 @@ import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 import javax.annotation.PostConstruct;
 import javax.enterprise.context.SessionScoped;
@@ -652,38 +653,27 @@ public class ProcessForm extends TemplateBaseForm {
      * Execute Kitodo script for hits list.
      */
     public void executeKitodoScriptAll() {
-        executeKitodoScriptForProcesses(getProcessesForActions(), this.kitodoScriptAll);
+        executeKitodoScriptForProcesses(getProcessIdsForActions(), this.kitodoScriptAll);
     }
 
     /**
      * Execute Kitodo script for selected processes.
      */
     public void executeKitodoScriptSelection() {
-        executeKitodoScriptForProcesses(this.selectedProcesses, this.kitodoScriptSelection);
+        executeKitodoScriptForProcesses(
+            this.selectedProcesses.stream().map(Process::getId).collect(Collectors.toList()),
+            this.kitodoScriptSelection);
     }
 
-    private void executeKitodoScriptForProcesses(List<Process> processes, String kitodoScript) {
-        KitodoScriptService service = new KitodoScriptService();
-        try {
-            service.execute(processes, kitodoScript);
-        } catch (DataException e) {
-            Helper.setErrorMessage(e.getLocalizedMessage(), logger, e);
-        }
+    private void executeKitodoScriptForProcesses(List<Integer> processIds, String kitodoScript) {
+        new KitodoScriptService().executeInBackground(processIds, kitodoScript);
     }
 
     private List<Process> getProcessesForActions() {
-        // TODO: find a way to pass filters
-        List<ProcessDTO> filteredProcesses = new ArrayList<>();
-        for (Object object : lazyDTOModel.load(0, 100000, "",
-                SortOrder.ASCENDING, null)) {
-            if (object instanceof ProcessDTO) {
-                filteredProcesses.add((ProcessDTO) object);
-            }
-        }
         List<Process> processesForActions = new ArrayList<>();
 
         try {
-            processesForActions = ServiceManager.getProcessService().convertDtosToBeans(filteredProcesses);
+            processesForActions = ServiceManager.getProcessService().convertDtosToBeans(getFilteredProcesses());
         } catch (DAOException e) {
             Helper.setErrorMessage(ERROR_LOADING_MANY, new Object[] {ObjectType.PROCESS.getTranslationPlural() },
                 logger, e);
@@ -692,6 +682,22 @@ public class ProcessForm extends TemplateBaseForm {
         return processesForActions;
     }
 
+    private List<Integer> getProcessIdsForActions() {
+        return getFilteredProcesses().stream().map(ProcessDTO::getId).collect(Collectors.toList());
+    }
+
+    private List<ProcessDTO> getFilteredProcesses() {
+        // TODO: find a way to pass filters
+        List<ProcessDTO> filteredProcesses = new ArrayList<>();
+        for (Object object : lazyDTOModel.load(0, 100000, "",
+                SortOrder.ASCENDING, null)) {
+            if (object instanceof ProcessDTO) {
+                filteredProcesses.add((ProcessDTO) object);
+            }
+        }
+        return filteredProcesses;
+    }
+
     /**
      * Get kitodo script for selected results.
      *
@@ -1066,6 +1072,7 @@ public class ProcessForm extends TemplateBaseForm {
     @Override
     public void setFilter(String filter) {
         super.filter = filter;
+        showFilterSyntaxErrors(filter);
         this.lazyDTOModel.setFilterString(filter);
     }
 
@@ -11,19 +11,27 @@
 
 package org.kitodo.production.forms;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import javax.enterprise.context.RequestScoped;
 import javax.inject.Named;
 
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.kitodo.production.helper.FacesUtils;
+import org.kitodo.production.helper.Helper;
 import org.kitodo.production.helper.tasks.EmptyTask;
 import org.kitodo.production.helper.tasks.EmptyTask.Behaviour;
+import org.kitodo.production.helper.tasks.KitodoScriptExecutionTask;
 import org.kitodo.production.helper.tasks.TaskManager;
 import org.kitodo.production.helper.tasks.TaskSitter;
 
 @Named("TaskManagerForm")
 @RequestScoped
 public class TaskManagerForm {
+    private static final Logger logger = LogManager.getLogger(TaskManagerForm.class);
 
     /**
      * The field task can be populated by a task object by the Tomahawk
@@ -74,6 +82,31 @@ public class TaskManagerForm {
         task.interrupt(Behaviour.DELETE_IMMEDIATELY);
     }
 
+    /**
+     * Returns whether a result log can be downloaded for a task.
+     *
+     * @param task
+     *            task to check
+     * @return whether there is a result log
+     */
+    public boolean isResultLogAvailable(EmptyTask task) {
+        return task instanceof KitodoScriptExecutionTask && ((KitodoScriptExecutionTask) task).isResultLogAvailable();
+    }
+
+    /**
+     * Sends the result log of the task as download.
+     */
+    public void downloadResultLog() {
+        if (isResultLogAvailable(task)) {
+            try {
+                FacesUtils.sendDownload(((KitodoScriptExecutionTask) task).getResultLog()
+                        .getBytes(StandardCharsets.UTF_8), "kitodoScript.log");
+            } catch (IOException e) {
+                Helper.setErrorMessage(e.getLocalizedMessage(), logger, e);
+            }
+        }
+    }
+
     /**
      * Provides write access to the property "task" and
      * will be called by the Tomahawk updateActionListener tag when an action
@@ -152,9 +152,10 @@ public class DataEditorForm implements RulesetSetupInterface, Serializable {
     private Workpiece workpiece;
 
     /**
-     * Original state of workpiece. Used to check whether any unsaved changes exist when leaving the editor.
+     * Copy of the workpiece as it was loaded. Used to check whether any
+     * unsaved changes exist when leaving the editor.
      */
-    private Workpiece workpieceOriginalState;
+    private WorkpieceSnapshot workpieceOriginalState;
 
     /**
      * This List of Pairs stores all selected physical elements and the logical elements in which the physical element was selected.
@@ -244,7 +245,7 @@ public class DataEditorForm implements RulesetSetupInterface, Serializable {
     private void openMetsFile() throws IOException, InvalidImagesException {
         mainFileUri = ServiceManager.getProcessService().getMetadataFileUri(process);
         workpiece = ServiceManager.getMetsService().loadWorkpiece(mainFileUri);
-        workpieceOriginalState = ServiceManager.getMetsService().loadWorkpiece(mainFileUri);
+        workpieceOriginalState = new WorkpieceSnapshot(workpiece);
         if (Objects.isNull(workpiece.getId())) {
             logger.warn("Workpiece has no ID. Cannot verify workpiece ID. Setting workpiece ID.");
             workpiece.setId(process.getId().toString());
@@ -736,7 +737,7 @@ public class DataEditorForm implements RulesetSetupInterface, Serializable {
      */
     public void checkForChanges() {
         if (Objects.nonNull(PrimeFaces.current())) {
-            boolean unsavedChanges = !this.workpiece.equals(workpieceOriginalState);
+            boolean unsavedChanges = Objects.isNull(workpieceOriginalState) || !workpieceOriginalState.isUnchanged(workpiece);
             PrimeFaces.current().executeScript("setConfirmUnload(" + unsavedChanges + ");");
         }
     }
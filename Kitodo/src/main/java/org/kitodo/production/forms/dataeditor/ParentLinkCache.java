@@ -0,0 +1,139 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.forms.dataeditor;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.ToLongFunction;
+
+import org.kitodo.api.dataformat.IncludedStructuralElement;
+import org.kitodo.api.dataformat.Workpiece;
+import org.kitodo.production.metadata.MetadataEditor;
+import org.kitodo.production.services.ServiceManager;
+
+/**
+ * Paths through the parent processes to their linked children, as shown on
+ * top of the structure tree. The structure tree is rebuilt on almost every
+ * change in the editor, but the parent processes do not change meanwhile, so
+ * their METS files are only read again after they have been written.
+ */
+class ParentLinkCache implements Serializable {
+
+    /**
+     * Reads the workpiece of a parent process.
+     */
+    @FunctionalInterface
+    interface WorkpieceReader {
+        Workpiece read(URI uri) throws IOException;
+    }
+
+    /**
+     * The path to a child in the METS file of a parent, as it was when the
+     * file was read.
+     */
+    private static final class Entry implements Serializable {
+        private final int childId;
+        private final long lastModified;
+        private final List<String> types;
+
+        private Entry(int childId, long lastModified, List<String> types) {
+            this.childId = childId;
+            this.lastModified = lastModified;
+            this.types = types;
+        }
+    }
+
+    private final Map<URI, Entry> entries = new HashMap<>();
+    private transient WorkpieceReader workpieceReader;
+    private transient ToLongFunction<URI> lastModifiedReader;
+
+    /**
+     * Creates a cache which reads the METS files with the METS service.
+     */
+    ParentLinkCache() {
+    }
+
+    /**
+     * Creates a cache with the given functions to access the METS files.
+     *
+     * @param workpieceReader
+     *            reads the workpiece of a parent process
+     * @param lastModifiedReader
+     *            returns when the METS file of a parent process was last
+     *            written, or 0 if unknown
+     */
+    ParentLinkCache(WorkpieceReader workpieceReader, ToLongFunction<URI> lastModifiedReader) {
+        this.workpieceReader = workpieceReader;
+        this.lastModifiedReader = lastModifiedReader;
+    }
+
+    /**
+     * Returns the types of the included structural elements on the path
+     * through the parent process to the link to the child. The last element
+     * is the link itself. The METS file of the parent process is only read if
+     * it was written since it was last read.
+     *
+     * @param parentUri
+     *            URI of the METS file of the parent process
+     * @param childId
+     *            ID of the child process
+     * @return the types on the path to the child, empty if the child is not
+     *         linked in the parent process
+     * @throws IOException
+     *             if the METS file of the parent process cannot be read
+     */
+    List<String> getPathToChild(URI parentUri, int childId) throws IOException {
+        long lastModified = getLastModifiedReader().applyAsLong(parentUri);
+        Entry entry = entries.get(parentUri);
+        if (Objects.nonNull(entry) && entry.childId == childId && lastModified != 0
+                && entry.lastModified == lastModified) {
+            return entry.types;
+        }
+        IncludedStructuralElement rootElement = getWorkpieceReader().read(parentUri).getRootElement();
+        List<String> types = new ArrayList<>();
+        for (IncludedStructuralElement includedStructuralElement : MetadataEditor
+                .determineIncludedStructuralElementPathToChild(rootElement, childId)) {
+            types.add(includedStructuralElement.getType());
+        }
+        types = Collections.unmodifiableList(types);
+        entries.put(parentUri, new Entry(childId, lastModified, types));
+        return types;
+    }
+
+    /**
+     * Forgets all paths.
+     */
+    void clear() {
+        entries.clear();
+    }
+
+    private WorkpieceReader getWorkpieceReader() {
+        if (Objects.isNull(workpieceReader)) {
+            workpieceReader = uri -> ServiceManager.getMetsService().loadWorkpiece(uri);
+        }
+        return workpieceReader;
+    }
+
+    private ToLongFunction<URI> getLastModifiedReader() {
+        if (Objects.isNull(lastModifiedReader)) {
+            lastModifiedReader = uri -> ServiceManager.getFileService().getFile(uri).lastModified();
+        }
+        return lastModifiedReader;
+    }
+}
@@ -108,6 +108,13 @@ public class StructurePanel implements Serializable {
      */
     private String activeTabs;
 
+    /**
+     * Paths through the parent processes to the process under edit. The METS
+     * files of the parent processes are only read again after they have been
+     * written.
+     */
+    private final ParentLinkCache parentLinkCache = new ParentLinkCache();
+
     /**
      * Creates a new structure panel.
      *
@@ -130,6 +137,7 @@ public class StructurePanel implements Serializable {
         previouslySelectedPhysicalNode = null;
         structure = null;
         severalAssignments = new LinkedList<>();
+        parentLinkCache.clear();
     }
 
     void deleteSelectedStructure() {
@@ -623,11 +631,9 @@ public class StructurePanel implements Serializable {
         addParentLinksRecursive(parent, tree);
         URI uri = ServiceManager.getProcessService().getMetadataFileUri(parent);
         try {
-            IncludedStructuralElement rootElement = ServiceManager.getMetsService().loadWorkpiece(uri).getRootElement();
-            List<IncludedStructuralElement> includedStructuralElementList
-                    = MetadataEditor.determineIncludedStructuralElementPathToChild(rootElement, child.getId());
+            List<String> pathToChild = parentLinkCache.getPathToChild(uri, child.getId());
             DefaultTreeNode parentNode = tree;
-            if (includedStructuralElementList.isEmpty()) {
+            if (pathToChild.isEmpty()) {
                 /*
                  * Error case: The child is not linked in the parent process.
                  * Show the process title of the parent process and a warning
@@ -639,11 +645,11 @@ public class StructurePanel implements Serializable {
                  * Default case: Show the path through the parent process to the
                  * linked child
                  */
-                for (IncludedStructuralElement includedStructuralElement : includedStructuralElementList) {
-                    if (Objects.isNull(includedStructuralElement.getType())) {
+                for (String type : pathToChild) {
+                    if (Objects.isNull(type)) {
                         break;
                     } else {
-                        parentNode = addTreeNode(includedStructuralElement.getType(), true, null, parentNode);
+                        parentNode = addTreeNode(type, true, null, parentNode);
                         parentNode.setExpanded(true);
                     }
                 }
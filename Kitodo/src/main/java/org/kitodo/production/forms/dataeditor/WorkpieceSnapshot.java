@@ -0,0 +1,175 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.forms.dataeditor;
+
+import java.net.URI;
+import java.util.Collection;
+import java.util.GregorianCalendar;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.kitodo.api.Metadata;
+import org.kitodo.api.MetadataEntry;
+import org.kitodo.api.MetadataGroup;
+import org.kitodo.api.dataformat.Division;
+import org.kitodo.api.dataformat.IncludedStructuralElement;
+import org.kitodo.api.dataformat.MediaUnit;
+import org.kitodo.api.dataformat.MediaVariant;
+import org.kitodo.api.dataformat.ProcessingNote;
+import org.kitodo.api.dataformat.View;
+import org.kitodo.api.dataformat.Workpiece;
+import org.kitodo.api.dataformat.mets.LinkedMetsResource;
+
+/**
+ * A deep copy of a workpiece as it was loaded, to find out whether the
+ * workpiece was changed in the editor since. The copy does not share any
+ * mutable object with the workpiece, so every change to the workpiece, its
+ * structure, media units or metadata makes it unequal to the copy.
+ */
+class WorkpieceSnapshot {
+
+    private final Workpiece copy;
+
+    /**
+     * Copies media units to be able to point the views of the copied included
+     * structural elements to the copied media units.
+     */
+    private final Map<MediaUnit, MediaUnit> mediaUnitCopies = new IdentityHashMap<>();
+
+    /**
+     * Takes a snapshot of a workpiece.
+     *
+     * @param workpiece
+     *            workpiece to take the snapshot of
+     */
+    WorkpieceSnapshot(Workpiece workpiece) {
+        copy = new Workpiece();
+        if (Objects.nonNull(workpiece.getCreationDate())) {
+            copy.setCreationDate((GregorianCalendar) workpiece.getCreationDate().clone());
+        } else {
+            copy.setCreationDate(null);
+        }
+        for (ProcessingNote processingNote : workpiece.getEditHistory()) {
+            copy.getEditHistory().add(copyProcessingNote(processingNote));
+        }
+        copy.setId(workpiece.getId());
+        copy.setMediaUnit(copyMediaUnit(workpiece.getMediaUnit()));
+        copy.setRootElement(copyIncludedStructuralElement(workpiece.getRootElement()));
+        mediaUnitCopies.clear();
+    }
+
+    /**
+     * Returns whether a workpiece still has the content it had when the
+     * snapshot was taken.
+     *
+     * @param workpiece
+     *            workpiece to compare
+     * @return whether the workpiece is unchanged
+     */
+    boolean isUnchanged(Workpiece workpiece) {
+        /*
+         * The comparison must start from the copy. The hash sets of the
+         * metadata of the copy are filled with the current values, while the
+         * hash sets of the workpiece may contain entries changed after they
+         * were added. Looking up the entries of the workpiece in the sets of
+         * the copy finds them by their current values.
+         */
+        return copy.equals(workpiece);
+    }
+
+    private static ProcessingNote copyProcessingNote(ProcessingNote source) {
+        ProcessingNote processingNote = new ProcessingNote();
+        processingNote.setName(source.getName());
+        processingNote.setNote(source.getNote());
+        processingNote.setRole(source.getRole());
+        processingNote.setType(source.getType());
+        return processingNote;
+    }
+
+    private MediaUnit copyMediaUnit(MediaUnit source) {
+        if (Objects.isNull(source)) {
+            return null;
+        }
+        MediaUnit mediaUnit = mediaUnitCopies.get(source);
+        if (Objects.nonNull(mediaUnit)) {
+            return mediaUnit;
+        }
+        mediaUnit = new MediaUnit();
+        mediaUnitCopies.put(source, mediaUnit);
+        copyDivision(source, mediaUnit);
+        for (Map.Entry<MediaVariant, URI> mediaFile : source.getMediaFiles().entrySet()) {
+            mediaUnit.getMediaFiles().put(copyMediaVariant(mediaFile.getKey()), mediaFile.getValue());
+        }
+        for (MediaUnit child : source.getChildren()) {
+            mediaUnit.getChildren().add(copyMediaUnit(child));
+        }
+        return mediaUnit;
+    }
+
+    private static MediaVariant copyMediaVariant(MediaVariant source) {
+        MediaVariant mediaVariant = new MediaVariant();
+        mediaVariant.setMimeType(source.getMimeType());
+        mediaVariant.setUse(source.getUse());
+        return mediaVariant;
+    }
+
+    private IncludedStructuralElement copyIncludedStructuralElement(IncludedStructuralElement source) {
+        if (Objects.isNull(source)) {
+            return null;
+        }
+        IncludedStructuralElement includedStructuralElement = new IncludedStructuralElement();
+        copyDivision(source, includedStructuralElement);
+        if (Objects.nonNull(source.getLink())) {
+            LinkedMetsResource link = new LinkedMetsResource();
+            link.setLoctype(source.getLink().getLoctype());
+            link.setUri(source.getLink().getUri());
+            includedStructuralElement.setLink(link);
+        }
+        for (View view : source.getViews()) {
+            includedStructuralElement.getViews().add(View.of(copyMediaUnit(view.getMediaUnit())));
+        }
+        for (IncludedStructuralElement child : source.getChildren()) {
+            includedStructuralElement.getChildren().add(copyIncludedStructuralElement(child));
+        }
+        return includedStructuralElement;
+    }
+
+    private static void copyDivision(Division<?> source, Division<?> division) {
+        division.getContentIds().addAll(source.getContentIds());
+        division.setLabel(source.getLabel());
+        copyMetadata(source.getMetadata(), division.getMetadata());
+        division.setOrder(source.getOrder());
+        division.setOrderlabel(source.getOrderlabel());
+        division.setType(source.getType());
+    }
+
+    private static void copyMetadata(Collection<Metadata> source, Collection<Metadata> metadata) {
+        for (Metadata sourceMetadata : source) {
+            Metadata copy;
+            if (sourceMetadata instanceof MetadataGroup) {
+                MetadataGroup metadataGroup = new MetadataGroup();
+                copyMetadata(((MetadataGroup) sourceMetadata).getGroup(), metadataGroup.getGroup());
+                copy = metadataGroup;
+            } else if (sourceMetadata instanceof MetadataEntry) {
+                MetadataEntry metadataEntry = new MetadataEntry();
+                metadataEntry.setValue(((MetadataEntry) sourceMetadata).getValue());
+                copy = metadataEntry;
+            } else {
+                copy = new Metadata();
+            }
+            copy.setDomain(sourceMetadata.getDomain());
+            copy.setKey(sourceMetadata.getKey());
+            metadata.add(copy);
+        }
+    }
+}
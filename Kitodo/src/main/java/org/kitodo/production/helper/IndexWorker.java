@@ -11,7 +11,9 @@
 
 package org.kitodo.production.helper;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -29,6 +31,7 @@ public class IndexWorker implements Runnable {
     private int startIndexing;
     private boolean indexAllObjects = true;
     private SearchService searchService;
+    private final List<CompletableFuture<Void>> pendingIndexing = new ArrayList<>();
     private static final Logger logger = LogManager.getLogger(IndexWorker.class);
 
     /**
@@ -59,6 +62,7 @@ public class IndexWorker implements Runnable {
     @SuppressWarnings("unchecked")
     public void run() {
         this.indexedObjects = 0;
+        this.pendingIndexing.clear();
         int batchSize = ConfigCore.getIntParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_BATCH);
         int indexLimit = ConfigCore.getIntParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_INDEXLIMIT);
         try {
@@ -78,6 +82,7 @@ public class IndexWorker implements Runnable {
                     indexChunks(batchSize);
                 }
             }
+            awaitPendingIndexing();
         } catch (CustomResponseException | DAOException | DataException | HibernateException e) {
             logger.error(e.getMessage(), e);
         }
@@ -113,10 +118,17 @@ public class IndexWorker implements Runnable {
 
     @SuppressWarnings("unchecked")
     private void indexObjects(List<Object> objectsToIndex) throws CustomResponseException, DAOException {
-        this.searchService.addAllObjectsToIndex(objectsToIndex);
+        this.pendingIndexing.add(this.searchService.addAllObjectsToIndexAsync(objectsToIndex));
         this.indexedObjects = this.indexedObjects + objectsToIndex.size();
     }
 
+    private void awaitPendingIndexing() throws CustomResponseException {
+        CompletableFuture<Void> pending = CompletableFuture
+                .allOf(this.pendingIndexing.toArray(new CompletableFuture[0]));
+        this.pendingIndexing.clear();
+        SearchService.awaitIndexing(pending);
+    }
+
     /**
      * Return the number of objects that have already been indexed during the
      * current indexing process.
@@ -0,0 +1,227 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.helper;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.hibernate.HibernateException;
+import org.kitodo.data.database.beans.BaseBean;
+import org.kitodo.data.database.exceptions.DAOException;
+import org.kitodo.data.elasticsearch.exceptions.CustomResponseException;
+import org.kitodo.production.services.data.base.SearchService;
+
+/**
+ * Indexes all objects of one type in a pipeline of three stages. The objects
+ * are loaded page by page following their ids, so that the database does not
+ * have to skip over a growing offset. The loaded pages are handed over to a
+ * pool of threads which build the documents, and the documents to a pool of
+ * threads which send them to the index in bulk requests. Between the stages
+ * there are bounded queues, so that loading cannot run away from indexing.
+ */
+public class ParallelIndexWorker implements Runnable {
+
+    private static final Logger logger = LogManager.getLogger(ParallelIndexWorker.class);
+
+    /**
+     * Markers telling the threads of the next stage that there is no more
+     * work. They are compared by identity.
+     */
+    private static final List<Object> END_OF_BEANS = new ArrayList<>(0);
+    private static final Map<Integer, Map<String, Object>> END_OF_DOCUMENTS = new HashMap<>(0);
+
+    /**
+     * Number of times a bulk request is sent before indexing is aborted.
+     */
+    private static final int SEND_ATTEMPTS = 2;
+
+    private final SearchService searchService;
+    private final boolean indexAllObjects;
+    private final int batchSize;
+    private final int threads;
+    private final BlockingQueue<List<Object>> loadedBeans;
+    private final BlockingQueue<Map<Integer, Map<String, Object>>> builtDocuments;
+    private final AtomicInteger indexedObjects = new AtomicInteger();
+    private volatile boolean aborted = false;
+
+    /**
+     * Constructor initializing a ParallelIndexWorker object.
+     *
+     * @param searchService
+     *            SearchService instance used for indexing
+     * @param indexAllObjects
+     *            if true, it indexes all objects, if false it indexes only
+     *            objects with flag IndexAction.INDEX
+     * @param batchSize
+     *            number of objects loaded and sent at once
+     * @param threads
+     *            number of threads building documents and number of threads
+     *            sending documents
+     * @param queueSize
+     *            number of batches which can wait between the stages
+     */
+    public ParallelIndexWorker(SearchService searchService, boolean indexAllObjects, int batchSize, int threads,
+            int queueSize) {
+        this.searchService = searchService;
+        this.indexAllObjects = indexAllObjects;
+        this.batchSize = batchSize;
+        this.threads = threads;
+        this.loadedBeans = new ArrayBlockingQueue<>(queueSize);
+        this.builtDocuments = new ArrayBlockingQueue<>(queueSize);
+    }
+
+    @Override
+    public void run() {
+        indexedObjects.set(0);
+        aborted = false;
+        ExecutorService builders = Executors.newFixedThreadPool(threads);
+        ExecutorService senders = Executors.newFixedThreadPool(threads);
+        try {
+            for (int i = 0; i < threads; i++) {
+                builders.execute(this::buildDocuments);
+                senders.execute(this::sendDocuments);
+            }
+            loadBeans();
+            finishStage(loadedBeans, END_OF_BEANS, builders);
+            finishStage(builtDocuments, END_OF_DOCUMENTS, senders);
+        } catch (InterruptedException e) {
+            builders.shutdownNow();
+            senders.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void loadBeans() throws InterruptedException {
+        int lastId = 0;
+        try {
+            List<Object> beans = loadBeansAfter(lastId);
+            while (!beans.isEmpty() && !aborted) {
+                loadedBeans.put(beans);
+                lastId = ((BaseBean) beans.get(beans.size() - 1)).getId();
+                beans = loadBeansAfter(lastId);
+            }
+        } catch (DAOException | HibernateException e) {
+            abort(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object> loadBeansAfter(int lastId) throws DAOException {
+        if (indexAllObjects) {
+            return searchService.getAllAfterId(lastId, batchSize);
+        } else {
+            return searchService.getAllNotIndexedAfterId(lastId, batchSize);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void buildDocuments() {
+        try {
+            List<Object> beans = loadedBeans.take();
+            while (beans != END_OF_BEANS) {
+                if (!aborted) {
+                    try {
+                        builtDocuments.put(searchService.createIndexDocuments(beans));
+                    } catch (RuntimeException e) {
+                        abort(e);
+                    }
+                }
+                beans = loadedBeans.take();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void sendDocuments() {
+        try {
+            Map<Integer, Map<String, Object>> documents = builtDocuments.take();
+            while (documents != END_OF_DOCUMENTS) {
+                if (!aborted) {
+                    sendBatch(documents);
+                }
+                documents = builtDocuments.take();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Sends one batch of documents to the index. If sending fails, it is tried
+     * once more. If it fails again, indexing is aborted, because the documents
+     * of the batch would be missing from the index.
+     */
+    private void sendBatch(Map<Integer, Map<String, Object>> documents) {
+        for (int attempt = 1; attempt <= SEND_ATTEMPTS; attempt++) {
+            try {
+                searchService.addDocumentsToIndex(documents);
+                indexedObjects.addAndGet(documents.size());
+                return;
+            } catch (CustomResponseException | RuntimeException e) {
+                if (attempt == SEND_ATTEMPTS) {
+                    abort(e);
+                } else {
+                    logger.warn("Sending {} documents to the index failed, trying again: {}", documents.size(),
+                        e.getMessage());
+                }
+            }
+        }
+    }
+
+    private <E> void finishStage(BlockingQueue<E> queue, E endMarker, ExecutorService stage)
+            throws InterruptedException {
+        for (int i = 0; i < threads; i++) {
+            queue.put(endMarker);
+        }
+        stage.shutdown();
+        while (!stage.awaitTermination(1, TimeUnit.MINUTES)) {
+            logger.debug("Waiting for indexing threads of {} to finish", searchService.getClass().getSimpleName());
+        }
+    }
+
+    private void abort(Exception e) {
+        logger.error(e.getMessage(), e);
+        aborted = true;
+    }
+
+    /**
+     * Return whether the current indexing process was aborted, because objects
+     * could not be loaded, converted or sent to the index.
+     *
+     * @return whether indexing was aborted
+     */
+    public boolean isAborted() {
+        return aborted;
+    }
+
+    /**
+     * Return the number of objects that have already been indexed during the
+     * current indexing process.
+     *
+     * @return int the number of objects indexed during the current indexing run
+     */
+    public int getIndexedObjects() {
+        return indexedObjects.get();
+    }
+}
@@ -16,7 +16,11 @@ import java.net.URI;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.TimeZone;
 
@@ -25,12 +29,14 @@ import org.apache.logging.log4j.Logger;
 import org.apache.poi.hssf.usermodel.HSSFRow;
 import org.apache.poi.hssf.usermodel.HSSFSheet;
 import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.SpreadsheetVersion;
 import org.elasticsearch.index.query.BoolQueryBuilder;
 import org.elasticsearch.search.sort.SortOrder;
 import org.kitodo.api.dataformat.MediaUnit;
 import org.kitodo.api.dataformat.Workpiece;
+import org.kitodo.config.ConfigCore;
+import org.kitodo.config.enums.ParameterCore;
 import org.kitodo.data.database.beans.Process;
-import org.kitodo.data.database.exceptions.DAOException;
 import org.kitodo.data.exceptions.DataException;
 import org.kitodo.production.dto.ProcessDTO;
 import org.kitodo.production.enums.ObjectType;
@@ -66,29 +72,69 @@ public class SearchResultGeneration {
      * @return HSSFWorkbook
      */
     public HSSFWorkbook getResult() {
-        List<ProcessDTO> resultsWithFilter = getResultsWithFilter();
+        HSSFWorkbook workbook = new HSSFWorkbook();
+        HSSFSheet sheet = workbook.createSheet("Search results");
+        prepareHeader(sheet);
+        addResultsWithFilter(sheet);
+        return workbook;
+    }
 
-        List<Process> processes = new ArrayList<>();
+    /**
+     * Adds a row for each process found. The processes are loaded from the
+     * database in batches. The Excel 97 format has a limited number of rows;
+     * if more processes are found, the last row states how many processes
+     * were exported.
+     */
+    private void addResultsWithFilter(HSSFSheet sheet) {
+        int lastRow = SpreadsheetVersion.EXCEL97.getLastRowIndex();
+        int batchSize = Math.max(1, ConfigCore.getIntParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_BATCH));
+        int rowCounter = 2;
         try {
-            processes = ServiceManager.getProcessService().convertDtosToBeans(resultsWithFilter);
-        } catch (DAOException e) {
+            Iterator<ProcessDTO> processDTOs = ServiceManager.getProcessService().iterateByQuery(
+                getQueryForFilter(ObjectType.PROCESS), ServiceManager.getProcessService().sortByTitle(SortOrder.ASC),
+                true);
+            List<Integer> processIds = new ArrayList<>(batchSize);
+            while (processDTOs.hasNext() && rowCounter + processIds.size() < lastRow) {
+                processIds.add(processDTOs.next().getId());
+                if (processIds.size() == batchSize) {
+                    rowCounter = addRows(sheet, rowCounter, processIds);
+                    processIds.clear();
+                }
+            }
+            rowCounter = addRows(sheet, rowCounter, processIds);
+            if (processDTOs.hasNext()) {
+                String message = Helper.getTranslation("searchResultTruncated",
+                    Collections.singletonList(Integer.toString(rowCounter - 2)));
+                sheet.createRow(rowCounter).createCell(0).setCellValue(message);
+                logger.warn(message);
+                Helper.setErrorMessage(message);
+            }
+        } catch (DataException | IllegalStateException e) {
             logger.error(e.getMessage(), e);
         }
-
-        return getWorkbook(processes);
     }
 
-    private List<ProcessDTO> getResultsWithFilter() {
-        List<ProcessDTO> processDTOS = new ArrayList<>();
-
-        try {
-            processDTOS = ServiceManager.getProcessService().findByQuery(getQueryForFilter(ObjectType.PROCESS),
-                    ServiceManager.getProcessService().sortByTitle(SortOrder.ASC), false);
-        } catch (DataException e) {
-            logger.error(e.getMessage(), e);
+    private int addRows(HSSFSheet sheet, int rowCounter, List<Integer> processIds) {
+        if (processIds.isEmpty()) {
+            return rowCounter;
         }
-
-        return processDTOS;
+        Map<Integer, Process> processes = new HashMap<>();
+        for (Process process : ServiceManager.getProcessService().getByQuery("FROM Process WHERE id IN (:ids)",
+            Collections.singletonMap("ids", processIds))) {
+            processes.put(process.getId(), process);
+        }
+        int row = rowCounter;
+        for (Integer processId : processIds) {
+            Process process = processes.get(processId);
+            if (Objects.nonNull(process)) {
+                prepareRow(row, sheet, process);
+                row++;
+            }
+        }
+        for (Process process : processes.values()) {
+            ServiceManager.getProcessService().evict(process);
+        }
+        return row;
     }
 
     /**
@@ -115,10 +161,7 @@ public class SearchResultGeneration {
         return query;
     }
 
-    private HSSFWorkbook getWorkbook(List<Process> processes) {
-        HSSFWorkbook workbook = new HSSFWorkbook();
-        HSSFSheet sheet = workbook.createSheet("Search results");
-
+    private void prepareHeader(HSSFSheet sheet) {
         HSSFRow title = sheet.createRow(0);
         title.createCell(0).setCellValue(this.filter);
         for (int i = 1; i < 8; i++) {
@@ -134,13 +177,6 @@ public class SearchResultGeneration {
         rowHeader.createCell(5).setCellValue(Helper.getTranslation("CountMetadata"));
         rowHeader.createCell(6).setCellValue(Helper.getTranslation("Project"));
         rowHeader.createCell(7).setCellValue(Helper.getTranslation("Status"));
-
-        int rowCounter = 2;
-        for (Process process : processes) {
-            prepareRow(rowCounter, sheet, process);
-            rowCounter++;
-        }
-        return workbook;
     }
 
     private void prepareRow(int rowCounter, HSSFSheet sheet, Process process) {
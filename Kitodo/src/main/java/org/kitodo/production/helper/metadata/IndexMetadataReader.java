@@ -0,0 +1,347 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.helper.metadata;
+
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Reads the data needed for indexing a process from its METS file in a single
+ * streaming pass: the content of the {@code <mets:dmdSec>} elements and the
+ * base type, which is the type of the first typed division of the logical
+ * structure map. Only the {@code <mets:dmdSec>} elements are kept in memory,
+ * the remaining file, mostly file groups and structure maps, is skipped.
+ *
+ * <p>
+ * The metadata is converted the same way as by {@code org.json.XML}, so the
+ * documents in the index do not change: elements become maps, repeated
+ * elements become lists, attributes and text become values, text next to other
+ * values is stored as "content", and namespace prefixes are removed from keys.
+ */
+public class IndexMetadataReader {
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = createXmlInputFactory();
+
+    private static final String CONTENT = "content";
+    private static final String DIV = "div";
+    private static final String DMD_SEC = "dmdSec";
+    private static final String LOGICAL = "LOGICAL";
+    private static final String METS = "mets";
+    private static final String STRUCT_MAP = "structMap";
+    private static final String TYPE = "TYPE";
+
+    /**
+     * Value of the text "null", which is not indexed.
+     */
+    private static final Object NULL = new Object();
+
+    private final List<Object> dmdSecs = new ArrayList<>();
+    private String baseType = "";
+
+    private Deque<Map<String, Object>> elements = new ArrayDeque<>();
+    private StringBuilder text = new StringBuilder();
+
+    private boolean inLogicalStructMap;
+    private boolean baseTypeSearched;
+    private int divDepth;
+    private int divChainDepth;
+
+    private IndexMetadataReader() {
+    }
+
+    private static XMLInputFactory createXmlInputFactory() {
+        XMLInputFactory xmlInputFactory = XMLInputFactory.newInstance();
+        xmlInputFactory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return xmlInputFactory;
+    }
+
+    /**
+     * Read metadata and base type from the given METS file.
+     *
+     * @param inputStream
+     *            stream of the METS file
+     * @return reader holding metadata and base type
+     * @throws XMLStreamException
+     *             if the file is not well-formed
+     */
+    public static IndexMetadataReader read(InputStream inputStream) throws XMLStreamException {
+        IndexMetadataReader indexMetadataReader = new IndexMetadataReader();
+        XMLStreamReader xmlStreamReader = XML_INPUT_FACTORY.createXMLStreamReader(inputStream);
+        try {
+            indexMetadataReader.read(xmlStreamReader);
+        } finally {
+            xmlStreamReader.close();
+        }
+        return indexMetadataReader;
+    }
+
+    private void read(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 0;
+        boolean isMets = false;
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+                if (depth == 1) {
+                    isMets = Objects.equals(reader.getLocalName(), METS);
+                } else if (isMets && depth == 2 && Objects.equals(reader.getLocalName(), DMD_SEC)) {
+                    elements.push(new LinkedHashMap<>());
+                } else if (elements.isEmpty()) {
+                    searchBaseType(reader, true);
+                }
+                if (!elements.isEmpty()) {
+                    startElement(reader);
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                if (!elements.isEmpty()) {
+                    endElement(reader);
+                    if (depth == 2) {
+                        dmdSecs.add(elements.pop().values().iterator().next());
+                    }
+                } else {
+                    searchBaseType(reader, false);
+                }
+                depth--;
+            } else if (!elements.isEmpty()) {
+                if (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.SPACE
+                        || event == XMLStreamConstants.ENTITY_REFERENCE) {
+                    text.append(reader.getText());
+                } else if (event == XMLStreamConstants.CDATA) {
+                    flushText();
+                    if (reader.getTextLength() > 0) {
+                        accumulate(elements.peek(), CONTENT, reader.getText());
+                    }
+                } else {
+                    flushText();
+                }
+            }
+        }
+    }
+
+    private void startElement(XMLStreamReader reader) {
+        flushText();
+        Map<String, Object> element = new LinkedHashMap<>();
+        for (int i = 0; i < reader.getNamespaceCount(); i++) {
+            String prefix = reader.getNamespacePrefix(i);
+            String name = Objects.isNull(prefix) || prefix.isEmpty() ? "xmlns" : "xmlns:" + prefix;
+            accumulate(element, name, stringToValue(reader.getNamespaceURI(i)));
+        }
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            accumulate(element, qualifiedName(reader.getAttributePrefix(i), reader.getAttributeLocalName(i)),
+                stringToValue(reader.getAttributeValue(i)));
+        }
+        elements.push(element);
+    }
+
+    private void endElement(XMLStreamReader reader) {
+        flushText();
+        Map<String, Object> element = elements.pop();
+        Object value;
+        if (element.isEmpty()) {
+            value = "";
+        } else if (element.size() == 1 && element.containsKey(CONTENT)) {
+            value = element.get(CONTENT);
+        } else {
+            value = element;
+        }
+        accumulate(elements.peek(), qualifiedName(reader.getPrefix(), reader.getLocalName()), value);
+    }
+
+    private void flushText() {
+        if (text.length() > 0) {
+            String content = text.toString().trim();
+            if (!content.isEmpty()) {
+                accumulate(elements.peek(), CONTENT, stringToValue(content));
+            }
+            text = new StringBuilder();
+        }
+    }
+
+    /**
+     * Follow the first divisions of the first logical structure map down to the
+     * first division with a type.
+     */
+    private void searchBaseType(XMLStreamReader reader, boolean start) {
+        if (baseTypeSearched) {
+            return;
+        }
+        String localName = reader.getLocalName();
+        if (Objects.equals(localName, STRUCT_MAP)) {
+            if (start) {
+                inLogicalStructMap = Objects.equals(reader.getAttributeValue(null, TYPE), LOGICAL);
+            } else if (inLogicalStructMap) {
+                baseTypeSearched = true;
+            }
+        } else if (inLogicalStructMap && Objects.equals(localName, DIV)) {
+            if (start) {
+                divDepth++;
+                if (divDepth == divChainDepth + 1) {
+                    String type = reader.getAttributeValue(null, TYPE);
+                    if (Objects.nonNull(type)) {
+                        baseType = type;
+                        baseTypeSearched = true;
+                    }
+                    divChainDepth = divDepth;
+                }
+            } else {
+                if (divDepth == divChainDepth) {
+                    // the division has no typed first child
+                    baseType = null;
+                    baseTypeSearched = true;
+                }
+                divDepth--;
+            }
+        }
+    }
+
+    private static String qualifiedName(String prefix, String localName) {
+        return Objects.isNull(prefix) || prefix.isEmpty() ? localName : prefix + ":" + localName;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void accumulate(Map<String, Object> element, String key, Object value) {
+        Object existing = element.get(key);
+        if (Objects.isNull(existing)) {
+            element.put(key, value instanceof List ? new ArrayList<>(Collections.singletonList(value)) : value);
+        } else if (existing instanceof List) {
+            ((List<Object>) existing).add(value);
+        } else {
+            List<Object> values = new ArrayList<>();
+            values.add(existing);
+            values.add(value);
+            element.put(key, values);
+        }
+    }
+
+    /**
+     * Convert a string to a value the way {@code org.json.XML} does.
+     */
+    private static Object stringToValue(String string) {
+        if (string.isEmpty()) {
+            return string;
+        }
+        if (string.equalsIgnoreCase("true")) {
+            return Boolean.TRUE;
+        }
+        if (string.equalsIgnoreCase("false")) {
+            return Boolean.FALSE;
+        }
+        if (string.equalsIgnoreCase("null")) {
+            return NULL;
+        }
+        char initial = string.charAt(0);
+        if (initial >= '0' && initial <= '9' || initial == '-') {
+            try {
+                if (string.indexOf('.') > -1 || string.indexOf('e') > -1 || string.indexOf('E') > -1
+                        || "-0".equals(string)) {
+                    Double number = Double.valueOf(string);
+                    if (!number.isInfinite() && !number.isNaN()) {
+                        return number;
+                    }
+                } else {
+                    Long number = Long.valueOf(string);
+                    if (string.equals(number.toString())) {
+                        return number == number.intValue() ? (Object) number.intValue() : number;
+                    }
+                }
+            } catch (NumberFormatException e) {
+                // not a number, keep the string
+            }
+        }
+        return string;
+    }
+
+    /**
+     * Get the content of the {@code <mets:dmdSec>} elements.
+     *
+     * @return list of maps, one per {@code <mets:dmdSec>}
+     */
+    @SuppressWarnings("unchecked")
+    public List<Map<String, Object>> getMetadata() {
+        List<Map<String, Object>> metadata = new ArrayList<>();
+        if (dmdSecs.size() == 1) {
+            if (dmdSecs.get(0) instanceof Map) {
+                metadata.add(toIndexMap((Map<String, Object>) dmdSecs.get(0)));
+            }
+        } else {
+            for (Object dmdSec : toIndexList(dmdSecs)) {
+                if (dmdSec instanceof Map) {
+                    metadata.add((Map<String, Object>) dmdSec);
+                }
+            }
+        }
+        return metadata;
+    }
+
+    /**
+     * Get the type of the first typed division of the logical structure map.
+     *
+     * @return the base type, null if the first divisions have no type, "" if
+     *         there is no logical structure map
+     */
+    public String getBaseType() {
+        return baseType;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> toIndexMap(Map<String, Object> element) {
+        Map<String, Object> map = new HashMap<>();
+        for (Map.Entry<String, Object> entry : element.entrySet()) {
+            Object value = entry.getValue();
+            if (value instanceof String || value instanceof Integer) {
+                map.put(prepareKey(entry.getKey()), value);
+            } else if (value instanceof Map) {
+                map.put(prepareKey(entry.getKey()), toIndexMap((Map<String, Object>) value));
+            } else if (value instanceof List) {
+                map.put(prepareKey(entry.getKey()), toIndexList((List<Object>) value));
+            }
+        }
+        return map;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Object> toIndexList(List<Object> values) {
+        List<Object> list = new ArrayList<>(values.size());
+        for (Object value : values) {
+            if (value instanceof Map) {
+                list.add(toIndexMap((Map<String, Object>) value));
+            } else if (value instanceof String) {
+                list.add(value);
+            } else if (value instanceof List) {
+                list.add(toIndexList((List<Object>) value));
+            }
+        }
+        return list;
+    }
+
+    private static String prepareKey(String key) {
+        if (key.contains(":")) {
+            return key.substring(key.indexOf(':') + 1);
+        }
+        return key;
+    }
+}
@@ -46,6 +46,23 @@ public class LegacyPrefsHelper {
      */
     private RulesetManagementInterface ruleset;
 
+    /**
+     * Creates a legacy prefs helper which must be loaded with
+     * {@link #loadPrefs(String)}.
+     */
+    public LegacyPrefsHelper() {
+    }
+
+    /**
+     * Creates a legacy prefs helper for an already loaded ruleset.
+     *
+     * @param ruleset
+     *            the loaded ruleset
+     */
+    public LegacyPrefsHelper(RulesetManagementInterface ruleset) {
+        this.ruleset = ruleset;
+    }
+
     /**
      * MetadataType aus Preferences ermitteln.
      *
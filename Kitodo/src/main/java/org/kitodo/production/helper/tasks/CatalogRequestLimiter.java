@@ -0,0 +1,71 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.helper.tasks;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits the number of requests to a catalog and the time between two
+ * requests.
+ */
+class CatalogRequestLimiter {
+    private final Semaphore connections;
+    private final long intervalNanos;
+    private long nextRequest = System.nanoTime();
+
+    /**
+     * Creates a new limiter.
+     *
+     * @param connections
+     *            maximum number of requests at the same time
+     * @param intervalMillis
+     *            minimum time between the starts of two requests, in
+     *            milliseconds
+     */
+    CatalogRequestLimiter(int connections, long intervalMillis) {
+        this.connections = new Semaphore(connections, true);
+        this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(intervalMillis);
+    }
+
+    /**
+     * Waits until a request may be sent. Each call must be followed by a call
+     * to {@link #release()} when the request has finished.
+     *
+     * @throws InterruptedException
+     *             if the thread is interrupted while waiting
+     */
+    void acquire() throws InterruptedException {
+        connections.acquire();
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            waitNanos = nextRequest - now;
+            nextRequest = Math.max(now, nextRequest) + intervalNanos;
+        }
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                connections.release();
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Releases the connection of a finished request.
+     */
+    void release() {
+        connections.release();
+    }
+}
@@ -20,6 +20,8 @@ import java.util.concurrent.TimeUnit;
 import org.apache.commons.lang.exception.ExceptionUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.kitodo.data.database.beans.Job;
+import org.kitodo.data.database.enums.JobState;
 import org.kitodo.production.helper.Helper;
 
 /**
@@ -95,6 +97,13 @@ public class EmptyTask extends Thread {
      */
     private Exception exception = null;
 
+    /**
+     * The field job holds the database record of the task, if the task can be
+     * resumed after a restart of the application. See
+     * {@link #getJobParameters()}.
+     */
+    private Job job = null;
+
     /**
      * The field passedAway will be initialised with a time stamp as the thread
      * dies to be able to remove it a defined timespan after it died.
@@ -134,6 +143,21 @@ public class EmptyTask extends Thread {
         this.exception = master.exception;
         this.passedAway = master.passedAway;
         this.progress = master.progress;
+        this.job = master.job;
+    }
+
+    /**
+     * Resume constructor. Creates a task from its database record to resume
+     * its work after a restart of the application.
+     *
+     * @param job
+     *            database record of the task
+     */
+    protected EmptyTask(Job job) {
+        setDaemon(true);
+        setName(job.getTitle());
+        this.progress = job.getProgress();
+        this.job = job;
     }
 
     /**
@@ -148,6 +172,20 @@ public class EmptyTask extends Thread {
         return new EmptyTask(this);
     }
 
+    /**
+     * Creates a not-yet-executed replacement copy of this thread object to
+     * retry the task from its last checkpoint after it has crashed.
+     *
+     * @return a not-yet-executed replacement of this thread
+     */
+    EmptyTask retry() {
+        EmptyTask replacement = replace();
+        replacement.behaviour = null;
+        replacement.exception = null;
+        replacement.passedAway = null;
+        return replacement;
+    }
+
     /**
      * Returns the instruction how the TaskSitter
      * shall behave towards this task. Usually, the behavior isn’t set while
@@ -175,6 +213,41 @@ public class EmptyTask extends Thread {
         return behaviour;
     }
 
+    /**
+     * Returns the checkpoint of the task, that is the state of its work up to
+     * which it can be resumed. The checkpoint is passed to the resume
+     * constructor in the database record of the task.
+     *
+     * @return the checkpoint, or null if the task restarts from the beginning
+     */
+    protected String getCheckpoint() {
+        return null;
+    }
+
+    /**
+     * Returns the parameters to create the task again after a restart of the
+     * application. A task which returns parameters is recorded in the database
+     * and resumed after a restart. It must provide a public resume constructor
+     * taking the {@link Job} as only argument, which must call
+     * {@code super(job)}. The default implementation returns null, so the task
+     * is only held in memory.
+     *
+     * @return the parameters of the task, or null if the task cannot be
+     *         resumed
+     */
+    protected String getJobParameters() {
+        return null;
+    }
+
+    /**
+     * Returns the database record of the task.
+     *
+     * @return the database record, or null if the task cannot be resumed
+     */
+    Job getJob() {
+        return job;
+    }
+
     /**
      * Returns the display name of the task to show to the user.
      */
@@ -376,6 +449,17 @@ public class EmptyTask extends Thread {
         }
     }
 
+    /**
+     * Returns whether the task can be retried from its last checkpoint after it
+     * has crashed. By default, this is the case for all tasks which can be
+     * resumed.
+     *
+     * @return whether the task can be retried
+     */
+    protected boolean isRetryable() {
+        return Objects.nonNull(job);
+    }
+
     /**
      * This is a sample implementation of run() which simulates a “long running
      * task” but does nothing and just fills up the percentage gauge. It isn’t
@@ -408,6 +492,15 @@ public class EmptyTask extends Thread {
         // We’re done. There is nothing more to do.
     }
 
+    /**
+     * Saves the checkpoint and the progress of the task to its database
+     * record. Tasks which can be resumed should call this whenever they have
+     * reached a state from which they can be resumed.
+     */
+    protected void saveCheckpoint() {
+        TaskManager.saveJob(this, JobState.WORKING);
+    }
+
     /**
      * The procedure setException can be used to save an exception that occurred
      * and show it in the front end. It will only record the first exception
@@ -432,6 +525,16 @@ public class EmptyTask extends Thread {
         }
     }
 
+    /**
+     * Sets the database record of the task.
+     *
+     * @param job
+     *            the database record, may be null
+     */
+    void setJob(Job job) {
+        this.job = job;
+    }
+
     /**
      * May be used to set the task’s name along
      * with a detail that doesn’t require translation and is helpful when being
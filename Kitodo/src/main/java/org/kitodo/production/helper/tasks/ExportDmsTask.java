@@ -11,14 +11,24 @@
 
 package org.kitodo.production.helper.tasks;
 
+import java.io.StringReader;
+
+import javax.json.Json;
+import javax.json.JsonObject;
+import javax.json.JsonReader;
+
+import org.kitodo.data.database.beans.Job;
 import org.kitodo.data.database.beans.Process;
+import org.kitodo.data.database.exceptions.DAOException;
 import org.kitodo.export.ExportDms;
+import org.kitodo.production.services.ServiceManager;
 
 /**
  * The class ExportDmsTask accepts an {@link org.kitodo.export.ExportDms} for a
  * process and provides the ability to run the export in the background this
  * way. This is especially valuable if the export has a big load of images to
- * copy.
+ * copy. If the application is restarted during the export, the export is
+ * started again.
  */
 public class ExportDmsTask extends EmptyTask {
 
@@ -39,6 +49,24 @@ public class ExportDmsTask extends EmptyTask {
         this.process = process;
     }
 
+    /**
+     * Resume constructor. Creates the task again after a restart of the
+     * application.
+     *
+     * @param job
+     *            database record of the task
+     * @throws DAOException
+     *             if the process cannot be loaded
+     */
+    public ExportDmsTask(Job job) throws DAOException {
+        super(job);
+        try (JsonReader reader = Json.createReader(new StringReader(job.getParameters()))) {
+            JsonObject parameters = reader.readObject();
+            this.exportDms = new ExportDms(parameters.getBoolean("exportImages"));
+            this.process = ServiceManager.getProcessService().getById(parameters.getInt("process"));
+        }
+    }
+
     /**
      * Clone constructor. Provides the ability to restart an export that was
      * previously interrupted by the user.
@@ -52,6 +80,18 @@ public class ExportDmsTask extends EmptyTask {
         this.process = source.process;
     }
 
+    /**
+     * Returns the process and whether the images are exported, to create the
+     * task again after a restart of the application.
+     *
+     * @return the parameters of the task
+     */
+    @Override
+    protected String getJobParameters() {
+        return Json.createObjectBuilder().add("process", process.getId())
+                .add("exportImages", exportDms.isExportWithImages()).build().toString();
+    }
+
     /**
      * If the task is started, it will execute this run() method which will
      * start the export on the ExportDms. This task instance is passed in
@@ -0,0 +1,306 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.helper.tasks;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.json.Json;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonNumber;
+import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
+import javax.json.JsonReader;
+import javax.json.JsonString;
+import javax.json.JsonValue;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.kitodo.config.ConfigCore;
+import org.kitodo.config.enums.ParameterCore;
+import org.kitodo.data.database.beans.Job;
+import org.kitodo.data.database.beans.Process;
+import org.kitodo.data.database.exceptions.DAOException;
+import org.kitodo.exceptions.CommandException;
+import org.kitodo.production.helper.Helper;
+import org.kitodo.production.security.SecurityUserDetails;
+import org.kitodo.production.services.ServiceManager;
+import org.kitodo.production.services.command.KitodoScriptService;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Executes a Kitodo script for many processes in the background. The
+ * processes are loaded and processed in batches of the Elasticsearch batch
+ * size, and the processes of a batch are indexed together. Processes for which
+ * the script failed are collected with the error message. The result for each
+ * process processed so far can be downloaded as result log. The position and
+ * the errors are saved as checkpoint after each batch, so the run is resumed
+ * from there after a restart of the application.
+ */
+public class KitodoScriptExecutionTask extends EmptyTask {
+    private static final Logger logger = LogManager.getLogger(KitodoScriptExecutionTask.class);
+
+    private final String script;
+    private final List<Integer> processIds;
+    private final Authentication authentication;
+
+    /**
+     * Index of the next process ID to execute the script for.
+     */
+    private volatile int position;
+
+    /**
+     * Error messages by process ID of the processes for which the script
+     * failed.
+     */
+    private final Map<Integer, String> errors;
+
+    /**
+     * Creates a new task to execute a Kitodo script. The task runs with the
+     * authentication of the user who creates it.
+     *
+     * @param script
+     *            the Kitodo script
+     * @param processIds
+     *            IDs of the processes to execute the script for
+     */
+    public KitodoScriptExecutionTask(String script, List<Integer> processIds) {
+        super(script);
+        this.script = script;
+        this.processIds = processIds;
+        this.authentication = SecurityContextHolder.getContext().getAuthentication();
+        this.errors = Collections.synchronizedMap(new LinkedHashMap<>());
+    }
+
+    /**
+     * Resume constructor. Creates the task again after a restart of the
+     * application, to continue with the first process not yet processed. The
+     * task runs with the authentication of the user who created it.
+     *
+     * @param job
+     *            database record of the task
+     * @throws DAOException
+     *             if the client of the user cannot be loaded
+     */
+    public KitodoScriptExecutionTask(Job job) throws DAOException {
+        super(job);
+        try (JsonReader reader = Json.createReader(new StringReader(job.getParameters()))) {
+            JsonObject parameters = reader.readObject();
+            this.script = parameters.getString("script");
+            this.processIds = parameters.getJsonArray("processes").getValuesAs(JsonNumber.class).stream()
+                    .map(JsonNumber::intValue).collect(Collectors.toList());
+            this.authentication = getAuthentication(parameters.getString("user", null), parameters.getInt("client", 0));
+        }
+        this.errors = Collections.synchronizedMap(new LinkedHashMap<>());
+        if (Objects.nonNull(job.getCheckpoint())) {
+            try (JsonReader reader = Json.createReader(new StringReader(job.getCheckpoint()))) {
+                JsonObject checkpoint = reader.readObject();
+                this.position = checkpoint.getInt("position");
+                for (Map.Entry<String, JsonValue> error : checkpoint.getJsonObject("errors").entrySet()) {
+                    errors.put(Integer.valueOf(error.getKey()), ((JsonString) error.getValue()).getString());
+                }
+            }
+        }
+    }
+
+    private static Authentication getAuthentication(String login, int clientId) throws DAOException {
+        if (Objects.isNull(login)) {
+            return null;
+        }
+        SecurityUserDetails user = (SecurityUserDetails) ServiceManager.getUserService().loadUserByUsername(login);
+        if (clientId > 0) {
+            user.setSessionClient(ServiceManager.getClientService().getById(clientId));
+        }
+        return new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+    }
+
+    /**
+     * <b>Clone constructor.</b><!-- --> Provides the ability to restart the
+     * task if it was previously interrupted. The copy continues with the first
+     * process not yet processed.
+     *
+     * @param source
+     *            terminated task
+     */
+    private KitodoScriptExecutionTask(KitodoScriptExecutionTask source) {
+        super(source);
+        this.script = source.script;
+        this.processIds = source.processIds;
+        this.authentication = source.authentication;
+        this.position = source.position;
+        this.errors = source.errors;
+    }
+
+    /**
+     * Creates a new task based on this task to be able to restart the
+     * interrupted run.
+     *
+     * @return a new task based on this task
+     */
+    @Override
+    public KitodoScriptExecutionTask replace() {
+        return new KitodoScriptExecutionTask(this);
+    }
+
+    /**
+     * Returns the script, the process IDs and the user of the run, to create
+     * the task again after a restart of the application.
+     *
+     * @return the parameters of the task
+     */
+    @Override
+    protected String getJobParameters() {
+        JsonArrayBuilder processesBuilder = Json.createArrayBuilder();
+        processIds.forEach(processesBuilder::add);
+        JsonObjectBuilder parameters = Json.createObjectBuilder().add("script", script).add("processes",
+            processesBuilder);
+        if (Objects.nonNull(authentication) && authentication.getPrincipal() instanceof SecurityUserDetails) {
+            SecurityUserDetails user = (SecurityUserDetails) authentication.getPrincipal();
+            parameters.add("user", user.getLogin());
+            if (Objects.nonNull(user.getSessionClient())) {
+                parameters.add("client", user.getSessionClient().getId());
+            }
+        }
+        return parameters.build().toString();
+    }
+
+    /**
+     * Returns the index of the next process to execute the script for and the
+     * errors so far.
+     *
+     * @return the checkpoint of the task
+     */
+    @Override
+    protected String getCheckpoint() {
+        JsonObjectBuilder errorsBuilder = Json.createObjectBuilder();
+        synchronized (errors) {
+            errors.forEach((processId, message) -> errorsBuilder.add(processId.toString(), message));
+        }
+        return Json.createObjectBuilder().add("position", position).add("errors", errorsBuilder).build().toString();
+    }
+
+    /**
+     * Returns whether the run can be retried. This is only the case if the
+     * script was not yet executed for all processes.
+     *
+     * @return whether the task can be retried
+     */
+    @Override
+    protected boolean isRetryable() {
+        return super.isRetryable() && position < processIds.size();
+    }
+
+    /**
+     * Returns the error messages of the processes for which the script failed.
+     *
+     * @return error messages by process ID
+     */
+    public Map<Integer, String> getErrors() {
+        return Collections.unmodifiableMap(errors);
+    }
+
+    /**
+     * Returns whether there is a result log to download. This is the case as
+     * soon as the script was executed for the first processes.
+     *
+     * @return whether there is a result log
+     */
+    public boolean isResultLogAvailable() {
+        return position > 0;
+    }
+
+    /**
+     * Returns the result log of the run. The log has one line for each
+     * process the script was executed for so far, with the process ID, the
+     * result and, if the script failed, the error message, separated by
+     * tabs.
+     *
+     * @return the result log
+     */
+    public String getResultLog() {
+        StringBuilder resultLog = new StringBuilder();
+        int processed = position;
+        for (Integer processId : processIds.subList(0, processed)) {
+            String error = errors.get(processId);
+            resultLog.append(processId).append('\t');
+            if (Objects.isNull(error)) {
+                resultLog.append("OK");
+            } else {
+                resultLog.append("ERROR\t").append(error.replaceAll("\\s+", " "));
+            }
+            resultLog.append(System.lineSeparator());
+        }
+        return resultLog.toString();
+    }
+
+    /**
+     * Executes the script for the processes, batch by batch. The processes
+     * of a batch are evicted from the Hibernate session of the thread after
+     * the checkpoint was saved, so that the session does not grow with every
+     * batch.
+     */
+    @Override
+    public void run() {
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        int batchSize = Math.max(1, ConfigCore.getIntParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_BATCH));
+        int threads = Math.max(1, ConfigCore.getIntParameterOrDefaultValue(ParameterCore.KITODO_SCRIPT_THREADS));
+        try {
+            KitodoScriptService kitodoScriptService = new KitodoScriptService();
+            while (position < processIds.size()) {
+                List<Integer> batch = new ArrayList<>(
+                        processIds.subList(position, Math.min(position + batchSize, processIds.size())));
+                setWorkDetail(Helper.getTranslation("processes") + " " + (position + 1) + "-"
+                        + (position + batch.size()));
+                List<Process> processes = ServiceManager.getProcessService()
+                        .getByQuery("FROM Process WHERE id IN (:ids)", Collections.singletonMap("ids", batch));
+                Set<Integer> notFound = new HashSet<>(batch);
+                for (Process process : processes) {
+                    notFound.remove(process.getId());
+                }
+                for (Integer processId : notFound) {
+                    errors.put(processId, "Process not found");
+                }
+                errors.putAll(kitodoScriptService.execute(processes, script, threads));
+                position += batch.size();
+                setProgress(100d * position / processIds.size());
+                saveCheckpoint();
+                for (Process process : processes) {
+                    ServiceManager.getProcessService().evict(process);
+                }
+                if (isInterrupted()) {
+                    return;
+                }
+            }
+            setWorkDetail(null);
+            if (!errors.isEmpty()) {
+                setException(new CommandException(Helper.getTranslation("errorKitodoScript",
+                    Arrays.asList(Integer.toString(errors.size()), Integer.toString(processIds.size())))));
+            }
+        } catch (CommandException e) {
+            logger.error("Kitodo script {} cannot be executed: {}", script, e.getMessage());
+            setException(e);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
@@ -0,0 +1,374 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.helper.tasks;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.net.URISyntaxException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import javax.json.Json;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
+import javax.json.JsonReader;
+import javax.json.JsonString;
+import javax.json.JsonValue;
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.kitodo.api.schemaconverter.DataRecord;
+import org.kitodo.config.ConfigCore;
+import org.kitodo.config.enums.ParameterCore;
+import org.kitodo.data.database.beans.Job;
+import org.kitodo.data.database.beans.Template;
+import org.kitodo.data.database.exceptions.DAOException;
+import org.kitodo.data.exceptions.DataException;
+import org.kitodo.exceptions.CommandException;
+import org.kitodo.exceptions.ImportException;
+import org.kitodo.exceptions.InvalidMetadataValueException;
+import org.kitodo.exceptions.NoRecordFoundException;
+import org.kitodo.exceptions.NoSuchMetadataFieldException;
+import org.kitodo.exceptions.ProcessGenerationException;
+import org.kitodo.exceptions.UnsupportedFormatException;
+import org.kitodo.production.helper.Helper;
+import org.kitodo.production.helper.TempProcess;
+import org.kitodo.production.process.ProcessGenerator;
+import org.kitodo.production.security.SecurityUserDetails;
+import org.kitodo.production.services.ServiceManager;
+import org.kitodo.production.services.data.ImportService;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.w3c.dom.Document;
+import org.xml.sax.SAXException;
+
+/**
+ * A task to import processes for a list of record IDs from a catalog in the
+ * background. The records are requested from the catalog concurrently, with a
+ * limited number of requests per catalog, and converted to the internal format
+ * on a pool of threads for the processors. The processes are created and
+ * saved one after another by the task itself, in the order of the record IDs.
+ * If the task is interrupted, it can be restarted and continues with the first
+ * record ID not yet saved. Record IDs which could not be imported are
+ * collected with the error message and reported when the task has finished.
+ * The position and the errors are saved as checkpoint after each record, so
+ * the import is resumed from there after a restart of the application.
+ */
+public class MassImportTask extends EmptyTask {
+    private static final Logger logger = LogManager.getLogger(MassImportTask.class);
+
+    /**
+     * Limits of the requests to each catalog, shared by all mass imports.
+     */
+    private static final Map<String, CatalogRequestLimiter> catalogRequestLimiters = new ConcurrentHashMap<>();
+
+    /**
+     * Number of records which are requested in advance per allowed
+     * connection.
+     */
+    private static final int RECORDS_AHEAD_PER_CONNECTION = 4;
+
+    private final String catalog;
+    private final List<String> recordIds;
+    private final int projectId;
+    private final int templateId;
+    private final Authentication authentication;
+
+    /**
+     * Index of the next record ID to import.
+     */
+    private volatile int position;
+
+    /**
+     * Error messages by record ID of the records that could not be imported.
+     */
+    private final Map<String, String> errors;
+
+    /**
+     * Creates a new task to import processes from a catalog. The task runs
+     * with the authentication of the user who creates it.
+     *
+     * @param catalog
+     *            the catalog to import from
+     * @param recordIds
+     *            IDs of the records to import
+     * @param projectId
+     *            the project of the processes
+     * @param templateId
+     *            the template of the processes
+     */
+    public MassImportTask(String catalog, List<String> recordIds, int projectId, int templateId) {
+        super(catalog);
+        this.catalog = catalog;
+        this.recordIds = recordIds;
+        this.projectId = projectId;
+        this.templateId = templateId;
+        this.authentication = SecurityContextHolder.getContext().getAuthentication();
+        this.errors = Collections.synchronizedMap(new LinkedHashMap<>());
+    }
+
+    /**
+     * Resume constructor. Creates the task again after a restart of the
+     * application, to continue with the first record ID not yet imported. The
+     * task runs with the authentication of the user who created it.
+     *
+     * @param job
+     *            database record of the task
+     * @throws DAOException
+     *             if the client of the user cannot be loaded
+     */
+    public MassImportTask(Job job) throws DAOException {
+        super(job);
+        try (JsonReader reader = Json.createReader(new StringReader(job.getParameters()))) {
+            JsonObject parameters = reader.readObject();
+            this.catalog = parameters.getString("catalog");
+            this.recordIds = parameters.getJsonArray("recordIds").getValuesAs(JsonString.class).stream()
+                    .map(JsonString::getString).collect(Collectors.toList());
+            this.projectId = parameters.getInt("project");
+            this.templateId = parameters.getInt("template");
+            this.authentication = getAuthentication(parameters.getString("user", null), parameters.getInt("client", 0));
+        }
+        this.errors = Collections.synchronizedMap(new LinkedHashMap<>());
+        if (Objects.nonNull(job.getCheckpoint())) {
+            try (JsonReader reader = Json.createReader(new StringReader(job.getCheckpoint()))) {
+                JsonObject checkpoint = reader.readObject();
+                this.position = checkpoint.getInt("position");
+                for (Map.Entry<String, JsonValue> error : checkpoint.getJsonObject("errors").entrySet()) {
+                    errors.put(error.getKey(), ((JsonString) error.getValue()).getString());
+                }
+            }
+        }
+    }
+
+    private static Authentication getAuthentication(String login, int clientId) throws DAOException {
+        if (Objects.isNull(login)) {
+            return null;
+        }
+        SecurityUserDetails user = (SecurityUserDetails) ServiceManager.getUserService().loadUserByUsername(login);
+        if (clientId > 0) {
+            user.setSessionClient(ServiceManager.getClientService().getById(clientId));
+        }
+        return new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+    }
+
+    /**
+     * <b>Clone constructor.</b><!-- --> Provides the ability to restart the
+     * task if it was previously interrupted. The copy continues with the first
+     * record ID not yet imported.
+     *
+     * @param source
+     *            terminated task
+     */
+    private MassImportTask(MassImportTask source) {
+        super(source);
+        this.catalog = source.catalog;
+        this.recordIds = source.recordIds;
+        this.projectId = source.projectId;
+        this.templateId = source.templateId;
+        this.authentication = source.authentication;
+        this.position = source.position;
+        this.errors = source.errors;
+    }
+
+    /**
+     * Creates a new task based on this task to be able to restart the
+     * interrupted import.
+     *
+     * @return a new task based on this task
+     */
+    @Override
+    public MassImportTask replace() {
+        return new MassImportTask(this);
+    }
+
+    /**
+     * Returns the record IDs, the project, the template and the user of the
+     * import, to create the task again after a restart of the application.
+     *
+     * @return the parameters of the task
+     */
+    @Override
+    protected String getJobParameters() {
+        JsonArrayBuilder recordIdsBuilder = Json.createArrayBuilder();
+        recordIds.forEach(recordIdsBuilder::add);
+        JsonObjectBuilder parameters = Json.createObjectBuilder().add("catalog", catalog)
+                .add("recordIds", recordIdsBuilder).add("project", projectId).add("template", templateId);
+        if (Objects.nonNull(authentication) && authentication.getPrincipal() instanceof SecurityUserDetails) {
+            SecurityUserDetails user = (SecurityUserDetails) authentication.getPrincipal();
+            parameters.add("user", user.getLogin());
+            if (Objects.nonNull(user.getSessionClient())) {
+                parameters.add("client", user.getSessionClient().getId());
+            }
+        }
+        return parameters.build().toString();
+    }
+
+    /**
+     * Returns the index of the next record ID to import and the errors so far.
+     *
+     * @return the checkpoint of the task
+     */
+    @Override
+    protected String getCheckpoint() {
+        JsonObjectBuilder errorsBuilder = Json.createObjectBuilder();
+        synchronized (errors) {
+            errors.forEach(errorsBuilder::add);
+        }
+        return Json.createObjectBuilder().add("position", position).add("errors", errorsBuilder).build().toString();
+    }
+
+    /**
+     * Returns whether the import can be retried. This is only the case if not
+     * all records were tried to be imported yet.
+     *
+     * @return whether the task can be retried
+     */
+    @Override
+    protected boolean isRetryable() {
+        return super.isRetryable() && position < recordIds.size();
+    }
+
+    /**
+     * Returns the error messages of the records that could not be imported.
+     *
+     * @return error messages by record ID
+     */
+    public Map<String, String> getErrors() {
+        return Collections.unmodifiableMap(errors);
+    }
+
+    /**
+     * Imports the processes.
+     */
+    @Override
+    public void run() {
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        int connections = ConfigCore.getIntParameterOrDefaultValue(ParameterCore.MASS_IMPORT_CATALOG_CONNECTIONS);
+        CatalogRequestLimiter requestLimiter = catalogRequestLimiters.computeIfAbsent(catalog,
+            key -> new CatalogRequestLimiter(connections,
+                    ConfigCore.getIntParameterOrDefaultValue(ParameterCore.MASS_IMPORT_CATALOG_REQUEST_INTERVAL)));
+        try {
+            importRecords(ServiceManager.getImportService(), ServiceManager.getTemplateService().getById(templateId),
+                requestLimiter, connections);
+        } catch (DAOException e) {
+            setException(e);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    /**
+     * Imports the records from the current position on.
+     *
+     * @param importService
+     *            service to request, convert and save the records with
+     * @param template
+     *            the template of the processes
+     * @param requestLimiter
+     *            limiter of the requests to the catalog
+     * @param connections
+     *            number of requests to the catalog at the same time
+     */
+    void importRecords(ImportService importService, Template template, CatalogRequestLimiter requestLimiter,
+            int connections) {
+        ExecutorService requests = Executors.newFixedThreadPool(connections);
+        ExecutorService conversions = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        try {
+            List<Locale.LanguageRange> priorityList = importService.getMetadataLanguagePriorityList();
+            ProcessGenerator processGenerator = new ProcessGenerator();
+            Deque<CompletableFuture<Document>> documents = new ArrayDeque<>();
+            int requested = position;
+            while (position < recordIds.size()) {
+                while (requested < recordIds.size() && documents.size() < connections * RECORDS_AHEAD_PER_CONNECTION) {
+                    String recordId = recordIds.get(requested++);
+                    documents.add(CompletableFuture
+                            .supplyAsync(() -> requestRecord(importService, requestLimiter, recordId), requests)
+                            .thenApplyAsync(dataRecord -> convertRecord(importService, dataRecord, recordId), conversions));
+                }
+                String recordId = recordIds.get(position);
+                setWorkDetail(recordId);
+                try {
+                    TempProcess tempProcess = importService.createTempProcessFromDocument(processGenerator,
+                        documents.remove().get(), templateId, projectId);
+                    importService.saveImportedProcess(tempProcess, template, priorityList);
+                } catch (ExecutionException e) {
+                    addError(recordId, Objects.nonNull(e.getCause()) ? e.getCause() : e);
+                } catch (ProcessGenerationException | DataException | IOException | InvalidMetadataValueException
+                        | NoSuchMetadataFieldException | CommandException e) {
+                    addError(recordId, e);
+                }
+                position++;
+                setProgress(100d * position / recordIds.size());
+                saveCheckpoint();
+                if (isInterrupted()) {
+                    return;
+                }
+            }
+            setWorkDetail(null);
+            if (!errors.isEmpty()) {
+                setException(new ImportException(Helper.getTranslation("errorMassImport",
+                    Arrays.asList(Integer.toString(errors.size()), Integer.toString(recordIds.size()),
+                        String.join(", ", errors.keySet())))));
+            }
+        } catch (InterruptedException e) {
+            interrupt();
+        } finally {
+            requests.shutdownNow();
+            conversions.shutdownNow();
+        }
+    }
+
+    private DataRecord requestRecord(ImportService importService, CatalogRequestLimiter requestLimiter,
+            String recordId) {
+        try {
+            requestLimiter.acquire();
+            try {
+                return importService.getDataRecordById(catalog, recordId);
+            } finally {
+                requestLimiter.release();
+            }
+        } catch (InterruptedException | NoRecordFoundException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private Document convertRecord(ImportService importService, DataRecord dataRecord, String recordId) {
+        try {
+            return importService.convertDataRecordToInternal(dataRecord, catalog, false, recordId);
+        } catch (UnsupportedFormatException | URISyntaxException | IOException | ParserConfigurationException
+                | SAXException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private void addError(String recordId, Throwable cause) {
+        logger.error("Importing record {} from {} failed: {}", recordId, catalog, cause.getMessage(), cause);
+        errors.put(recordId, Objects.toString(cause.getMessage(), cause.getClass().getSimpleName()));
+    }
+}
@@ -11,9 +11,12 @@
 
 package org.kitodo.production.helper.tasks;
 
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.ConcurrentModificationException;
+import java.util.Date;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
@@ -22,16 +25,32 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
+import javax.persistence.PersistenceException;
+
+import org.apache.commons.lang.exception.ExceptionUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.kitodo.config.ConfigCore;
 import org.kitodo.config.enums.ParameterCore;
+import org.kitodo.data.database.beans.Job;
+import org.kitodo.data.database.enums.JobState;
+import org.kitodo.data.database.exceptions.DAOException;
 import org.kitodo.production.helper.tasks.EmptyTask.Behaviour;
+import org.kitodo.production.services.ServiceManager;
 
 /**
  * The class TaskManager serves to handle the execution of threads. It can be
  * user controlled by the “Long running task manager”, backed by
  * {@link org.kitodo.production.forms.TaskManagerForm}.
+ *
+ * <p>
+ * Tasks which can be resumed are recorded in the job table of the database,
+ * together with their checkpoint and the number of retries. Their records are
+ * kept until the tasks are removed from the task list, so that the tasks can
+ * be resumed from their last checkpoint after a restart of the application.
  */
 public class TaskManager {
+    private static final Logger logger = LogManager.getLogger(TaskManager.class);
 
     /**
      * The field singletonInstance holds the singleton instance of the
@@ -72,9 +91,37 @@ public class TaskManager {
      *            task to add
      */
     public static void addTask(EmptyTask task) {
+        createJob(task);
         singleton().taskList.addLast(task);
     }
 
+    /**
+     * Records a task which can be resumed in the database.
+     *
+     * @param task
+     *            task to record
+     */
+    private static void createJob(EmptyTask task) {
+        String parameters = task.getJobParameters();
+        if (Objects.isNull(parameters)) {
+            return;
+        }
+        Job job = new Job();
+        job.setType(task.getClass().getName());
+        job.setTitle(task.getName());
+        job.setParameters(parameters);
+        job.setCheckpoint(task.getCheckpoint());
+        job.setCreationDate(new Date());
+        job.setModificationDate(job.getCreationDate());
+        try {
+            ServiceManager.getJobService().saveToDatabase(job);
+            task.setJob(job);
+        } catch (DAOException e) {
+            logger.error("Task \"{}\" cannot be recorded and will not be resumed after a restart: {}", task.getName(),
+                e.getMessage(), e);
+        }
+    }
+
     /**
      * The procedure will add a task to the task list if it
      * has not yet been added right after the last task that is currently
@@ -101,6 +148,111 @@ public class TaskManager {
         }
     }
 
+    /**
+     * Removes the database record of a task, if any. This must be called when
+     * a task is removed from the task list.
+     *
+     * @param task
+     *            task whose record is to remove
+     */
+    static void removeJob(EmptyTask task) {
+        Job job = task.getJob();
+        if (Objects.isNull(job)) {
+            return;
+        }
+        task.setJob(null);
+        try {
+            ServiceManager.getJobService().removeFromDatabase(job);
+        } catch (DAOException e) {
+            logger.error("Record of task \"{}\" cannot be removed: {}", task.getName(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Creates the tasks for the jobs which were not finished when the
+     * application was shut down and adds them to the task list. Jobs which
+     * are already working are added first. Failed jobs are kept for inspection
+     * as long as failed tasks are kept in the task list.
+     */
+    static void resumeJobs() {
+        List<Job> jobs;
+        try {
+            jobs = new ArrayList<>(ServiceManager.getJobService().getByState(JobState.WORKING));
+            jobs.addAll(ServiceManager.getJobService().getByState(JobState.NEW));
+            removeExpiredJobs(ServiceManager.getJobService().getByState(JobState.FAILED));
+        } catch (PersistenceException e) {
+            logger.error("Jobs cannot be resumed: {}", e.getMessage(), e);
+            return;
+        }
+        for (Job job : jobs) {
+            try {
+                EmptyTask task = Class.forName(job.getType()).asSubclass(EmptyTask.class).getConstructor(Job.class)
+                        .newInstance(job);
+                singleton().taskList.addLast(task);
+                logger.info("Resuming task \"{}\" at {}%", job.getTitle(), job.getProgress());
+            } catch (ReflectiveOperationException | ClassCastException e) {
+                logger.error("Task \"{}\" cannot be resumed: {}", job.getTitle(), e.getMessage(), e);
+                job.setState(JobState.FAILED);
+                job.setErrorLog(ExceptionUtils.getStackTrace(e));
+                job.setModificationDate(new Date());
+                try {
+                    ServiceManager.getJobService().saveToDatabase(job);
+                } catch (DAOException daoException) {
+                    logger.error(daoException.getMessage(), daoException);
+                }
+            }
+        }
+    }
+
+    private static void removeExpiredJobs(List<Job> failedJobs) {
+        Duration failedMaxAge = ConfigCore.getDurationParameter(ParameterCore.TASK_MANAGER_KEEP_FAILED_MINS,
+            ChronoUnit.MINUTES);
+        Date expiry = new Date(System.currentTimeMillis() - failedMaxAge.toMillis());
+        for (Job job : failedJobs) {
+            if (Objects.isNull(job.getModificationDate()) || job.getModificationDate().before(expiry)) {
+                try {
+                    ServiceManager.getJobService().removeFromDatabase(job);
+                } catch (DAOException e) {
+                    logger.error(e.getMessage(), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Saves the state, the progress and the checkpoint of a task to its
+     * database record, if any. If the task has crashed, the stack trace of the
+     * exception is saved as error log.
+     *
+     * @param task
+     *            task to save
+     * @param state
+     *            state of the job
+     */
+    static void saveJob(EmptyTask task, JobState state) {
+        Job job = task.getJob();
+        if (Objects.isNull(job)) {
+            return;
+        }
+        synchronized (job) {
+            job.setState(state);
+            job.setProgress(task.getProgress());
+            String checkpoint = task.getCheckpoint();
+            if (Objects.nonNull(checkpoint)) {
+                job.setCheckpoint(checkpoint);
+            }
+            if (Objects.nonNull(task.getException())) {
+                job.setErrorLog(task.getLongMessage());
+            }
+            job.setModificationDate(new Date());
+            try {
+                ServiceManager.getJobService().saveToDatabase(job);
+            } catch (DAOException e) {
+                logger.error("Record of task \"{}\" cannot be saved: {}", task.getName(), e.getMessage(), e);
+            }
+        }
+    }
+
     /**
      * Returns a copy of the task list usable for
      * displaying. The result object cannot be used to modify the list. Use
@@ -145,7 +297,13 @@ public class TaskManager {
         do {
             redo = false;
             try {
-                singleton().taskList.removeIf(emptyTask -> emptyTask.getState().equals(Thread.State.TERMINATED));
+                singleton().taskList.removeIf(emptyTask -> {
+                    if (emptyTask.getState().equals(Thread.State.TERMINATED)) {
+                        removeJob(emptyTask);
+                        return true;
+                    }
+                    return false;
+                });
             } catch (ConcurrentModificationException listModifiedByAnotherThreadWhileIterating) {
                 redo = true;
             }
@@ -198,11 +356,16 @@ public class TaskManager {
     /**
      * The function will be called by the TaskSitter to gracefully
      * exit the task manager as well as its managed threads during container
-     * shutdown.
+     * shutdown. The database records of the tasks are kept, so that the tasks
+     * are resumed when the application is started again.
      */
     static void shutdownNow() {
-        stopAndDeleteAllTasks();
         singleton().taskSitter.shutdownNow();
+        for (EmptyTask task : getTaskList()) {
+            if (task.isAlive()) {
+                task.interrupt(Behaviour.PREPARE_FOR_RESTART);
+            }
+        }
     }
 
     /**
@@ -222,6 +385,7 @@ public class TaskManager {
                         task.interrupt(Behaviour.DELETE_IMMEDIATELY);
                     } else {
                         inspector.remove();
+                        removeJob(task);
                     }
                 }
             } catch (ConcurrentModificationException listModifiedByAnotherThreadWhileIterating) {
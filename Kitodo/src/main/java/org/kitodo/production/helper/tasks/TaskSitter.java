@@ -15,8 +15,10 @@ import java.time.Duration;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalUnit;
 import java.util.ConcurrentModificationException;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.ListIterator;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 
@@ -24,8 +26,12 @@ import javax.servlet.ServletContextEvent;
 import javax.servlet.ServletContextListener;
 import javax.servlet.annotation.WebListener;
 
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.kitodo.config.ConfigCore;
 import org.kitodo.config.enums.ParameterCore;
+import org.kitodo.data.database.beans.Job;
+import org.kitodo.data.database.enums.JobState;
 import org.kitodo.production.helper.tasks.EmptyTask.Behaviour;
 
 /**
@@ -34,17 +40,20 @@ import org.kitodo.production.helper.tasks.EmptyTask.Behaviour;
  * method of the TaskSitter every some seconds to delete threads that have died,
  * replace threads that are to be restarted by new copies of themselves (a
  * Thread can never be started twice) and finally starts some new threads if
- * there aren’t too many working any more. Several limits are configurable for
- * the {@link #run()} method.
+ * there aren’t too many working any more, in total and per type of task.
+ * Several limits are configurable for the {@link #run()} method.
  *
  * <p>
  * On shutdown of the servlet container, the TaskSitter will try to shut down
  * all threads that are still running. Because the TaskManager is singleton (its
  * constructor is private) a caring class is needed which will be available for
- * instantiation to the servlet container.
+ * instantiation to the servlet container. On start of the servlet container,
+ * the TaskSitter will resume the tasks which were not finished at shutdown.
  */
 @WebListener
 public class TaskSitter implements Runnable, ServletContextListener {
+    private static final Logger logger = LogManager.getLogger(TaskSitter.class);
+
     /**
      * The field autoRunLimit holds the number of threads which at most are
      * allowed to be started automatically. It is by default initialised by the
@@ -69,13 +78,14 @@ public class TaskSitter implements Runnable, ServletContextListener {
     }
 
     /**
-     * Currently, there is nothing to do when the servlet is loading.
+     * When the servlet is loading, the tasks which were not finished when the
+     * application was shut down are resumed.
      *
      * @see javax.servlet.ServletContextListener#contextInitialized(javax.servlet.ServletContextEvent)
      */
     @Override
     public void contextInitialized(ServletContextEvent argument) {
-        // nothing is done here
+        TaskManager.resumeJobs();
     }
 
     /**
@@ -116,15 +126,18 @@ public class TaskSitter implements Runnable, ServletContextListener {
      *
      * <p>
      * Running tasks reduce the clearance to run new tasks. (However, the
-     * clearance must not become negative.) New tasks will be added to the
-     * launch list, except if they have already been marked for removal, of
-     * course. If a task has terminated, it is handled as specified by its
+     * clearance must not become negative.) They are counted per type of task,
+     * too, to respect the configured limits per type. New tasks will be added
+     * to the launch list, except if they have already been marked for removal,
+     * of course. If a task has terminated, it is handled as specified by its
      * behavior variable: All tasks that are marked DELETE_IMMEDIATELY will
      * instantly be disposed of; otherwise, they will be kept as long as
      * configured and only be removed if their dead body has become older. Tasks
      * marked PREPARE_FOR_RESTART will be replaced (because a
      * {@link java.lang.Thread} cannot be started a second time) by a copy of
-     * them.
+     * them. Crashed tasks which can be resumed are replaced by a copy of them
+     * as well, to retry them from their last checkpoint, as often as
+     * configured. The database records of the tasks are updated accordingly.
      *
      * <p>
      * If a ConcurrentModificationException arises during list examination, the
@@ -138,7 +151,8 @@ public class TaskSitter implements Runnable, ServletContextListener {
      * to the bottom of the list and we therefore want to remove older ones
      * top-down we cannot do this before we know their count, thus we cannot do
      * this while iterating.) Last, new threads will be started up to the
-     * remaining available clearance.
+     * remaining available clearance, skipping threads whose type has reached
+     * its limit.
      *
      * @see java.lang.Runnable#run()
      */
@@ -153,6 +167,7 @@ public class TaskSitter implements Runnable, ServletContextListener {
         LinkedList<EmptyTask> finishedThreads = new LinkedList<>();
         LinkedList<EmptyTask> failedThreads = new LinkedList<>();
         int availableClearance = autoRunLimit;
+        Map<String, Integer> workingByType = new HashMap<>();
 
         int successfulMaxCount = ConfigCore.getIntParameterOrDefaultValue(ParameterCore.TASK_MANAGER_KEEP_SUCCESSFUL);
         int failedMaxCount = ConfigCore.getIntParameterOrDefaultValue(ParameterCore.TASK_MANAGER_KEEP_FAILED);
@@ -160,6 +175,7 @@ public class TaskSitter implements Runnable, ServletContextListener {
                 ChronoUnit.MINUTES);
         Duration failedMaxAge = ConfigCore.getDurationParameter(ParameterCore.TASK_MANAGER_KEEP_FAILED_MINS,
                 ChronoUnit.MINUTES);
+        int maxRetries = ConfigCore.getIntParameterOrDefaultValue(ParameterCore.TASK_MANAGER_MAX_RETRIES);
 
         ListIterator<EmptyTask> position = taskManager.taskList.listIterator();
         EmptyTask task;
@@ -170,10 +186,16 @@ public class TaskSitter implements Runnable, ServletContextListener {
                     case WORKING:
                     case STOPPING:
                         availableClearance = Math.max(availableClearance - 1, 0);
+                        workingByType.merge(task.getClass().getSimpleName(), 1, Integer::sum);
+                        Job job = task.getJob();
+                        if (Objects.nonNull(job) && !JobState.WORKING.equals(job.getState())) {
+                            TaskManager.saveJob(task, JobState.WORKING);
+                        }
                         break;
                     case NEW:
                         if (Behaviour.DELETE_IMMEDIATELY.equals(task.getBehaviour())) {
                             position.remove();
+                            TaskManager.removeJob(task);
                         } else {
                             launchableThreads.addLast(task);
                         }
@@ -182,6 +204,7 @@ public class TaskSitter implements Runnable, ServletContextListener {
                         switch (task.getBehaviour()) {
                             case DELETE_IMMEDIATELY:
                                 position.remove();
+                                TaskManager.removeJob(task);
                                 break;
                             case PREPARE_FOR_RESTART:
                                 EmptyTask replacement = task.replace();
@@ -195,8 +218,25 @@ public class TaskSitter implements Runnable, ServletContextListener {
                                 Duration durationDead = task.getDurationDead();
                                 if (Objects.isNull(durationDead)) {
                                     task.setTimeOfDeath();
+                                    if (taskFinishedSuccessfully) {
+                                        TaskManager.removeJob(task);
+                                    } else if (Objects.nonNull(task.getJob())) {
+                                        Job failedJob = task.getJob();
+                                        if (failedJob.getRetries() < maxRetries && task.isRetryable()) {
+                                            failedJob.setRetries(failedJob.getRetries() + 1);
+                                            TaskManager.saveJob(task, JobState.NEW);
+                                            EmptyTask retry = task.retry();
+                                            position.set(retry);
+                                            launchableThreads.addLast(retry);
+                                            logger.info("Retrying task \"{}\" ({}/{})", task.getName(),
+                                                failedJob.getRetries(), maxRetries);
+                                            break;
+                                        }
+                                        TaskManager.saveJob(task, JobState.FAILED);
+                                    }
                                 } else if (durationDead.compareTo(taskFinishedSuccessfully ? successfulMaxAge : failedMaxAge) > 0) {
                                     position.remove();
+                                    TaskManager.removeJob(task);
                                     break;
                                 }
                                 if (taskFinishedSuccessfully) {
@@ -218,14 +258,37 @@ public class TaskSitter implements Runnable, ServletContextListener {
 
         while (failedThreads.size() > failedMaxCount && (task = failedThreads.pollFirst()) != null) {
             taskManager.taskList.remove(task);
+            TaskManager.removeJob(task);
         }
 
-        while (launchableThreads.size() > availableClearance) {
-            launchableThreads.removeLast();
+        Map<String, Integer> typeLimits = getTypeLimits();
+        while (availableClearance > 0 && (task = launchableThreads.pollFirst()) != null) {
+            String type = task.getClass().getSimpleName();
+            int working = workingByType.getOrDefault(type, 0);
+            if (working < typeLimits.getOrDefault(type, Integer.MAX_VALUE)) {
+                task.start();
+                workingByType.put(type, working + 1);
+                availableClearance--;
+            }
         }
-        while ((task = launchableThreads.pollFirst()) != null) {
-            task.start();
+    }
+
+    /**
+     * Returns the configured limits of tasks of a type run in parallel.
+     *
+     * @return the limits by simple class name of the task
+     */
+    private static Map<String, Integer> getTypeLimits() {
+        Map<String, Integer> typeLimits = new HashMap<>();
+        for (String entry : ConfigCore.getStringArrayParameter(ParameterCore.TASK_MANAGER_TYPE_LIMITS)) {
+            int colon = entry.lastIndexOf(':');
+            try {
+                typeLimits.put(entry.substring(0, colon).trim(), Integer.parseInt(entry.substring(colon + 1).trim()));
+            } catch (IndexOutOfBoundsException | NumberFormatException e) {
+                logger.warn("Invalid task type limit: {}", entry);
+            }
         }
+        return typeLimits;
     }
 
     /**
@@ -22,6 +22,7 @@ import org.kitodo.production.services.data.DocketService;
 import org.kitodo.production.services.data.FilterService;
 import org.kitodo.production.services.data.FolderService;
 import org.kitodo.production.services.data.ImportService;
+import org.kitodo.production.services.data.JobService;
 import org.kitodo.production.services.data.LdapGroupService;
 import org.kitodo.production.services.data.LdapServerService;
 import org.kitodo.production.services.data.ListColumnService;
@@ -66,6 +67,7 @@ public class ServiceManager {
     private static ImageService imageService;
     private static ImportService importService;
     private static IndexingService indexingService;
+    private static JobService jobService;
     private static LdapGroupService ldapGroupService;
     private static LdapServerService ldapServerService;
     private static ListColumnService listColumnService;
@@ -305,6 +307,12 @@ public class ServiceManager {
         }
     }
 
+    private static void initializeJobService() {
+        if (Objects.isNull(jobService)) {
+            jobService = JobService.getInstance();
+        }
+    }
+
     private static void initializeIndexingService() {
         if (Objects.isNull(indexingService)) {
             indexingService = IndexingService.getInstance();
@@ -680,6 +688,16 @@ public class ServiceManager {
         return commentService;
     }
 
+    /**
+     * Initialize JobService if it is not yet initialized and return it.
+     *
+     * @return JobService object
+     */
+    public static JobService getJobService() {
+        initializeJobService();
+        return jobService;
+    }
+
     /**
      * Initialize IndexingService if it is not yet initialize and return it.
      *
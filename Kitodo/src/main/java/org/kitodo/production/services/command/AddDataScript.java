@@ -44,8 +44,6 @@ public class AddDataScript extends EditDataScript {
         metadataEntry.setValue(metadataScript.getValue());
         metadataEntry.setDomain(MdSec.DMD_SEC);
         metadataCollection.add(metadataEntry);
-
-        saveChanges(workpiece, process);
     }
 
 }
@@ -11,15 +11,14 @@
 
 package org.kitodo.production.services.command;
 
-import io.reactivex.Flowable;
-import io.reactivex.schedulers.Schedulers;
-
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Random;
+import java.util.concurrent.CompletableFuture;
 
 import org.kitodo.api.command.CommandInterface;
 import org.kitodo.api.command.CommandResult;
@@ -27,7 +26,7 @@ import org.kitodo.serviceloader.KitodoServiceLoader;
 
 public class CommandService {
 
-    private final ArrayList<CommandResult> finishedCommandResults = new ArrayList<>();
+    private final List<CommandResult> finishedCommandResults = Collections.synchronizedList(new ArrayList<>());
     private final Random random = new Random(1000000);
 
     /**
@@ -101,20 +100,18 @@ public class CommandService {
      *
      * @param script
      *            The script.
+     * @return A future of the CommandResult, or null if there is no script.
      */
-    public void runCommandAsync(String script) {
-        if (Objects.nonNull(script)) {
-            KitodoServiceLoader<CommandInterface> serviceLoader = new KitodoServiceLoader<>(CommandInterface.class);
-            CommandInterface commandInterface = serviceLoader.loadModule();
-
-            Flowable<CommandResult> source = Flowable.fromCallable(() ->
-                commandInterface.runCommand(random.nextInt(), script)
-            );
-
-            Flowable<CommandResult> commandBackgroundWorker = source.subscribeOn(Schedulers.io());
-            Flowable<CommandResult> commandResultListener = commandBackgroundWorker.observeOn(Schedulers.single());
-            commandResultListener.subscribe(this::handleCommandResult);
+    public CompletableFuture<CommandResult> runCommandAsync(String script) {
+        if (Objects.isNull(script)) {
+            return null;
         }
+        KitodoServiceLoader<CommandInterface> serviceLoader = new KitodoServiceLoader<>(CommandInterface.class);
+        CommandInterface commandInterface = serviceLoader.loadModule();
+
+        CompletableFuture<CommandResult> commandResult = commandInterface.runCommandAsync(random.nextInt(), script);
+        commandResult.thenAccept(this::handleCommandResult);
+        return commandResult;
     }
 
     /**
@@ -124,12 +121,14 @@ public class CommandService {
      *            The script file.
      * @param parameter
      *            The script parameters.
+     * @return A future of the CommandResult, or null if there is no script.
      */
-    public void runCommandAsync(File scriptFile, List<String> parameter) {
-        if (Objects.nonNull(scriptFile)) {
-            String script = generateScriptString(scriptFile, parameter);
-            runCommandAsync(script);
+    public CompletableFuture<CommandResult> runCommandAsync(File scriptFile, List<String> parameter) {
+        if (Objects.isNull(scriptFile)) {
+            return null;
         }
+        String script = generateScriptString(scriptFile, parameter);
+        return runCommandAsync(script);
     }
 
     /**
@@ -137,11 +136,13 @@ public class CommandService {
      *
      * @param scriptFile
      *            The script file.
+     * @return A future of the CommandResult, or null if there is no script.
      */
-    public void runCommandAsync(File scriptFile) {
-        if (Objects.nonNull(scriptFile)) {
-            runCommandAsync(scriptFile.getAbsolutePath());
+    public CompletableFuture<CommandResult> runCommandAsync(File scriptFile) {
+        if (Objects.isNull(scriptFile)) {
+            return null;
         }
+        return runCommandAsync(scriptFile.getAbsolutePath());
     }
 
     /**
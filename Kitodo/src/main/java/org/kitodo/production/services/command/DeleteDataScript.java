@@ -50,8 +50,6 @@ public class DeleteDataScript extends EditDataScript {
                 }
             }
         }
-        saveChanges(workpiece, process);
-
     }
 
 
@@ -11,23 +11,16 @@
 
 package org.kitodo.production.services.command;
 
-import java.io.IOException;
-import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
 import org.kitodo.api.Metadata;
 import org.kitodo.api.MetadataEntry;
 import org.kitodo.api.dataformat.IncludedStructuralElement;
-import org.kitodo.api.dataformat.Workpiece;
 import org.kitodo.data.database.beans.Process;
-import org.kitodo.data.elasticsearch.exceptions.CustomResponseException;
-import org.kitodo.data.exceptions.DataException;
 import org.kitodo.production.helper.VariableReplacer;
 import org.kitodo.production.helper.metadata.legacytypeimplementations.LegacyMetsModsDigitalDocumentHelper;
 import org.kitodo.production.helper.metadata.legacytypeimplementations.LegacyPrefsHelper;
@@ -35,8 +28,6 @@ import org.kitodo.production.services.ServiceManager;
 
 public abstract class EditDataScript {
 
-    private static final Logger logger = LogManager.getLogger(EditDataScript.class);
-
     /**
      * Processes the given script for the given process.
      * @param metadataFile - the file to be changed
@@ -112,19 +103,4 @@ public abstract class EditDataScript {
             }
         }
     }
-
-    /**
-     * Saves the changed workpiece and process.
-     * @param workpiece the workpiece to save
-     * @param process the process to save
-     */
-    public void saveChanges(Workpiece workpiece, Process process) {
-        try (OutputStream out = ServiceManager.getFileService()
-                .write(ServiceManager.getFileService().getMetadataFilePath(process))) {
-            ServiceManager.getMetsService().save(workpiece, out);
-            ServiceManager.getProcessService().saveToIndex(process, false);
-        } catch (IOException | CustomResponseException | DataException e) {
-            logger.error(e.getMessage());
-        }
-    }
 }
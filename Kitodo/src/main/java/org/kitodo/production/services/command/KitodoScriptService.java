@@ -13,33 +13,45 @@ package org.kitodo.production.services.command;
 
 import java.io.File;
 import java.io.IOException;
+import java.lang.reflect.UndeclaredThrowableException;
 import java.net.URI;
 import java.nio.file.Files;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
-import org.apache.commons.configuration.ConfigurationException;
 import org.apache.commons.lang.text.StrTokenizer;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.kitodo.config.ConfigCore;
+import org.kitodo.config.enums.ParameterCore;
 import org.kitodo.data.database.beans.Folder;
 import org.kitodo.data.database.beans.Process;
 import org.kitodo.data.database.beans.Role;
 import org.kitodo.data.database.beans.Ruleset;
 import org.kitodo.data.database.beans.Task;
 import org.kitodo.data.database.enums.TaskStatus;
+import org.kitodo.data.database.exceptions.DAOException;
+import org.kitodo.data.elasticsearch.exceptions.CustomResponseException;
 import org.kitodo.data.exceptions.DataException;
 import org.kitodo.exceptions.CommandException;
 import org.kitodo.export.ExportDms;
 import org.kitodo.production.enums.GenerationMode;
 import org.kitodo.production.helper.Helper;
 import org.kitodo.production.helper.metadata.legacytypeimplementations.LegacyMetsModsDigitalDocumentHelper;
+import org.kitodo.production.helper.tasks.KitodoScriptExecutionTask;
 import org.kitodo.production.helper.tasks.TaskManager;
 import org.kitodo.production.metadata.copier.CopierData;
 import org.kitodo.production.metadata.copier.DataCopier;
@@ -59,6 +71,32 @@ public class KitodoScriptService {
     private static final String STATUS = "status";
     private static final String TASK_TITLE = "tasktitle";
     private static final String ROLE = "role";
+    private static final String POSSIBLE_ACTIONS = " - possible: 'action:addRole, action:setTaskProperty, "
+            + "action:setStepStatus, action:swapprozessesout, action:swapprozessesin, action:deleteTiffHeaderFile, "
+            + "action:importFromFileSystem'";
+
+    /**
+     * Number of threads on which actions changing only the files of the
+     * processes are executed.
+     */
+    private int threads = 1;
+
+    /**
+     * Error messages by process ID of the processes for which the current run
+     * of the script failed.
+     */
+    private final Map<Integer, String> errors = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    /**
+     * Processes whose metadata file was changed by the current run of the
+     * script. They are indexed together at the end of the run.
+     */
+    private final List<Process> changedMetadata = Collections.synchronizedList(new ArrayList<>());
+
+    /**
+     * Error message if the script cannot be executed at all.
+     */
+    private String scriptError;
 
     /**
      * Start the script execution.
@@ -68,8 +106,61 @@ public class KitodoScriptService {
      * @param script
      *            from frontend passed as String
      */
-    public void execute(List<Process> processes, String script) throws DataException {
-        this.parameters = new HashMap<>();
+    public void execute(List<Process> processes, String script) {
+        if (executeScript(processes, script, 1)) {
+            Helper.setMessage("kitodoScript finished");
+        }
+    }
+
+    /**
+     * Executes the script for the given processes and returns for which of
+     * them it failed. Actions which only change the files of the processes,
+     * such as editing the metadata, are executed for several processes at the
+     * same time. This is used to execute the script in the background.
+     *
+     * @param processes
+     *            list of Process objects
+     * @param script
+     *            the Kitodo script
+     * @param threads
+     *            number of threads to execute the actions changing files on
+     * @return error messages by process ID of the processes for which the
+     *         script failed
+     * @throws CommandException
+     *             if the script cannot be executed, because its action or a
+     *             parameter is missing or invalid
+     */
+    public Map<Integer, String> execute(List<Process> processes, String script, int threads) throws CommandException {
+        if (!executeScript(processes, script, threads)) {
+            throw new CommandException(scriptError);
+        }
+        synchronized (errors) {
+            return new LinkedHashMap<>(errors);
+        }
+    }
+
+    /**
+     * Starts the script execution in the background. The script is executed
+     * by a task in the task manager, which provides a log of the result for
+     * each process.
+     *
+     * @param processIds
+     *            IDs of the processes
+     * @param script
+     *            from frontend passed as String
+     */
+    public void executeInBackground(List<Integer> processIds, String script) {
+        if (Objects.isNull(parseParameters(script).get("action"))) {
+            Helper.setErrorMessage("missing action", POSSIBLE_ACTIONS);
+            return;
+        }
+        TaskManager.addTask(new KitodoScriptExecutionTask(script, processIds));
+        Helper.setMessage(Helper.getTranslation("kitodoScript.started",
+            Collections.singletonList(Integer.toString(processIds.size()))));
+    }
+
+    private static Map<String, String> parseParameters(String script) {
+        Map<String, String> parameters = new HashMap<>();
         // decompose and capture all script parameters
         StrTokenizer tokenizer = new StrTokenizer(script, ' ', '\"');
         while (tokenizer.hasNext()) {
@@ -77,25 +168,31 @@ public class KitodoScriptService {
             if (Objects.nonNull(tok) && tok.contains(":")) {
                 String key = tok.substring(0, tok.indexOf(':'));
                 String value = tok.substring(tok.indexOf(':') + 1);
-                this.parameters.put(key, value);
+                parameters.put(key, value);
             }
         }
+        return parameters;
+    }
+
+    private boolean executeScript(List<Process> processes, String script, int threads) {
+        this.parameters = parseParameters(script);
+        this.threads = threads;
+        this.scriptError = null;
+        errors.clear();
+        changedMetadata.clear();
 
         // pass the appropriate method with the correct parameters
         if (Objects.isNull(this.parameters.get("action"))) {
-            Helper.setErrorMessage("missing action",
-                " - possible: 'action:addRole, action:setTaskProperty, action:setStepStatus, "
-                        + "action:swapprozessesout, action:swapprozessesin, action:deleteTiffHeaderFile, "
-                        + "action:importFromFileSystem'");
-            return;
+            setScriptError("missing action", POSSIBLE_ACTIONS);
+            return false;
         }
 
-        if (executeScript(processes, script)) {
-            Helper.setMessage("kitodoScript finished");
-        }
+        boolean executed = executeAction(processes, script);
+        indexChangedMetadata();
+        return executed && Objects.isNull(scriptError);
     }
 
-    private boolean executeScript(List<Process> processes, String script) throws DataException {
+    private boolean executeAction(List<Process> processes, String script) {
         // call the correct method via the parameter
         switch (this.parameters.get("action")) {
             case "importFromFileSystem":
@@ -137,7 +234,7 @@ public class KitodoScriptService {
                 String taskName = this.parameters.get("stepname");
                 String scriptName = this.parameters.get(SCRIPT);
                 if (Objects.isNull(scriptName)) {
-                    Helper.setErrorMessage("Missing parameter");
+                    setScriptError("Missing parameter", "");
                     return false;
                 } else {
                     runScript(processes, taskName, scriptName);
@@ -152,13 +249,13 @@ public class KitodoScriptService {
                 deleteProcess(processes, contentOnly);
                 break;
             case "addData":
-                addData(processes, script);
+                editData(processes, script, "addData", new AddDataScript());
                 break;
             case "overwriteData":
-                overwriteData(processes, script);
+                editData(processes, script, "overwriteData", new OverwriteDataScript());
                 break;
             case "deleteData":
-                deleteData(processes, script);
+                editData(processes, script, "deleteData", new DeleteDataScript());
                 break;
             case "generateImages":
                 String folders = parameters.get("folders");
@@ -174,74 +271,58 @@ public class KitodoScriptService {
                 generateImages(processes, mode, foldersList);
                 break;
             default:
-                Helper.setErrorMessage("Unknown action",
-                    " - use: 'action:addRole, action:setTaskProperty, action:setStepStatus, "
-                            + "action:swapprozessesout, action:swapprozessesin, action:deleteTiffHeaderFile, "
-                            + "action:importFromFileSystem'");
+                setScriptError("Unknown action", POSSIBLE_ACTIONS);
                 return false;
         }
         return true;
     }
 
-    private void deleteData(List<Process> processes, String script) {
-        String currentProcessTitle = null;
-        try {
-            script = script.replaceFirst("\\s*action:deleteData\\s+(.*?)[\r\n\\s]*", "$1");
-            DeleteDataScript deleteDataScript = new DeleteDataScript();
-            for (Process process : processes) {
-                currentProcessTitle = process.getTitle();
-                LegacyMetsModsDigitalDocumentHelper metadataFile = ServiceManager.getProcessService()
-                        .readMetadataFile(process);
-                deleteDataScript.process(metadataFile, process, script);
-                ServiceManager.getMetsService().saveWorkpiece(metadataFile.getWorkpiece(),
-                        ServiceManager.getProcessService().getMetadataFileUri(process));
-                Helper.setMessage("deleteDataOk", currentProcessTitle);
-            }
-        } catch (IOException e) {
-            Helper.setErrorMessage("addDataError", currentProcessTitle + ":" + e.getMessage(), logger, e);
-        }
-    }
-
-    private void overwriteData(List<Process> processes, String script) {
-        String currentProcessTitle = null;
-        try {
-            script = script.replaceFirst("\\s*action:overwriteData\\s+(.*?)[\r\n\\s]*", "$1");
-            OverwriteDataScript overwriteDataScript = new OverwriteDataScript();
-            for (Process process : processes) {
-                currentProcessTitle = process.getTitle();
+    /**
+     * Edits the metadata of the processes. The metadata file of each process
+     * is read, changed and written once. The processes are indexed at the end
+     * of the run.
+     */
+    private void editData(List<Process> processes, String script, String action, EditDataScript editDataScript) {
+        String metadataScript = script.replaceFirst("\\s*action:" + action + "\\s+(.*?)[\r\n\\s]*", "$1");
+        executeConcurrently(processes, process -> {
+            try {
                 LegacyMetsModsDigitalDocumentHelper metadataFile = ServiceManager.getProcessService()
                         .readMetadataFile(process);
-                overwriteDataScript.process(metadataFile, process, script);
+                editDataScript.process(metadataFile, process, metadataScript);
                 ServiceManager.getMetsService().saveWorkpiece(metadataFile.getWorkpiece(),
                         ServiceManager.getProcessService().getMetadataFileUri(process));
-                Helper.setMessage("overwriteDataOk", currentProcessTitle);
+                changedMetadata.add(process);
+                Helper.setMessage(action + "Ok", process.getTitle());
+            } catch (IOException | RuntimeException e) {
+                addError(process, e);
+                Helper.setErrorMessage(action + "Error", process.getTitle() + ":" + e.getMessage(), logger, e);
             }
-        } catch (IOException e) {
-            Helper.setErrorMessage("overwriteDataError", currentProcessTitle + ":" + e.getMessage(), logger, e);
-        }
+        });
     }
 
     private void updateContentFiles(List<Process> processes) {
-        for (Process process : processes) {
+        executeConcurrently(processes, process -> {
             try {
                 LegacyMetsModsDigitalDocumentHelper rdf = ServiceManager.getProcessService().readMetadataFile(process);
                 fileService.writeMetadataFile(rdf, process);
                 Helper.setMessage("ContentFiles updated: ", process.getTitle());
             } catch (IOException | RuntimeException e) {
+                addError(process, e);
                 Helper.setErrorMessage("Error while updating content files", logger, e);
             }
-        }
+        });
         Helper.setMessage("updateContentFiles finished");
     }
 
     private void createFolders(List<Process> processes) {
-        for (Process process : processes) {
+        executeConcurrently(processes, process -> {
             try {
                 fileService.createProcessFolders(process);
             } catch (IOException | CommandException e) {
+                addError(process, e);
                 Helper.setErrorMessage("Error while creating folders", logger, e);
             }
-        }
+        });
     }
 
     private void deleteProcess(List<Process> processes, boolean contentOnly) {
@@ -259,6 +340,7 @@ public class KitodoScriptService {
                     }
                     Helper.setMessage("Content deleted for " + title);
                 } catch (IOException | RuntimeException e) {
+                    addError(process, e);
                     Helper.setErrorMessage("errorDeleting", new Object[] {"content for " + title }, logger, e);
                 }
             } else {
@@ -267,6 +349,7 @@ public class KitodoScriptService {
                     ServiceManager.getProcessService().remove(process);
                     Helper.setMessage("Process " + title + " deleted.");
                 } catch (DataException | IOException e) {
+                    addError(process, e);
                     Helper.setErrorMessage("errorDeleting",
                         new Object[] {Helper.getTranslation("process") + " " + title }, logger, e);
                 }
@@ -274,25 +357,6 @@ public class KitodoScriptService {
         }
     }
 
-    private void addData(List<Process> processes, String script) {
-        String currentProcessTitle = null;
-        try {
-            script = script.replaceFirst("\\s*action:addData\\s+(.*?)[\r\n\\s]*", "$1");
-            AddDataScript addDataScript = new AddDataScript();
-            for (Process process : processes) {
-                currentProcessTitle = process.getTitle();
-                LegacyMetsModsDigitalDocumentHelper metadataFile = ServiceManager.getProcessService()
-                        .readMetadataFile(process);
-                addDataScript.process(metadataFile, process, script);
-                ServiceManager.getMetsService().saveWorkpiece(metadataFile.getWorkpiece(),
-                        ServiceManager.getProcessService().getMetadataFileUri(process));
-                Helper.setMessage("addDataOk", currentProcessTitle);
-            }
-        } catch (IOException e) {
-            Helper.setErrorMessage("addDataError", currentProcessTitle + ":" + e.getMessage(), logger, e);
-        }
-    }
-
     private void deleteMetadataDirectory(Process process) throws IOException {
         fileService.deleteProcessContent(process);
     }
@@ -302,13 +366,13 @@ public class KitodoScriptService {
         for (Process process : processes) {
             Folder generatorSource = process.getProject().getGeneratorSource();
             if (Objects.isNull(generatorSource)) {
-                Helper.setErrorMessage("kitodoScript.generateImages.error.noSourceFolder",
+                addError(process, "kitodoScript.generateImages.error.noSourceFolder",
                     new String[] {process.getTitle(), process.getProject().getTitle() });
                 continue;
             }
             Subfolder sourceFolder = new Subfolder(process, generatorSource);
             if (sourceFolder.listContents().isEmpty()) {
-                Helper.setErrorMessage("kitodoScript.generateImages.error.noSourceFiles",
+                addError(process, "kitodoScript.generateImages.error.noSourceFiles",
                     new String[] {process.getTitle(), sourceFolder.getRelativeDirectoryPath() });
                 continue;
             }
@@ -324,7 +388,7 @@ public class KitodoScriptService {
                 }
             }
             if (outputFolders.isEmpty()) {
-                Helper.setErrorMessage("kitodoScript.generateImages.error.noDestination",
+                addError(process, "kitodoScript.generateImages.error.noDestination",
                     new String[] {process.getTitle(), String.join(", ", ungeneratableFolders) });
                 continue;
             }
@@ -346,19 +410,24 @@ public class KitodoScriptService {
         }
     }
 
-    private void runScript(List<Process> processes, String taskName, String scriptName) throws DataException {
+    private void runScript(List<Process> processes, String taskName, String scriptName) {
         for (Process process : processes) {
-            for (Task task : process.getTasks()) {
-                if (task.getTitle().equalsIgnoreCase(taskName)) {
-                    if (Objects.nonNull(scriptName)) {
-                        if (task.getScriptName().equals(scriptName)) {
-                            String path = task.getScriptPath();
-                            ServiceManager.getTaskService().executeScript(task, path, false);
+            try {
+                for (Task task : process.getTasks()) {
+                    if (task.getTitle().equalsIgnoreCase(taskName)) {
+                        if (Objects.nonNull(scriptName)) {
+                            if (task.getScriptName().equals(scriptName)) {
+                                String path = task.getScriptPath();
+                                ServiceManager.getTaskService().executeScript(task, path, false);
+                            }
+                        } else {
+                            ServiceManager.getTaskService().executeScript(task, false);
                         }
-                    } else {
-                        ServiceManager.getTaskService().executeScript(task, false);
                     }
                 }
+            } catch (DataException e) {
+                addError(process, e);
+                Helper.setErrorMessage(e.getLocalizedMessage(), logger, e);
             }
         }
     }
@@ -377,8 +446,7 @@ public class KitodoScriptService {
         URI sourceFolder = new File(this.parameters.get(SOURCE_FOLDER)).toURI();
         try {
             if (!fileService.isDirectory(sourceFolder)) {
-                Helper.setErrorMessage(
-                    "Directory " + this.parameters.get(SOURCE_FOLDER) + " does not exisist");
+                setScriptError("Directory " + this.parameters.get(SOURCE_FOLDER) + " does not exisist", "");
                 return;
             }
             for (Process process : processes) {
@@ -386,12 +454,12 @@ public class KitodoScriptService {
                 String processTitle = process.getTitle();
                 URI imagesFolder = ServiceManager.getProcessService().getImagesOriginDirectory(false, process);
                 if (!fileService.getSubUris(imagesFolder).isEmpty()) {
-                    Helper.setErrorMessage(
+                    addError(process,
                         "The process " + processTitle + " [" + processId + "] has already data in image folder");
                 } else {
                     URI sourceFolderProcess = fileService.createResource(sourceFolder, processTitle);
                     if (!fileService.isDirectory(sourceFolder)) {
-                        Helper.setErrorMessage(
+                        addError(process,
                             "The directory for process " + processTitle + " [" + processId + "] is not existing");
                     } else {
                         fileService.copyDirectory(sourceFolderProcess, imagesFolder);
@@ -403,7 +471,8 @@ public class KitodoScriptService {
                 }
             }
         } catch (IOException e) {
-            Helper.setErrorMessage(e.getLocalizedMessage(), logger, e);
+            setScriptError(e.getLocalizedMessage(), "");
+            logger.error(e.getMessage(), e);
         }
     }
 
@@ -418,22 +487,23 @@ public class KitodoScriptService {
             return;
         }
 
-        try {
-            List<Ruleset> rulesets = ServiceManager.getRulesetService()
-                    .getByQuery("from Ruleset where title='" + this.parameters.get(RULESET) + "'");
-            if (rulesets.isEmpty()) {
-                Helper.setErrorMessage("Could not find ruleset: ", RULESET);
-                return;
-            }
-            Ruleset ruleset = rulesets.get(0);
+        List<Ruleset> rulesets = ServiceManager.getRulesetService()
+                .getByQuery("from Ruleset where title='" + this.parameters.get(RULESET) + "'");
+        if (rulesets.isEmpty()) {
+            setScriptError("Could not find ruleset: ", RULESET);
+            return;
+        }
+        Ruleset ruleset = rulesets.get(0);
 
-            for (Process process : processes) {
+        for (Process process : processes) {
+            try {
                 process.setRuleset(ruleset);
-                ServiceManager.getProcessService().save(process);
+                ServiceManager.getProcessService().save(process, false);
+            } catch (DataException | RuntimeException e) {
+                addError(process, e);
+                Helper.setErrorMessage(e);
+                logger.error(e.getMessage(), e);
             }
-        } catch (DataException | RuntimeException e) {
-            Helper.setErrorMessage(e);
-            logger.error(e.getMessage(), e);
         }
     }
 
@@ -485,14 +555,13 @@ public class KitodoScriptService {
         if (!("metadata".equals(property) || "readimages".equals(property) || "writeimages".equals(property)
                 || property.equals("validate") || property.equals("exportdms") || property.equals("batch")
                 || property.equals("automatic"))) {
-            Helper.setErrorMessage(
-                "wrong parameter 'property'; possible values: metadata, readimages, writeimages, "
-                        + "validate, exportdms");
+            setScriptError("wrong parameter 'property'; possible values: metadata, readimages, writeimages, "
+                    + "validate, exportdms", "");
             return;
         }
 
         if (!"true".equals(value) && !value.equalsIgnoreCase(String.valueOf(Boolean.FALSE))) {
-            Helper.setErrorMessage("wrong parameter 'value'; possible " + "values: true, false");
+            setScriptError("wrong parameter 'value'; possible " + "values: true, false", "");
             return;
         }
 
@@ -551,8 +620,7 @@ public class KitodoScriptService {
 
         if (!this.parameters.get(STATUS).equals("0") && !this.parameters.get(STATUS).equals("1")
                 && !this.parameters.get(STATUS).equals("2") && !this.parameters.get(STATUS).equals("3")) {
-            Helper.setErrorMessage("Wrong status parameter: status ",
-                "(possible: 0=closed, 1=open, 2=in work, 3=finished");
+            setScriptError("Wrong status parameter: status ", "(possible: 0=closed, 1=open, 2=in work, 3=finished");
             return;
         }
 
@@ -567,7 +635,7 @@ public class KitodoScriptService {
                     TaskStatus newTaskStatus = TaskStatus
                             .getStatusFromValue(Integer.valueOf(this.parameters.get(STATUS)));
                     task.setProcessingStatus(newTaskStatus);
-                    saveTask(process.getTitle(), task);
+                    saveTask(process, task);
                     Helper.setMessage("stepstatus set in process: ", process.getTitle());
                     break;
                 }
@@ -593,7 +661,7 @@ public class KitodoScriptService {
         if (!foundRoles.isEmpty()) {
             role = foundRoles.get(0);
         } else {
-            Helper.setErrorMessage("Unknown role: ", this.parameters.get(ROLE));
+            setScriptError("Unknown role: ", this.parameters.get(ROLE));
             return;
         }
 
@@ -608,7 +676,7 @@ public class KitodoScriptService {
                     List<Role> roles = task.getRoles();
                     if (!roles.contains(role)) {
                         roles.add(role);
-                        saveTask(process.getTitle(), task);
+                        saveTask(process, task);
                     }
                 }
             }
@@ -623,7 +691,7 @@ public class KitodoScriptService {
      *            list of Process objects
      */
     public void deleteTiffHeaderFile(List<Process> processes) {
-        for (Process process : processes) {
+        executeConcurrently(processes, process -> {
             try {
                 File tiffHeaderFile = new File(fileService.getImagesDirectory(process) + "tiffwriter.conf");
                 if (tiffHeaderFile.exists()) {
@@ -631,9 +699,10 @@ public class KitodoScriptService {
                 }
                 Helper.setMessage("TiffHeaderFile deleted: ", process.getTitle());
             } catch (IOException | RuntimeException e) {
+                addError(process, e);
                 Helper.setErrorMessage("Error while deleting TiffHeader", logger, e);
             }
-        }
+        });
         Helper.setMessage("deleteTiffHeaderFile finished");
     }
 
@@ -642,8 +711,11 @@ public class KitodoScriptService {
         for (Process process : processes) {
             try {
                 ExportDms dms = new ExportDms(!withoutImages);
-                dms.startExport(process);
+                if (!dms.startExport(process)) {
+                    addError(process, "Export of process " + process.getTitle() + " failed");
+                }
             } catch (DataException e) {
+                addError(process, e);
                 logger.error(e.getMessage(), e);
             }
         }
@@ -651,25 +723,128 @@ public class KitodoScriptService {
 
     private boolean isActionParameterInvalid(String parameter) {
         if (Objects.isNull(this.parameters.get(parameter)) || Objects.equals(this.parameters.get(parameter), "")) {
-            Helper.setErrorMessage("missing parameter: ", parameter);
+            setScriptError("missing parameter: ", parameter);
             return true;
         }
         return false;
     }
 
+    private void setScriptError(String message, String description) {
+        Helper.setErrorMessage(message, description);
+        scriptError = Helper.getTranslation(message) + description;
+    }
+
+    private void addError(Process process, Exception exception) {
+        errors.put(process.getId(), Objects.toString(exception.getMessage(), exception.getClass().getSimpleName()));
+    }
+
+    private void addError(Process process, String message) {
+        Helper.setErrorMessage(message);
+        errors.put(process.getId(), message);
+    }
+
+    private void addError(Process process, String title, Object[] parameters) {
+        Helper.setErrorMessage(title, parameters);
+        errors.put(process.getId(), MessageFormat.format(Helper.getTranslation(title), parameters));
+    }
+
+    /**
+     * Executes an action for each process. If more than one thread is
+     * configured for the run, the action is executed for several processes at
+     * the same time. The threads get the context class loader of the calling
+     * thread, so that the modules can be loaded from them. The action must
+     * handle its errors itself.
+     */
+    private void executeConcurrently(List<Process> processes, Consumer<Process> action) {
+        if (threads <= 1 || processes.size() <= 1) {
+            processes.forEach(action);
+            return;
+        }
+        initializeLazyLists(processes);
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, processes.size()), runnable -> {
+            Thread thread = new Thread(runnable, KitodoScriptService.class.getSimpleName());
+            thread.setContextClassLoader(contextClassLoader);
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<?>> executions = new ArrayList<>();
+            for (Process process : processes) {
+                executions.add(executor.submit(() -> action.accept(process)));
+            }
+            for (Future<?> execution : executions) {
+                execution.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new UndeclaredThrowableException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Loads the lazy lists of the processes which the actions read, on the
+     * calling thread. The getters of the beans load a list with the Hibernate
+     * session of the current thread if it is not loaded yet. If several
+     * threads did this at the same time, a bean could be attached to several
+     * sessions, and the processes of a run share their project. After this,
+     * the threads only read loaded lists.
+     */
+    private static void initializeLazyLists(List<Process> processes) {
+        for (Process process : processes) {
+            if (Objects.nonNull(process.getProject())) {
+                process.getProject().getFolders();
+            }
+            process.getProperties();
+            process.getTemplates();
+            process.getWorkpieces();
+        }
+    }
+
+    /**
+     * Indexes the processes whose metadata files were changed, in bulk
+     * requests of the configured Elasticsearch batch size.
+     */
+    private void indexChangedMetadata() {
+        List<Process> processes;
+        synchronized (changedMetadata) {
+            processes = new ArrayList<>(changedMetadata);
+        }
+        int batchSize = Math.max(1, ConfigCore.getIntParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_BATCH));
+        for (int from = 0; from < processes.size(); from += batchSize) {
+            List<Process> batch = processes.subList(from, Math.min(from + batchSize, processes.size()));
+            try {
+                ServiceManager.getProcessService().addAllObjectsToIndex(batch);
+            } catch (CustomResponseException | DAOException | RuntimeException e) {
+                for (Process process : batch) {
+                    addError(process, e);
+                }
+                Helper.setErrorMessage("Error while indexing processes", logger, e);
+            }
+        }
+    }
+
     private void saveProcess(Process process) {
         try {
             ServiceManager.getProcessService().save(process);
         } catch (DataException e) {
+            addError(process, e);
             Helper.setErrorMessage("Error while saving process: " + process.getTitle(), logger, e);
         }
     }
 
-    private void saveTask(String processTitle, Task task) {
+    private void saveTask(Process process, Task task) {
         try {
             ServiceManager.getTaskService().save(task);
         } catch (DataException e) {
-            Helper.setErrorMessage("Error while saving - " + processTitle, logger, e);
+            addError(process, e);
+            Helper.setErrorMessage("Error while saving - " + process.getTitle(), logger, e);
         }
     }
 }
@@ -52,6 +52,5 @@ public class OverwriteDataScript extends EditDataScript {
                 }
             }
         }
-        saveChanges(workpiece, process);
     }
 }
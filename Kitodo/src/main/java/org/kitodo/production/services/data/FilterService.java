@@ -14,13 +14,14 @@ package org.kitodo.production.services.data;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.StringTokenizer;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang.StringUtils;
@@ -47,10 +48,9 @@ import org.kitodo.data.elasticsearch.search.enums.SearchCondition;
 import org.kitodo.data.exceptions.DataException;
 import org.kitodo.production.dto.BaseDTO;
 import org.kitodo.production.dto.FilterDTO;
-import org.kitodo.production.dto.ProcessDTO;
-import org.kitodo.production.dto.TaskDTO;
 import org.kitodo.production.enums.FilterString;
 import org.kitodo.production.enums.ObjectType;
+import org.kitodo.production.helper.Helper;
 import org.kitodo.production.services.ServiceManager;
 import org.kitodo.production.services.data.base.SearchService;
 import org.primefaces.model.SortOrder;
@@ -64,6 +64,19 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
     private static volatile FilterService instance = null;
     public static final String FILTER_STRING = "filterString";
 
+    /**
+     * Maximum number of cached parsed filter strings.
+     */
+    private static final int PARSED_FILTERS_CACHE_SIZE = 256;
+
+    private final Map<String, ParsedFilter> parsedFilters = Collections.synchronizedMap(
+        new LinkedHashMap<String, ParsedFilter>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ParsedFilter> eldest) {
+                return size() > PARSED_FILTERS_CACHE_SIZE;
+            }
+        });
+
     /**
      * Constructor with Searcher and Indexer assigning.
      */
@@ -167,70 +180,99 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
             query = buildTaskQuery(onlyOpenTasks, onlyUserAssignedTasks);
         }
 
-        for (String tokenizedFilter : prepareFilters(filter)) {
-            if (evaluateFilterString(tokenizedFilter, FilterString.TASK, null)) {
-                query.must(createHistoricFilter(tokenizedFilter));
-            } else if (evaluateFilterString(tokenizedFilter, FilterString.TASKINWORK, null)) {
-                query.must(
-                    createTaskFilters(tokenizedFilter, FilterString.TASKINWORK, TaskStatus.INWORK, false, objectType));
-            } else if (evaluateFilterString(tokenizedFilter, FilterString.TASKLOCKED, null)) {
-                query.must(
-                    createTaskFilters(tokenizedFilter, FilterString.TASKLOCKED, TaskStatus.LOCKED, false, objectType));
-            } else if (evaluateFilterString(tokenizedFilter, FilterString.TASKOPEN, null)) {
-                query.must(
-                    createTaskFilters(tokenizedFilter, FilterString.TASKOPEN, TaskStatus.OPEN, false, objectType));
-            } else if (evaluateFilterString(tokenizedFilter, FilterString.TASKDONE, null)) {
-                query.must(
-                    createTaskFilters(tokenizedFilter, FilterString.TASKDONE, TaskStatus.DONE, false, objectType));
-            } else if (evaluateFilterString(tokenizedFilter, FilterString.TASKDONETITLE, null)) {
-                String taskTitle = getFilterValueFromFilterString(tokenizedFilter, FilterString.TASKDONETITLE);
-                query.must(filterTaskTitle(taskTitle, TaskStatus.DONE, false, objectType));
-            } else if (evaluateFilterString(tokenizedFilter, FilterString.TASKDONEUSER, null)
-                    && ConfigCore.getBooleanParameterOrDefaultValue(ParameterCore.WITH_USER_STEP_DONE_SEARCH)) {
-                query.must(filterTaskDoneUser(tokenizedFilter, objectType));
-            } else if (evaluateFilterString(tokenizedFilter, FilterString.TASKAUTOMATIC, null)) {
-                query.must(filterAutomaticTasks(tokenizedFilter, objectType));
-            } else if (evaluateFilterString(tokenizedFilter, FilterString.PROJECT, null)) {
-                query.must(filterProject(tokenizedFilter, false, objectType));
-            } else if (evaluateFilterString(tokenizedFilter, FilterString.ID, null)) {
-                query.must(createProcessIdFilter(tokenizedFilter, objectType));
-            } else if (evaluateFilterString(tokenizedFilter, FilterString.PARENTPROCESSID, null)) {
-                query.must(createParentProcessIdFilter(tokenizedFilter, objectType));
-            } else if (evaluateFilterString(tokenizedFilter, FilterString.PROPERTY, null)) {
-                query.must(createProcessPropertyFilter(tokenizedFilter, objectType));
-            } else if (evaluateFilterString(tokenizedFilter, FilterString.PROCESS, null)) {
-                query.must(createProcessTitleFilter(tokenizedFilter, objectType));
-            } else if (evaluateFilterString(tokenizedFilter, FilterString.BATCH, null)) {
-                query.must(createBatchIdFilter(tokenizedFilter, objectType, true));
-            } else if (evaluateFilterString(tokenizedFilter, FilterString.TASKINWORK, "-")) {
-                query.must(
-                    createTaskFilters(tokenizedFilter, FilterString.TASKINWORK, TaskStatus.INWORK, true, objectType));
-            } else if (evaluateFilterString(tokenizedFilter, FilterString.TASKLOCKED, "-")) {
-                query.must(
-                    createTaskFilters(tokenizedFilter, FilterString.TASKLOCKED, TaskStatus.LOCKED, true, objectType));
-            } else if (evaluateFilterString(tokenizedFilter, FilterString.TASKOPEN, "-")) {
-                query.must(
-                    createTaskFilters(tokenizedFilter, FilterString.TASKOPEN, TaskStatus.OPEN, true, objectType));
-            } else if (evaluateFilterString(tokenizedFilter, FilterString.TASKDONE, "-")) {
-                query.must(
-                    createTaskFilters(tokenizedFilter, FilterString.TASKDONE, TaskStatus.DONE, true, objectType));
-            } else if (evaluateFilterString(tokenizedFilter, FilterString.TASKDONETITLE, "-")) {
-                String taskTitle = getFilterValueFromFilterString(tokenizedFilter, FilterString.TASKDONETITLE);
-                query.must(filterTaskTitle(taskTitle, TaskStatus.DONE, true, objectType));
-            } else if (evaluateFilterString(tokenizedFilter, FilterString.PROJECT, "-")) {
-                query.must(filterProject(tokenizedFilter, true, objectType));
-            } else if (evaluateFilterString(tokenizedFilter, FilterString.BATCH, "-")) {
-                query.must(createBatchIdFilter(tokenizedFilter, objectType, false));
-            } else if (tokenizedFilter.startsWith("-")) {
-                query.must(createDefaultQuery(tokenizedFilter.substring(1), true, objectType));
-            } else {
-                /* standard-search parameter */
-                query.must(createDefaultQuery(tokenizedFilter, false, objectType));
-            }
+        for (ParsedFilter.Part part : getParsedFilter(filter).getParts()) {
+            query.must(createFilterQuery(part, objectType));
         }
         return query;
     }
 
+    /**
+     * Get the syntax errors of a filter string, as translated messages with
+     * the position of the error in the filter string.
+     *
+     * @param filter
+     *            as String
+     * @return list of error messages, empty if the filter has no syntax errors
+     */
+    public List<String> getSyntaxErrors(String filter) {
+        List<String> errors = new ArrayList<>();
+        if (Objects.nonNull(filter)) {
+            for (ParsedFilter.SyntaxError syntaxError : getParsedFilter(replaceLegacyFilters(filter)).getSyntaxErrors()) {
+                errors.add(Helper.getTranslation(syntaxError.getMessageKey(),
+                    Arrays.asList(Integer.toString(syntaxError.getPosition() + 1), syntaxError.getFilterName())));
+            }
+        }
+        return errors;
+    }
+
+    /**
+     * Get the parsed filter string. Parsed filters are cached, because the
+     * same filters are applied again on every reload of a list.
+     *
+     * @param filter
+     *            as String
+     * @return the parsed filter
+     */
+    ParsedFilter getParsedFilter(String filter) {
+        return parsedFilters.computeIfAbsent(filter, ParsedFilter::parse);
+    }
+
+    /**
+     * Create the query for a single filter of a parsed filter string.
+     *
+     * @param part
+     *            filter of the parsed filter string
+     * @param objectType
+     *            as ObjectType - "PROCESS", "TEMPLATE" or "TASK"
+     * @return query for the filter
+     */
+    QueryBuilder createFilterQuery(ParsedFilter.Part part, ObjectType objectType) throws DataException {
+        String tokenizedFilter = part.getToken();
+        boolean negated = part.isNegated();
+        if (Objects.isNull(part.getFilterString())) {
+            /* standard-search parameter */
+            return createDefaultQuery(tokenizedFilter, negated, objectType);
+        }
+        switch (part.getFilterString()) {
+            case TASK:
+                return createHistoricFilter(tokenizedFilter);
+            case TASKINWORK:
+                return createTaskFilters(tokenizedFilter, FilterString.TASKINWORK, TaskStatus.INWORK, negated,
+                    objectType);
+            case TASKLOCKED:
+                return createTaskFilters(tokenizedFilter, FilterString.TASKLOCKED, TaskStatus.LOCKED, negated,
+                    objectType);
+            case TASKOPEN:
+                return createTaskFilters(tokenizedFilter, FilterString.TASKOPEN, TaskStatus.OPEN, negated, objectType);
+            case TASKDONE:
+                return createTaskFilters(tokenizedFilter, FilterString.TASKDONE, TaskStatus.DONE, negated, objectType);
+            case TASKDONETITLE:
+                String taskTitle = getFilterValueFromFilterString(tokenizedFilter, FilterString.TASKDONETITLE);
+                return filterTaskTitle(taskTitle, TaskStatus.DONE, negated, objectType);
+            case TASKDONEUSER:
+                if (ConfigCore.getBooleanParameterOrDefaultValue(ParameterCore.WITH_USER_STEP_DONE_SEARCH)) {
+                    return filterTaskDoneUser(tokenizedFilter, objectType);
+                }
+                return createDefaultQuery(tokenizedFilter, false, objectType);
+            case TASKAUTOMATIC:
+                return filterAutomaticTasks(tokenizedFilter, objectType);
+            case PROJECT:
+                return filterProject(tokenizedFilter, negated, objectType);
+            case ID:
+                return createProcessIdFilter(tokenizedFilter, objectType);
+            case PARENTPROCESSID:
+                return createParentProcessIdFilter(tokenizedFilter, objectType);
+            case PROPERTY:
+                return createProcessPropertyFilter(tokenizedFilter, objectType);
+            case PROCESS:
+                return createProcessTitleFilter(tokenizedFilter, objectType);
+            case BATCH:
+                return createBatchIdFilter(tokenizedFilter, objectType, !negated);
+            default:
+                return createDefaultQuery(tokenizedFilter, negated, objectType);
+        }
+    }
+
     private String replaceLegacyFilters(String filter) {
         filter.replace("processproperty","property");
         filter.replace("workpiece","property");
@@ -361,49 +403,6 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
         return titleValue;
     }
 
-    /**
-     * Prepare list of single filters from given one long filter. Filters are
-     * delimited by ".
-     *
-     * @param filter
-     *            as String
-     * @return list of single filters
-     */
-    private List<String> prepareFilters(String filter) {
-        List<String> filters = new ArrayList<>();
-        String delimiter = "\"";
-        StringTokenizer tokenizer = new StringTokenizer(filter, delimiter, true);
-        while (tokenizer.hasMoreTokens()) {
-            String token = tokenizer.nextToken();
-            if (!token.equals(delimiter) && !token.equals(" ")) {
-                filters.add(token);
-            }
-        }
-        return filters;
-    }
-
-    /**
-     * Evaluate FilterString objects in both possible languages.
-     *
-     * @param stringFilterString
-     *            full filter String
-     * @param filterString
-     *            as FilterString object
-     * @param prefix
-     *            possible prefix is '-', if prefix not null it means that we
-     *            are filtering for negated value
-     * @return true or false
-     */
-    private boolean evaluateFilterString(String stringFilterString, FilterString filterString, String prefix) {
-        String lowerCaseFilterString = stringFilterString.toLowerCase();
-        if (Objects.nonNull(prefix)) {
-            return lowerCaseFilterString.startsWith(prefix + filterString.getFilterEnglish())
-                    || lowerCaseFilterString.startsWith(prefix + filterString.getFilterGerman());
-        }
-        return lowerCaseFilterString.startsWith(filterString.getFilterEnglish())
-                || lowerCaseFilterString.startsWith(filterString.getFilterGerman());
-    }
-
     /**
      * Show only open tasks or those in use by current user.
      *
@@ -519,9 +518,9 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
         if (objectType == ObjectType.PROCESS) {
             return createSetQuery("batches.id", filterValuesAsIntegers(filter, FilterString.BATCH), negate);
         } else if (objectType == ObjectType.TASK) {
-            List<ProcessDTO> processDTOS = ServiceManager.getProcessService().findByQuery(
-                createSetQuery("batches.id", filterValuesAsIntegers(filter, FilterString.BATCH), negate), true);
-            return createSetQuery(TaskTypeField.PROCESS_ID.getKey(), collectIds(processDTOS), negate);
+            Set<Integer> processIds = ServiceManager.getProcessService().findIdsByQuery(
+                createSetQuery("batches.id", filterValuesAsIntegers(filter, FilterString.BATCH), negate));
+            return createSetQuery(TaskTypeField.PROCESS_ID.getKey(), processIds, negate);
         }
         return new BoolQueryBuilder();
     }
@@ -931,8 +930,8 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
     private QueryBuilder getQueryAccordingToObjectTypeAndSearchInTask(ObjectType objectType, QueryBuilder query)
             throws DataException {
         if (objectType == ObjectType.PROCESS) {
-            List<TaskDTO> taskDTOS = ServiceManager.getTaskService().findByQuery(query, true);
-            return createSetQuery("tasks.id", collectIds(taskDTOS), true);
+            Set<Integer> taskIds = ServiceManager.getTaskService().findIdsByQuery(query);
+            return createSetQuery("tasks.id", taskIds, true);
         } else if (objectType == ObjectType.TASK) {
             return query;
         }
@@ -944,8 +943,8 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
         if (objectType == ObjectType.PROCESS) {
             return query;
         } else if (objectType == ObjectType.TASK) {
-            List<ProcessDTO> processDTOS = ServiceManager.getProcessService().findByQuery(query, true);
-            return createSetQuery(TaskTypeField.PROCESS_ID.getKey(), collectIds(processDTOS), true);
+            Set<Integer> processIds = ServiceManager.getProcessService().findIdsByQuery(query);
+            return createSetQuery(TaskTypeField.PROCESS_ID.getKey(), processIds, true);
         }
         return new BoolQueryBuilder();
     }
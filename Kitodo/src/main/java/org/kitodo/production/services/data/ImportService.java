@@ -364,14 +364,34 @@ public class ImportService {
      */
     public TempProcess createTempProcessFromDocument(Document document, int templateID, int projectID)
             throws ProcessGenerationException {
-        String docType = getRecordDocType(document);
-        NodeList metadataNodes = extractMetadataNodeList(document);
-
-        Process process = null;
         // "processGenerator" needs to be initialized when function is called for the first time
         if (Objects.isNull(processGenerator)) {
             processGenerator = new ProcessGenerator();
         }
+        return createTempProcessFromDocument(processGenerator, document, templateID, projectID);
+    }
+
+    /**
+     * Creates a temporary Process from the given document with templateID und
+     * projectID, using the given process generator. Background tasks must use
+     * their own process generator.
+     *
+     * @param processGenerator
+     *            the process generator to use
+     * @param document
+     *            the given document
+     * @param templateID
+     *            the template to use
+     * @param projectID
+     *            the project to use
+     * @return a temporary process
+     */
+    public TempProcess createTempProcessFromDocument(ProcessGenerator processGenerator, Document document,
+            int templateID, int projectID) throws ProcessGenerationException {
+        String docType = getRecordDocType(document);
+        NodeList metadataNodes = extractMetadataNodeList(document);
+
+        Process process = null;
         if (processGenerator.generateProcess(templateID, projectID)) {
             process = processGenerator.getGeneratedProcess();
         }
@@ -604,19 +624,36 @@ public class ImportService {
     public Document convertDataRecordToInternal(DataRecord dataRecord, String opac, boolean isParentInRecord)
             throws UnsupportedFormatException, URISyntaxException, IOException, ParserConfigurationException,
             SAXException {
+        return convertDataRecordToInternal(dataRecord, opac, isParentInRecord, null);
+    }
+
+    /**
+     * Converts a given dataRecord to an internal document. If a record ID is
+     * given, it is added to the names of the debug files, so records which
+     * are converted at the same time do not overwrite each other's files.
+     * @param dataRecord the dataRecord to convert.
+     * @param opac the opac to use (for configuration)
+     * @param isParentInRecord if parentRecord is in childRecord
+     * @param recordId the ID of the record, may be null
+     * @return the converted Document
+     */
+    public Document convertDataRecordToInternal(DataRecord dataRecord, String opac, boolean isParentInRecord,
+            String recordId) throws UnsupportedFormatException, URISyntaxException, IOException,
+            ParserConfigurationException, SAXException {
         SchemaConverterInterface converter = getSchemaConverter(dataRecord);
 
         List<File> mappingFiles = getMappingFiles(opac, isParentInRecord);
 
         // transform dataRecord to Kitodo internal format using appropriate SchemaConverter!
         File debugFolder = ConfigCore.getKitodoDebugDirectory();
+        String debugFileSuffix = Objects.isNull(recordId) ? ".xml" : "_" + recordId.replaceAll("[^\\w.-]", "_") + ".xml";
         if (Objects.nonNull(debugFolder)) {
-            FileUtils.writeStringToFile(new File(debugFolder, "catalogRecord.xml"),
+            FileUtils.writeStringToFile(new File(debugFolder, "catalogRecord" + debugFileSuffix),
                     (String) dataRecord.getOriginalData(), StandardCharsets.UTF_8);
         }
         DataRecord internalRecord = converter.convert(dataRecord, MetadataFormat.KITODO, FileFormat.XML, mappingFiles);
         if (Objects.nonNull(debugFolder)) {
-            FileUtils.writeStringToFile(new File(debugFolder, "internalRecord.xml"),
+            FileUtils.writeStringToFile(new File(debugFolder, "internalRecord" + debugFileSuffix),
                     (String) internalRecord.getOriginalData(), StandardCharsets.UTF_8);
         }
 
@@ -1149,23 +1186,11 @@ public class ImportService {
     public Process importProcess(String ppn, int projectId, int templateId, String selectedCatalog) throws ImportException {
         LinkedList<TempProcess> processList = new LinkedList<>();
         TempProcess tempProcess;
-        Template template;
         try {
-            template = ServiceManager.getTemplateService().getById(templateId);
-            String metadataLanguage = ServiceManager.getUserService().getCurrentUser().getMetadataLanguage();
-            List<Locale.LanguageRange> priorityList = Locale.LanguageRange
-                    .parse(metadataLanguage.isEmpty() ? "en" : metadataLanguage);
+            Template template = ServiceManager.getTemplateService().getById(templateId);
             importProcessAndReturnParentID(ppn, processList, selectedCatalog, projectId, templateId, false);
             tempProcess = processList.get(0);
-            processTempProcess(tempProcess, template,
-                ServiceManager.getRulesetService().openRuleset(template.getRuleset()), "create", priorityList);
-            ServiceManager.getProcessService().save(tempProcess.getProcess());
-            URI processBaseUri = ServiceManager.getFileService().createProcessLocation(tempProcess.getProcess());
-            tempProcess.getProcess().setProcessBaseUri(processBaseUri);
-            OutputStream out = ServiceManager.getFileService()
-                    .write(ServiceManager.getProcessService().getMetadataFileUri(tempProcess.getProcess()));
-            tempProcess.getWorkpiece().setId(tempProcess.getProcess().getId().toString());
-            ServiceManager.getMetsService().save(tempProcess.getWorkpiece(), out);
+            saveImportedProcess(tempProcess, template, getMetadataLanguagePriorityList());
         } catch (DAOException | IOException | ProcessGenerationException | XPathExpressionException
                 | ParserConfigurationException | NoRecordFoundException | UnsupportedFormatException
                 | URISyntaxException | SAXException | InvalidMetadataValueException
@@ -1175,4 +1200,57 @@ public class ImportService {
         }
         return tempProcess.getProcess();
     }
+
+    /**
+     * Load the record with the given ID from the given catalog. Unlike
+     * {@link #importProcess(String, int, int, String)}, this does not change
+     * the state of the import service, so it may be called by several threads
+     * at the same time.
+     *
+     * @param opac
+     *            the catalog to import from
+     * @param identifier
+     *            the ID of the record
+     * @return the record as returned by the catalog
+     * @throws NoRecordFoundException
+     *             if the catalog has no record with this ID
+     */
+    public DataRecord getDataRecordById(String opac, String identifier) throws NoRecordFoundException {
+        return initializeImportModule().getFullRecordById(opac, identifier);
+    }
+
+    /**
+     * Get the metadata languages of the current user, in order of preference.
+     *
+     * @return the language priority list
+     */
+    public List<Locale.LanguageRange> getMetadataLanguagePriorityList() {
+        String metadataLanguage = ServiceManager.getUserService().getCurrentUser().getMetadataLanguage();
+        return Locale.LanguageRange.parse(metadataLanguage.isEmpty() ? "en" : metadataLanguage);
+    }
+
+    /**
+     * Completes an imported process, saves it to database and writes its
+     * metadata file.
+     *
+     * @param tempProcess
+     *            the imported process
+     * @param template
+     *            template of the process
+     * @param priorityList
+     *            metadata languages, in order of preference
+     */
+    public void saveImportedProcess(TempProcess tempProcess, Template template, List<Locale.LanguageRange> priorityList)
+            throws DataException, IOException, ProcessGenerationException, InvalidMetadataValueException,
+            NoSuchMetadataFieldException, CommandException {
+        processTempProcess(tempProcess, template,
+            ServiceManager.getRulesetService().openRuleset(template.getRuleset()), "create", priorityList);
+        ServiceManager.getProcessService().save(tempProcess.getProcess());
+        URI processBaseUri = ServiceManager.getFileService().createProcessLocation(tempProcess.getProcess());
+        tempProcess.getProcess().setProcessBaseUri(processBaseUri);
+        OutputStream out = ServiceManager.getFileService()
+                .write(ServiceManager.getProcessService().getMetadataFileUri(tempProcess.getProcess()));
+        tempProcess.getWorkpiece().setId(tempProcess.getProcess().getId().toString());
+        ServiceManager.getMetsService().save(tempProcess.getWorkpiece(), out);
+    }
 }
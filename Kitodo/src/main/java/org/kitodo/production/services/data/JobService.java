@@ -0,0 +1,82 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+
+package org.kitodo.production.services.data;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.kitodo.data.database.beans.Job;
+import org.kitodo.data.database.enums.JobState;
+import org.kitodo.data.database.exceptions.DAOException;
+import org.kitodo.data.database.persistence.JobDAO;
+import org.kitodo.production.services.data.base.SearchDatabaseService;
+import org.primefaces.model.SortOrder;
+
+public class JobService extends SearchDatabaseService<Job, JobDAO> {
+
+    private static volatile JobService instance = null;
+
+    /**
+     * Constructor necessary to use searcher in child classes.
+     */
+    private JobService() {
+        super(new JobDAO());
+    }
+
+    /**
+     * Return singleton variable of type JobService.
+     *
+     * @return unique instance of JobService
+     */
+    public static JobService getInstance() {
+        JobService localReference = instance;
+        if (Objects.isNull(localReference)) {
+            synchronized (JobService.class) {
+                localReference = instance;
+                if (Objects.isNull(localReference)) {
+                    localReference = new JobService();
+                    instance = localReference;
+                }
+            }
+        }
+        return localReference;
+    }
+
+    @Override
+    public List loadData(int first, int pageSize, String sortField, SortOrder sortOrder, Map filters) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Long countDatabaseRows() throws DAOException {
+        return countDatabaseRows("SELECT COUNT(*) FROM Job");
+    }
+
+    @Override
+    public Long countResults(Map filters) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Get all jobs in the given state, in the order in which they were
+     * created.
+     *
+     * @param state
+     *            state of the jobs
+     * @return list of jobs
+     */
+    public List<Job> getByState(JobState state) {
+        return dao.getByState(state);
+    }
+}
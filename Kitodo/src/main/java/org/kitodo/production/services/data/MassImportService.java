@@ -20,8 +20,8 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 
-import org.kitodo.exceptions.ImportException;
-import org.kitodo.production.services.ServiceManager;
+import org.kitodo.production.helper.tasks.MassImportTask;
+import org.kitodo.production.helper.tasks.TaskManager;
 import org.primefaces.model.UploadedFile;
 
 public class MassImportService {
@@ -56,7 +56,7 @@ public class MassImportService {
      * @param templateId the template id.
      */
     public void importFromCSV(String selectedCatalog, UploadedFile file, int projectId, int templateId)
-            throws IOException, ImportException {
+            throws IOException {
         CSVReader reader;
         List<String> ppns = new ArrayList<>();
         reader = new CSVReader(new InputStreamReader(file.getInputstream()));
@@ -75,17 +75,16 @@ public class MassImportService {
      * @param projectId the project id.
      * @param templateId the template id.
      */
-    public void importFromText(String selectedCatalog, String ppnString, int projectId, int templateId)
-            throws ImportException {
+    public void importFromText(String selectedCatalog, String ppnString, int projectId, int templateId) {
         List<String> ppns = Arrays.asList(ppnString.replaceAll("\\s","").split(","));
         importPPNs(selectedCatalog, ppns, projectId, templateId);
     }
 
-    private void importPPNs(String selectedCatalog, List<String> ppns, int projectId, int templateId)
-            throws ImportException {
-        ImportService importService = ServiceManager.getImportService();
-        for (String ppn : ppns) {
-            importService.importProcess(ppn, projectId, templateId, selectedCatalog);
-        }
+    /**
+     * Import processes for the given PPNs in a background task, which is shown
+     * in the task manager.
+     */
+    private void importPPNs(String selectedCatalog, List<String> ppns, int projectId, int templateId) {
+        TaskManager.addTask(new MassImportTask(selectedCatalog, new ArrayList<>(ppns), projectId, templateId));
     }
 }
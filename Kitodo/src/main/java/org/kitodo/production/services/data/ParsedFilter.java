@@ -0,0 +1,233 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.services.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import org.kitodo.production.enums.FilterString;
+
+/**
+ * A filter string parsed into its single filters. A filter string consists of
+ * filters delimited by quotation marks, each of them starting with the name of
+ * the filter, e.g. 'stepdone:', or being a text for the standard search. A
+ * leading '-' negates the filter. Parsing does not depend on the user or the
+ * type of the filtered objects, so a parsed filter can be shared and compiled
+ * to a query for each of them.
+ */
+final class ParsedFilter {
+
+    /**
+     * Filters in the order in which the names are tested.
+     */
+    private static final List<FilterString> FILTERS = Arrays.asList(FilterString.TASK, FilterString.TASKINWORK,
+        FilterString.TASKLOCKED, FilterString.TASKOPEN, FilterString.TASKDONE, FilterString.TASKDONETITLE,
+        FilterString.TASKDONEUSER, FilterString.TASKAUTOMATIC, FilterString.PROJECT, FilterString.ID,
+        FilterString.PARENTPROCESSID, FilterString.PROPERTY, FilterString.PROCESS, FilterString.BATCH);
+
+    /**
+     * Filters which can be negated. Other filters with a leading '-' are
+     * negated standard searches.
+     */
+    private static final List<FilterString> NEGATABLE_FILTERS = Arrays.asList(FilterString.TASKINWORK,
+        FilterString.TASKLOCKED, FilterString.TASKOPEN, FilterString.TASKDONE, FilterString.TASKDONETITLE,
+        FilterString.PROJECT, FilterString.BATCH);
+
+    private static final String DELIMITER = "\"";
+    private static final String NEGATION = "-";
+
+    /**
+     * A single filter of a filter string.
+     */
+    static final class Part {
+        private final FilterString filterString;
+        private final boolean negated;
+        private final String token;
+
+        private Part(FilterString filterString, boolean negated, String token) {
+            this.filterString = filterString;
+            this.negated = negated;
+            this.token = token;
+        }
+
+        /**
+         * Returns the kind of the filter.
+         *
+         * @return the kind of the filter, or null for the standard search
+         */
+        FilterString getFilterString() {
+            return filterString;
+        }
+
+        /**
+         * Returns whether the filter is negated.
+         *
+         * @return whether the filter is negated
+         */
+        boolean isNegated() {
+            return negated;
+        }
+
+        /**
+         * Returns the filter as written in the filter string, including its
+         * name and the negation.
+         *
+         * @return the filter
+         */
+        String getToken() {
+            return token;
+        }
+    }
+
+    /**
+     * A syntax error in a filter string.
+     */
+    static final class SyntaxError {
+        private final int position;
+        private final String messageKey;
+        private final String filterName;
+
+        private SyntaxError(int position, String messageKey, String filterName) {
+            this.position = position;
+            this.messageKey = messageKey;
+            this.filterName = filterName;
+        }
+
+        /**
+         * Returns the position of the error in the filter string, starting
+         * with 0.
+         *
+         * @return the position of the error
+         */
+        int getPosition() {
+            return position;
+        }
+
+        /**
+         * Returns the key of the error message.
+         *
+         * @return the key of the error message
+         */
+        String getMessageKey() {
+            return messageKey;
+        }
+
+        /**
+         * Returns the name of the filter the error refers to.
+         *
+         * @return the name of the filter, or an empty string
+         */
+        String getFilterName() {
+            return filterName;
+        }
+    }
+
+    private final List<Part> parts;
+    private final List<SyntaxError> syntaxErrors;
+
+    private ParsedFilter(List<Part> parts, List<SyntaxError> syntaxErrors) {
+        this.parts = Collections.unmodifiableList(parts);
+        this.syntaxErrors = Collections.unmodifiableList(syntaxErrors);
+    }
+
+    /**
+     * Parses a filter string. The filter string is parsed leniently: a
+     * quotation mark which is not closed ends at the end of the string and a
+     * filter without value is kept. Both are reported as syntax errors.
+     *
+     * @param filter
+     *            the filter string
+     * @return the parsed filter
+     */
+    static ParsedFilter parse(String filter) {
+        List<Part> parts = new ArrayList<>();
+        List<SyntaxError> syntaxErrors = new ArrayList<>();
+        int position = 0;
+        int openingQuotationMark = -1;
+        while (position < filter.length()) {
+            int end = filter.indexOf(DELIMITER, position);
+            if (end < 0) {
+                end = filter.length();
+            }
+            String token = filter.substring(position, end);
+            if (!token.isEmpty() && !token.equals(" ")) {
+                parts.add(parsePart(token, position, syntaxErrors));
+            }
+            if (end < filter.length()) {
+                openingQuotationMark = openingQuotationMark < 0 ? end : -1;
+            }
+            position = end + DELIMITER.length();
+        }
+        if (openingQuotationMark >= 0) {
+            syntaxErrors.add(new SyntaxError(openingQuotationMark, "filterUnclosedQuotationMark", ""));
+        }
+        return new ParsedFilter(parts, syntaxErrors);
+    }
+
+    private static Part parsePart(String token, int position, List<SyntaxError> syntaxErrors) {
+        String lowerCaseToken = token.toLowerCase();
+        for (FilterString filterString : FILTERS) {
+            String name = getName(lowerCaseToken, filterString, "");
+            if (Objects.nonNull(name)) {
+                checkValue(token, position, name, syntaxErrors);
+                return new Part(filterString, false, token);
+            }
+        }
+        if (lowerCaseToken.startsWith(NEGATION)) {
+            for (FilterString filterString : NEGATABLE_FILTERS) {
+                String name = getName(lowerCaseToken, filterString, NEGATION);
+                if (Objects.nonNull(name)) {
+                    checkValue(token, position, name, syntaxErrors);
+                    return new Part(filterString, true, token);
+                }
+            }
+            return new Part(null, true, token.substring(NEGATION.length()));
+        }
+        return new Part(null, false, token);
+    }
+
+    private static String getName(String lowerCaseToken, FilterString filterString, String prefix) {
+        if (lowerCaseToken.startsWith(prefix + filterString.getFilterEnglish())) {
+            return prefix + filterString.getFilterEnglish();
+        } else if (lowerCaseToken.startsWith(prefix + filterString.getFilterGerman())) {
+            return prefix + filterString.getFilterGerman();
+        }
+        return null;
+    }
+
+    private static void checkValue(String token, int position, String name, List<SyntaxError> syntaxErrors) {
+        if (token.substring(name.length()).trim().isEmpty()) {
+            syntaxErrors.add(new SyntaxError(position + name.length(), "filterMissingValue", name));
+        }
+    }
+
+    /**
+     * Returns the single filters of the filter string.
+     *
+     * @return the single filters
+     */
+    List<Part> getParts() {
+        return parts;
+    }
+
+    /**
+     * Returns the syntax errors of the filter string.
+     *
+     * @return the syntax errors, empty if there are none
+     */
+    List<SyntaxError> getSyntaxErrors() {
+        return syntaxErrors;
+    }
+}
@@ -34,7 +34,6 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.text.DecimalFormat;
@@ -56,12 +55,14 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import javax.faces.context.ExternalContext;
 import javax.faces.context.FacesContext;
+import javax.xml.stream.XMLStreamException;
 
 import org.apache.commons.configuration.ConfigurationException;
 import org.apache.commons.io.IOUtils;
@@ -84,9 +85,6 @@ import org.elasticsearch.index.query.QueryBuilder;
 import org.elasticsearch.search.sort.SortBuilder;
 import org.elasticsearch.search.sort.SortBuilders;
 import org.elasticsearch.search.sort.SortOrder;
-import org.json.JSONArray;
-import org.json.JSONObject;
-import org.json.XML;
 import org.kitodo.api.dataeditor.rulesetmanagement.FunctionalDivision;
 import org.kitodo.api.dataformat.IncludedStructuralElement;
 import org.kitodo.api.docket.DocketData;
@@ -125,6 +123,7 @@ import org.kitodo.production.dto.BatchDTO;
 import org.kitodo.production.dto.ProcessDTO;
 import org.kitodo.production.dto.ProjectDTO;
 import org.kitodo.production.dto.PropertyDTO;
+import org.kitodo.production.dto.RulesetDTO;
 import org.kitodo.production.dto.TaskDTO;
 import org.kitodo.production.enums.ObjectType;
 import org.kitodo.production.exporter.ExportXmlLog;
@@ -133,6 +132,7 @@ import org.kitodo.production.helper.Helper;
 import org.kitodo.production.helper.SearchResultGeneration;
 import org.kitodo.production.helper.WebDav;
 import org.kitodo.production.helper.metadata.ImageHelper;
+import org.kitodo.production.helper.metadata.IndexMetadataReader;
 import org.kitodo.production.helper.metadata.MetadataHelper;
 import org.kitodo.production.helper.metadata.legacytypeimplementations.LegacyDocStructHelperInterface;
 import org.kitodo.production.helper.metadata.legacytypeimplementations.LegacyMetadataHelper;
@@ -246,32 +246,40 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
     }
 
     @Override
-    public void save(Process process) throws DataException {
+    public void save(Process process, boolean forceRefresh) throws DataException {
         WorkflowControllerService.updateProcessSortHelperStatus(process);
-        if (Objects.nonNull(process.getParent())) {
-            save(process.getParent());
+        // a new parent must be stored first to be referenced by the child
+        if (Objects.nonNull(process.getParent()) && Objects.isNull(process.getParent().getId())) {
+            save(process.getParent(), forceRefresh);
         }
-        super.save(process);
+        super.save(process, forceRefresh);
         if (Objects.nonNull(process.getParent())) {
-            save(process.getParent());
+            save(process.getParent(), forceRefresh);
         }
     }
 
     @Override
     public void saveToIndex(Process process, boolean forceRefresh)
             throws CustomResponseException, DataException, IOException {
-        process.setMetadata(getMetadataForIndex(process));
-        process.setBaseType(getBaseType(process));
+        setMetadataForIndex(process, false);
         super.saveToIndex(process, forceRefresh);
     }
 
     @Override
-    public void addAllObjectsToIndex(List<Process> processes) throws CustomResponseException, DAOException {
+    public CompletableFuture<Void> addAllObjectsToIndexAsync(List<Process> processes)
+            throws CustomResponseException, DAOException {
+        for (Process process : processes) {
+            setMetadataForIndex(process, true);
+        }
+        return super.addAllObjectsToIndexAsync(processes);
+    }
+
+    @Override
+    public Map<Integer, Map<String, Object>> createIndexDocuments(List<Process> processes) {
         for (Process process : processes) {
-            process.setMetadata(getMetadataForIndex(process, true));
-            process.setBaseType(getBaseType(process));
+            setMetadataForIndex(process, true);
         }
-        super.addAllObjectsToIndex(processes);
+        return super.createIndexDocuments(processes);
     }
 
     /**
@@ -785,6 +793,59 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
 
     @Override
     public ProcessDTO convertJSONObjectToDTO(Map<String, Object> jsonObject, boolean related) throws DataException {
+        return convertJSONObjectsToDTOs(Collections.singletonList(jsonObject), related).get(0);
+    }
+
+    /**
+     * Convert list of JSONObject object to list of DTO objects. If the
+     * processes are not related, their projects, rulesets and tasks are read
+     * with one query for all processes, not with queries for each process.
+     *
+     * @param jsonObjects
+     *            list of SearchResult objects
+     * @param related
+     *            determines if converted object is related to some other object (if
+     *            so, objects related to it are not included in conversion)
+     * @return list of DTO object
+     */
+    @Override
+    protected List<ProcessDTO> convertJSONObjectsToDTOs(List<Map<String, Object>> jsonObjects, boolean related)
+            throws DataException {
+        Map<Integer, ProjectDTO> projects = Collections.emptyMap();
+        Map<Integer, RulesetDTO> rulesets = Collections.emptyMap();
+        Map<Integer, TaskDTO> tasks = Collections.emptyMap();
+        if (!related) {
+            Set<Integer> projectIds = new HashSet<>();
+            Set<Integer> rulesetIds = new HashSet<>();
+            Set<Integer> taskIds = new HashSet<>();
+            for (Map<String, Object> jsonObject : jsonObjects) {
+                if (!jsonObject.isEmpty()) {
+                    int project = ProcessTypeField.PROJECT_ID.getIntValue(jsonObject);
+                    if (project > 0) {
+                        projectIds.add(project);
+                    }
+                    int ruleset = ProcessTypeField.RULESET.getIntValue(jsonObject);
+                    if (ruleset > 0) {
+                        rulesetIds.add(ruleset);
+                    }
+                    taskIds.addAll(getRelatedPropertyForDTO(jsonObject, ProcessTypeField.TASKS.getKey()));
+                }
+            }
+            projects = ServiceManager.getProjectService().findByIds(projectIds, false);
+            rulesets = ServiceManager.getRulesetService().findByIds(rulesetIds, false);
+            tasks = ServiceManager.getTaskService().findByIds(taskIds, true);
+        }
+
+        List<ProcessDTO> processDTOs = new ArrayList<>(jsonObjects.size());
+        for (Map<String, Object> jsonObject : jsonObjects) {
+            processDTOs.add(convertJSONObjectToDTO(jsonObject, related, projects, rulesets, tasks));
+        }
+        return processDTOs;
+    }
+
+    private ProcessDTO convertJSONObjectToDTO(Map<String, Object> jsonObject, boolean related,
+            Map<Integer, ProjectDTO> projects, Map<Integer, RulesetDTO> rulesets, Map<Integer, TaskDTO> tasks)
+            throws DataException {
         ProcessDTO processDTO = new ProcessDTO();
         if (!jsonObject.isEmpty()) {
             processDTO.setId(getIdFromJSONObject(jsonObject));
@@ -815,7 +876,7 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
             processDTO.setProperties(properties);
 
             if (!related) {
-                convertRelatedJSONObjects(jsonObject, processDTO);
+                convertRelatedJSONObjects(jsonObject, processDTO, projects, rulesets, tasks);
             } else {
                 ProjectDTO projectDTO = new ProjectDTO();
                 projectDTO.setId(ProcessTypeField.PROJECT_ID.getIntValue(jsonObject));
@@ -827,21 +888,29 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
         return processDTO;
     }
 
-    private void convertRelatedJSONObjects(Map<String, Object> jsonObject, ProcessDTO processDTO) throws DataException {
+    private void convertRelatedJSONObjects(Map<String, Object> jsonObject, ProcessDTO processDTO,
+            Map<Integer, ProjectDTO> projects, Map<Integer, RulesetDTO> rulesets, Map<Integer, TaskDTO> tasks)
+            throws DataException {
         int project = ProcessTypeField.PROJECT_ID.getIntValue(jsonObject);
         if (project > 0) {
-            processDTO.setProject(ServiceManager.getProjectService().findById(project));
+            processDTO.setProject(ServiceManager.getProjectService().getFoundById(projects, project, false));
         }
         int ruleset = ProcessTypeField.RULESET.getIntValue(jsonObject);
         if (ruleset > 0) {
-            processDTO.setRuleset(ServiceManager.getRulesetService().findById(ruleset));
+            processDTO.setRuleset(ServiceManager.getRulesetService().getFoundById(rulesets, ruleset, false));
         }
 
         processDTO.setBatchID(getBatchID(processDTO));
         processDTO.setBatches(getBatchesForProcessDTO(jsonObject));
         // TODO: leave it for now - right now it displays only status
-        processDTO.setTasks(convertRelatedJSONObjectToDTO(jsonObject, ProcessTypeField.TASKS.getKey(),
-            ServiceManager.getTaskService()));
+        List<TaskDTO> processTasks = new ArrayList<>();
+        for (Integer taskId : getRelatedPropertyForDTO(jsonObject, ProcessTypeField.TASKS.getKey())) {
+            TaskDTO task = tasks.get(taskId);
+            if (Objects.nonNull(task)) {
+                processTasks.add(task);
+            }
+        }
+        processDTO.setTasks(processTasks);
 
         processDTO.setProgressClosed(getProgressClosed(null, processDTO.getTasks()));
         processDTO.setProgressInProcessing(getProgressInProcessing(null, processDTO.getTasks()));
@@ -2044,81 +2113,35 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
         return propertiesForDocket;
     }
 
-    private List<Map<String, Object>> getMetadataForIndex(Process process) {
-        return getMetadataForIndex(process, false);
-    }
-
-    @SuppressWarnings("unchecked")
-    private List<Map<String, Object>> getMetadataForIndex(Process process, boolean forIndexingAll) {
+    /**
+     * Set metadata and base type of the process for the index. Both are read
+     * from the metadata file in one pass.
+     *
+     * @param process
+     *            process to index
+     * @param forIndexingAll
+     *            if the process is indexed together with all other processes
+     */
+    private void setMetadataForIndex(Process process, boolean forIndexingAll) {
+        List<Map<String, Object>> metadata = Collections.emptyList();
+        String baseType = "";
         try {
             URI metadataFileUri = ServiceManager.getFileService().getMetadataFilePath(process, false, true);
-            if (!ServiceManager.getFileService().fileExist(metadataFileUri)) {
-                logger.info("No metadata file for indexing: {}", metadataFileUri);
-                return Collections.emptyList();
-            }
-            String metadataFile;
-            try (InputStream inputStream = ServiceManager.getFileService().readMetadataFile(process, forIndexingAll)) {
-                metadataFile = IOUtils.toString(inputStream, StandardCharsets.UTF_8);
-            }
-            JSONObject xmlJSONObject = XML.toJSONObject(metadataFile);
-            Map<String, Object> json = iterateOverJsonObject(xmlJSONObject);
-            if (json.containsKey("mets")) {
-                Map<String, Object> mets = (Map<String, Object>) json.get("mets");
-                Object dmdSec = mets.get("dmdSec");
-                List<Map<String, Object>> metadata = new ArrayList<>();
-                if (dmdSec instanceof List) {
-                    metadata = (List<Map<String, Object>>) dmdSec;
-                } else if (dmdSec instanceof Map) {
-                    metadata.add((Map<String, Object>) dmdSec);
+            if (ServiceManager.getFileService().fileExist(metadataFileUri)) {
+                try (InputStream inputStream = ServiceManager.getFileService().readMetadataFile(process,
+                    forIndexingAll)) {
+                    IndexMetadataReader indexMetadataReader = IndexMetadataReader.read(inputStream);
+                    metadata = indexMetadataReader.getMetadata();
+                    baseType = indexMetadataReader.getBaseType();
                 }
-                return metadata;
+            } else {
+                logger.info("No metadata file for indexing: {}", metadataFileUri);
             }
-        } catch (NullPointerException | IOException e) {
+        } catch (IOException | XMLStreamException e) {
             logger.warn(e.getMessage(), e);
         }
-        return Collections.emptyList();
-    }
-
-    private Map<String, Object> iterateOverJsonObject(JSONObject xmlJSONObject) {
-        Iterator<String> keys = xmlJSONObject.keys();
-        Map<String, Object> json = new HashMap<>();
-        while (keys.hasNext()) {
-            String key = keys.next();
-            Object value = xmlJSONObject.get(key);
-            if (value instanceof String || value instanceof Integer) {
-                json.put(prepareKey(key), value);
-            } else if (value instanceof JSONObject) {
-                JSONObject jsonObject = (JSONObject) value;
-                Map<String, Object> map = iterateOverJsonObject(jsonObject);
-                json.put(prepareKey(key), map);
-            } else if (value instanceof JSONArray) {
-                json.put(prepareKey(key), iterateOverJsonArray((JSONArray) value));
-            }
-        }
-        return json;
-    }
-
-    private Object iterateOverJsonArray(JSONArray jsonArray) {
-        int jsonArraySize = jsonArray.length();
-        List<Object> json = new ArrayList<>(jsonArraySize);
-        for (int i = 0; i < jsonArraySize; i++) {
-            Object value = jsonArray.get(i);
-            if (value instanceof JSONObject) {
-                json.add(iterateOverJsonObject((JSONObject) value));
-            } else if (value instanceof String) {
-                json.add(value);
-            } else if (value instanceof JSONArray) {
-                json.add(iterateOverJsonArray((JSONArray) value));
-            }
-        }
-        return json;
-    }
-
-    private String prepareKey(String key) {
-        if (key.contains(":")) {
-            return key.substring(key.indexOf(':') + 1);
-        }
-        return key;
+        process.setMetadata(metadata);
+        process.setBaseType(baseType);
     }
 
     /**
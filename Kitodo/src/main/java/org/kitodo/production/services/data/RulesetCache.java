@@ -0,0 +1,137 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.services.data;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.kitodo.api.dataeditor.rulesetmanagement.RulesetManagementInterface;
+
+/**
+ * Cache of loaded rulesets. A ruleset is loaded again if its file was
+ * modified, which is detected by modification time and size of the file. If
+ * the cache is full, the least recently used ruleset is removed. The cached
+ * rulesets are shared, so they must not be loaded again by their users.
+ */
+class RulesetCache {
+
+    /**
+     * Loads a ruleset from a file.
+     */
+    @FunctionalInterface
+    interface RulesetLoader {
+        RulesetManagementInterface load(File rulesetFile) throws IOException;
+    }
+
+    private static class Entry {
+        private final long lastModified;
+        private final long length;
+        private final RulesetManagementInterface ruleset;
+
+        Entry(long lastModified, long length, RulesetManagementInterface ruleset) {
+            this.lastModified = lastModified;
+            this.length = length;
+            this.ruleset = ruleset;
+        }
+
+        boolean isCurrent(File rulesetFile) {
+            return lastModified == rulesetFile.lastModified() && length == rulesetFile.length();
+        }
+    }
+
+    private final Map<String, Entry> rulesets;
+    private final RulesetLoader loader;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Constructor.
+     *
+     * @param capacity
+     *            maximum number of cached rulesets
+     * @param loader
+     *            loads a ruleset which is not cached
+     */
+    RulesetCache(int capacity, RulesetLoader loader) {
+        this.loader = loader;
+        this.rulesets = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Get the ruleset of the given file, loading it if it is not cached or the
+     * file was modified.
+     *
+     * @param rulesetFile
+     *            file of the ruleset
+     * @return the loaded ruleset
+     * @throws IOException
+     *             if the ruleset cannot be loaded
+     */
+    RulesetManagementInterface get(File rulesetFile) throws IOException {
+        String key = rulesetFile.getAbsolutePath();
+        Entry entry;
+        synchronized (rulesets) {
+            entry = rulesets.get(key);
+        }
+        if (Objects.nonNull(entry) && entry.isCurrent(rulesetFile)) {
+            hits.incrementAndGet();
+            return entry.ruleset;
+        }
+        misses.incrementAndGet();
+        long lastModified = rulesetFile.lastModified();
+        long length = rulesetFile.length();
+        RulesetManagementInterface ruleset = loader.load(rulesetFile);
+        synchronized (rulesets) {
+            rulesets.put(key, new Entry(lastModified, length, ruleset));
+        }
+        return ruleset;
+    }
+
+    /**
+     * Remove the ruleset of the given file from the cache.
+     *
+     * @param rulesetFile
+     *            file of the ruleset
+     */
+    void invalidate(File rulesetFile) {
+        synchronized (rulesets) {
+            rulesets.remove(rulesetFile.getAbsolutePath());
+        }
+    }
+
+    /**
+     * Get the number of rulesets taken from the cache.
+     *
+     * @return number of cache hits
+     */
+    long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Get the number of rulesets which had to be loaded.
+     *
+     * @return number of cache misses
+     */
+    long getMisses() {
+        return misses.get();
+    }
+}
@@ -11,6 +11,7 @@
 
 package org.kitodo.production.services.data;
 
+import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.Paths;
@@ -49,6 +50,8 @@ public class RulesetService extends ClientSearchService<Ruleset, RulesetDTO, Rul
 
     private static final Logger logger = LogManager.getLogger(RulesetService.class);
     private static volatile RulesetService instance = null;
+    private final RulesetCache rulesetCache = new RulesetCache(
+            ConfigCore.getIntParameterOrDefaultValue(ParameterCore.RULESET_CACHE_SIZE), this::loadRuleset);
 
     /**
      * Constructor with Searcher and Indexer assigning.
@@ -202,13 +205,13 @@ public class RulesetService extends ClientSearchService<Ruleset, RulesetDTO, Rul
      * @return preferences
      */
     public LegacyPrefsHelper getPreferences(Ruleset ruleset) {
-        LegacyPrefsHelper myPreferences = new LegacyPrefsHelper();
         try {
-            myPreferences.loadPrefs(ConfigCore.getParameter(ParameterCore.DIR_RULESETS) + ruleset.getFile());
+            return new LegacyPrefsHelper(
+                rulesetCache.get(new File(ConfigCore.getParameter(ParameterCore.DIR_RULESETS) + ruleset.getFile())));
         } catch (IOException e) {
             logger.error(e.getMessage(), e);
+            return new LegacyPrefsHelper();
         }
-        return myPreferences;
     }
 
     private QueryBuilder getRulesetsForCurrentUserQuery() {
@@ -219,26 +222,63 @@ public class RulesetService extends ClientSearchService<Ruleset, RulesetDTO, Rul
     }
 
     /**
-     * Acquires a ruleset Management and loads a ruleset into it.
+     * Acquires a ruleset Management and loads a ruleset into it. Rulesets are
+     * cached as long as their file is not modified, so the returned ruleset
+     * management is shared and must not be loaded again.
      *
      * @param ruleset
      *            database object that references the ruleset
      * @return a Ruleset Management in which the ruleset has been loaded
      */
     public RulesetManagementInterface openRuleset(Ruleset ruleset) throws IOException {
-        final long begin = System.nanoTime();
-        RulesetManagementInterface rulesetManagement = ServiceManager.getRulesetManagementService()
-                .getRulesetManagement();
         String fileName = ruleset.getFile();
         try {
-            rulesetManagement.load(Paths.get(ConfigCore.getParameter(ParameterCore.DIR_RULESETS), fileName).toFile());
+            return rulesetCache.get(Paths.get(ConfigCore.getParameter(ParameterCore.DIR_RULESETS), fileName).toFile());
         } catch (FileNotFoundException e) {
             throw new RulesetNotFoundException(fileName);
         }
+    }
 
+    private RulesetManagementInterface loadRuleset(File rulesetFile) throws IOException {
+        final long begin = System.nanoTime();
+        RulesetManagementInterface rulesetManagement = ServiceManager.getRulesetManagementService()
+                .getRulesetManagement();
+        rulesetManagement.load(rulesetFile);
         if (logger.isTraceEnabled()) {
             logger.trace("Reading ruleset took {} ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin));
         }
         return rulesetManagement;
     }
+
+    /**
+     * Removes the loaded ruleset from the cache, so it is loaded again on next
+     * use.
+     *
+     * @param ruleset
+     *            database object that references the ruleset
+     */
+    public void invalidateRuleset(Ruleset ruleset) {
+        if (Objects.nonNull(ruleset.getFile())) {
+            rulesetCache.invalidate(Paths.get(ConfigCore.getParameter(ParameterCore.DIR_RULESETS), ruleset.getFile())
+                    .toFile());
+        }
+    }
+
+    /**
+     * Get the number of rulesets which were taken from the cache.
+     *
+     * @return number of cache hits
+     */
+    public long getRulesetCacheHits() {
+        return rulesetCache.getHits();
+    }
+
+    /**
+     * Get the number of rulesets which had to be loaded from their file.
+     *
+     * @return number of cache misses
+     */
+    public long getRulesetCacheMisses() {
+        return rulesetCache.getMisses();
+    }
 }
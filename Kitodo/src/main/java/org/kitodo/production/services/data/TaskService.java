@@ -13,6 +13,7 @@ package org.kitodo.production.services.data;
 
 import java.io.IOException;
 import java.text.MessageFormat;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashSet;
@@ -50,6 +51,7 @@ import org.kitodo.data.elasticsearch.index.type.enums.TaskTypeField;
 import org.kitodo.data.elasticsearch.search.Searcher;
 import org.kitodo.data.exceptions.DataException;
 import org.kitodo.export.ExportDms;
+import org.kitodo.production.dto.ProcessDTO;
 import org.kitodo.production.dto.TaskDTO;
 import org.kitodo.production.dto.UserDTO;
 import org.kitodo.production.enums.GenerationMode;
@@ -270,6 +272,45 @@ public class TaskService extends ProjectSearchService<Task, TaskDTO, TaskDAO> {
 
     @Override
     public TaskDTO convertJSONObjectToDTO(Map<String, Object> jsonObject, boolean related) throws DataException {
+        return convertJSONObjectsToDTOs(Collections.singletonList(jsonObject), related).get(0);
+    }
+
+    /**
+     * Convert list of JSONObject object to list of DTO objects. If the tasks
+     * are not related, their processes are read with one query for all tasks,
+     * not with a query for each task.
+     *
+     * @param jsonObjects
+     *            list of SearchResult objects
+     * @param related
+     *            determines if converted object is related to some other object (if
+     *            so, objects related to it are not included in conversion)
+     * @return list of DTO object
+     */
+    @Override
+    protected List<TaskDTO> convertJSONObjectsToDTOs(List<Map<String, Object>> jsonObjects, boolean related)
+            throws DataException {
+        Map<Integer, ProcessDTO> processes = Collections.emptyMap();
+        if (!related) {
+            Set<Integer> processIds = new HashSet<>();
+            for (Map<String, Object> jsonObject : jsonObjects) {
+                int process = TaskTypeField.PROCESS_ID.getIntValue(jsonObject);
+                if (process > 0) {
+                    processIds.add(process);
+                }
+            }
+            processes = ServiceManager.getProcessService().findByIds(processIds, true);
+        }
+
+        List<TaskDTO> taskDTOs = new ArrayList<>(jsonObjects.size());
+        for (Map<String, Object> jsonObject : jsonObjects) {
+            taskDTOs.add(convertJSONObjectToDTO(jsonObject, related, processes));
+        }
+        return taskDTOs;
+    }
+
+    private TaskDTO convertJSONObjectToDTO(Map<String, Object> jsonObject, boolean related,
+            Map<Integer, ProcessDTO> processes) throws DataException {
         TaskDTO taskDTO = new TaskDTO();
         taskDTO.setId(getIdFromJSONObject(jsonObject));
         taskDTO.setTitle(TaskTypeField.TITLE.getStringValue(jsonObject));
@@ -300,7 +341,7 @@ public class TaskService extends ProjectSearchService<Task, TaskDTO, TaskDAO> {
          */
         int process = TaskTypeField.PROCESS_ID.getIntValue(jsonObject);
         if (process > 0 && !related) {
-            taskDTO.setProcess(ServiceManager.getProcessService().findById(process, true));
+            taskDTO.setProcess(ServiceManager.getProcessService().getFoundById(processes, process, true));
             taskDTO.setBatchAvailable(ServiceManager.getProcessService()
                     .isProcessAssignedToOnlyOneBatch(taskDTO.getProcess().getBatches()));
         }
@@ -14,6 +14,7 @@ package org.kitodo.production.services.data.base;
 import static org.elasticsearch.index.query.QueryBuilders.matchQuery;
 
 import java.util.Date;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -138,6 +139,16 @@ public abstract class ClientSearchService<T extends BaseIndexedBean, S extends B
         return super.findByQuery(queryForClient(query), sort, offset, size, related);
     }
 
+    @Override
+    public Set<Integer> findIdsByQuery(QueryBuilder query) throws DataException {
+        return super.findIdsByQuery(queryForClient(query));
+    }
+
+    @Override
+    public Iterator<S> iterateByQuery(QueryBuilder query, SortBuilder sort, boolean related) throws DataException {
+        return super.iterateByQuery(queryForClient(query), sort, related);
+    }
+
     @Override
     public Long countDocuments(QueryBuilder query) throws DataException {
         return super.countDocuments(queryForClient(query));
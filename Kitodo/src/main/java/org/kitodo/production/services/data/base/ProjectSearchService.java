@@ -11,8 +11,10 @@
 
 package org.kitodo.production.services.data.base;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 import org.elasticsearch.index.query.BoolQueryBuilder;
 import org.elasticsearch.index.query.QueryBuilder;
@@ -88,6 +90,16 @@ public abstract class ProjectSearchService<T extends BaseIndexedBean, S extends
         return super.findByQuery(queryForProjects(query), sort, offset, size, related);
     }
 
+    @Override
+    public Set<Integer> findIdsByQuery(QueryBuilder query) throws DataException {
+        return super.findIdsByQuery(queryForProjects(query));
+    }
+
+    @Override
+    public Iterator<S> iterateByQuery(QueryBuilder query, SortBuilder sort, boolean related) throws DataException {
+        return super.iterateByQuery(queryForProjects(query), sort, related);
+    }
+
     @Override
     public Long countDocuments(QueryBuilder query) throws DataException {
         return super.countDocuments(queryForProjects(query));
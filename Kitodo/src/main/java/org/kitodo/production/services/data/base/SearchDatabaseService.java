@@ -187,6 +187,19 @@ public abstract class SearchDatabaseService<T extends BaseBean, S extends BaseDA
         return dao.getAll(offset, size);
     }
 
+    /**
+     * Get list of objects from database with an id greater than the given id.
+     *
+     * @param lastId
+     *            id of the last object of the previous page, 0 for the first page
+     * @param size
+     *            amount of results
+     * @return list of objects from database following the given id
+     */
+    public List<T> getAllAfterId(int lastId, int size) throws DAOException {
+        return dao.getAllAfterId(lastId, size);
+    }
+
     /**
      * Evict given bean object.
      *
@@ -19,12 +19,20 @@ import static org.elasticsearch.index.query.QueryBuilders.termsQuery;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 import javax.json.JsonObject;
 import javax.ws.rs.HttpMethod;
@@ -41,6 +49,7 @@ import org.elasticsearch.search.aggregations.bucket.terms.Terms;
 import org.elasticsearch.search.aggregations.bucket.terms.TermsAggregationBuilder;
 import org.elasticsearch.search.sort.SortBuilder;
 import org.elasticsearch.search.sort.SortBuilders;
+import org.hibernate.Hibernate;
 import org.kitodo.data.database.beans.BaseBean;
 import org.kitodo.data.database.beans.BaseIndexedBean;
 import org.kitodo.data.database.enums.IndexAction;
@@ -55,6 +64,7 @@ import org.kitodo.data.exceptions.DataException;
 import org.kitodo.production.dto.BaseDTO;
 import org.kitodo.production.helper.Helper;
 import org.kitodo.production.services.data.ProjectService;
+import org.kitodo.production.services.index.IndexOutboxDispatcher;
 import org.primefaces.model.SortOrder;
 
 /**
@@ -65,6 +75,18 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
         extends SearchDatabaseService<T, V> {
 
     private static final Logger logger = LogManager.getLogger(SearchService.class);
+
+    /**
+     * Maximum number of ids in one query of {@link #findByIds(Collection, boolean)}.
+     */
+    private static final int IDS_PER_QUERY = 1000;
+
+    /**
+     * Number of documents requested at once while iterating over the results
+     * of a query.
+     */
+    private static final int DOCUMENTS_PER_PAGE = 1000;
+
     protected Searcher searcher;
     protected Indexer indexer;
     protected BaseType type;
@@ -131,6 +153,20 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
         return dao.getAllNotIndexed(offset, size);
     }
 
+    /**
+     * Get not indexed objects from database with an id greater than the given
+     * id. Not indexed means that row has index action INDEX or NULL.
+     *
+     * @param lastId
+     *            id of the last object of the previous page, 0 for the first page
+     * @param size
+     *            amount of results
+     * @return list of not indexed objects from database following the given id
+     */
+    public List<T> getAllNotIndexedAfterId(int lastId, int size) throws DAOException {
+        return dao.getAllNotIndexedAfterId(lastId, size);
+    }
+
     /**
      * Get all DTO objects from index an convert them for frontend with all
      * relations.
@@ -202,11 +238,73 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
      * @param baseIndexedBeans
      *            List of BaseIndexedBean objects
      */
-    @SuppressWarnings("unchecked")
     public void addAllObjectsToIndex(List<T> baseIndexedBeans) throws CustomResponseException, DAOException {
+        awaitIndexing(addAllObjectsToIndexAsync(baseIndexedBeans));
+    }
+
+    /**
+     * Method adds all object found in database to Elastic Search index without
+     * waiting for the bulk requests to finish.
+     *
+     * @param baseIndexedBeans
+     *            List of BaseIndexedBean objects
+     * @return future completed when all objects are indexed
+     */
+    @SuppressWarnings("unchecked")
+    public CompletableFuture<Void> addAllObjectsToIndexAsync(List<T> baseIndexedBeans)
+            throws CustomResponseException, DAOException {
         indexer.setMethod(HttpMethod.PUT);
         if (!baseIndexedBeans.isEmpty()) {
-            indexer.performMultipleRequests(baseIndexedBeans, type, true);
+            return indexer.performMultipleRequests(baseIndexedBeans, type, true);
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Wait until the asynchronous indexing represented by the given future is
+     * finished.
+     *
+     * @param indexing
+     *            future returned by addAllObjectsToIndexAsync
+     * @throws CustomResponseException
+     *             if indexing failed or waiting was interrupted
+     */
+    public static void awaitIndexing(CompletableFuture<Void> indexing) throws CustomResponseException {
+        try {
+            indexing.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomResponseException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof CustomResponseException) {
+                throw (CustomResponseException) e.getCause();
+            }
+            throw new CustomResponseException(e);
+        }
+    }
+
+    /**
+     * Method creates documents for the index of Elastic Search without sending
+     * them.
+     *
+     * @param baseIndexedBeans
+     *            List of BaseIndexedBean objects
+     * @return map of bean ids to documents
+     */
+    @SuppressWarnings("unchecked")
+    public Map<Integer, Map<String, Object>> createIndexDocuments(List<T> baseIndexedBeans) {
+        return type.createDocuments(baseIndexedBeans);
+    }
+
+    /**
+     * Method adds already created documents to Elastic Search index.
+     *
+     * @param documents
+     *            map of bean ids to documents
+     */
+    public void addDocumentsToIndex(Map<Integer, Map<String, Object>> documents) throws CustomResponseException {
+        if (!documents.isEmpty()) {
+            indexer.performMultipleRequests(documents);
         }
     }
 
@@ -269,16 +367,39 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
      * fails and in that case, even if index is up to date, in some point of the
      * future it will be reindexed by administrator.
      *
+     * <p>
+     * If the index outbox is enabled, only the first step is performed and the
+     * object is indexed in the background by the {@link IndexOutboxDispatcher}.
+     *
      * @param baseIndexedBean
      *            object
      */
     public void save(T baseIndexedBean) throws DataException {
+        save(baseIndexedBean, true);
+    }
+
+    /**
+     * Method saves object to database and document to the index of Elastic Search
+     * as described in {@link #save(BaseIndexedBean)}. Callers saving many objects
+     * in a row can opt out of refreshing the index for every single object.
+     *
+     * @param baseIndexedBean
+     *            object
+     * @param forceRefresh
+     *            force index refresh - if false, object is available for display
+     *            only after the next periodic refresh of the index
+     */
+    public void save(T baseIndexedBean, boolean forceRefresh) throws DataException {
+        if (IndexOutboxDispatcher.isEnabled()) {
+            saveToOutbox(baseIndexedBean);
+            return;
+        }
         try {
             baseIndexedBean.setIndexAction(IndexAction.INDEX);
             saveToDatabase(baseIndexedBean);
             // TODO: find out why properties lists are save double
             T savedBean = getById(baseIndexedBean.getId());
-            saveToIndex(savedBean, true);
+            saveToIndex(savedBean, forceRefresh);
             manageDependenciesForIndex(savedBean);
             savedBean.setIndexAction(IndexAction.DONE);
             saveToDatabase(savedBean);
@@ -290,7 +411,7 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
             int maxTries = 5;
             while (true) {
                 try {
-                    saveToIndex(baseIndexedBean, true);
+                    saveToIndex(baseIndexedBean, forceRefresh);
                     manageDependenciesForIndex(baseIndexedBean);
                     baseIndexedBean.setIndexAction(IndexAction.DONE);
                     saveToDatabase(baseIndexedBean);
@@ -308,6 +429,100 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
         }
     }
 
+    /**
+     * Method saves object to database with the flag indexAction set to state
+     * Index and leaves indexing to the outbox dispatcher. Bean and flag are
+     * written in one transaction, so the update of the index cannot get lost.
+     *
+     * @param baseIndexedBean
+     *            object
+     */
+    private void saveToOutbox(T baseIndexedBean) throws DataException {
+        try {
+            baseIndexedBean.setIndexAction(IndexAction.INDEX);
+            saveToDatabase(baseIndexedBean);
+        } catch (DAOException e) {
+            logger.debug(e);
+            throw new DataException(e);
+        }
+        IndexOutboxDispatcher.getInstance().notifyPending(this);
+    }
+
+    /**
+     * Index all objects whose flag indexAction is in state Index, batch by
+     * batch. The rows of a batch are claimed by setting the flag to Indexing
+     * before the objects are loaded. Only after the bulk request succeeded, the
+     * rows still in state Indexing are set to Done, so objects saved again while
+     * the batch is indexed stay in state Index and are indexed again by the next
+     * run. If indexing fails, the flag is set back to Index. Rows left in state
+     * Indexing by a crash are set back to Index by
+     * {@link #resetIndexingObjects()} when the application starts.
+     *
+     * @param batchSize
+     *            amount of objects indexed in one bulk request
+     * @return number of indexed objects
+     */
+    public int indexPendingObjects(int batchSize) throws DataException {
+        int indexed = 0;
+        try {
+            List<T> pending = getAllNotIndexedAfterId(0, batchSize);
+            while (!pending.isEmpty()) {
+                int lastId = pending.get(pending.size() - 1).getId();
+                String entity = Hibernate.getClass(pending.get(0)).getSimpleName();
+                List<Integer> ids = new ArrayList<>();
+                for (T bean : pending) {
+                    ids.add(bean.getId());
+                }
+                updateIndexAction(entity, ids, null, IndexAction.INDEXING);
+                List<T> claimed = getByQuery("FROM " + entity + " WHERE id IN (:ids)",
+                    Collections.singletonMap("ids", ids));
+                try {
+                    addAllObjectsToIndex(claimed);
+                    for (T bean : claimed) {
+                        manageDependenciesForIndex(bean);
+                    }
+                } catch (CustomResponseException | DataException | IOException e) {
+                    updateIndexAction(entity, ids, IndexAction.INDEXING, IndexAction.INDEX);
+                    throw new DataException(e);
+                }
+                updateIndexAction(entity, ids, IndexAction.INDEXING, IndexAction.DONE);
+                indexed += claimed.size();
+                pending = getAllNotIndexedAfterId(lastId, batchSize);
+            }
+        } catch (DAOException e) {
+            throw new DataException(e);
+        }
+        return indexed;
+    }
+
+    /**
+     * Set the flag indexAction of all objects in state Indexing back to Index.
+     * These are objects whose indexing from the outbox was interrupted by a
+     * stop of the application.
+     *
+     * @return number of objects set back to Index
+     */
+    public int resetIndexingObjects() throws DataException {
+        try {
+            return dao.resetIndexingObjects();
+        } catch (DAOException e) {
+            throw new DataException(e);
+        }
+    }
+
+    private void updateIndexAction(String entity, List<Integer> ids, IndexAction previousIndexAction,
+            IndexAction indexAction) throws DAOException {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("indexAction", indexAction);
+        parameters.put("ids", ids);
+        String query = "UPDATE " + entity + " SET indexAction = :indexAction WHERE id IN (:ids)";
+        if (Objects.nonNull(previousIndexAction)) {
+            parameters.put("previousIndexAction", previousIndexAction);
+            query += " AND indexAction = :previousIndexAction";
+        }
+        dao.updateByQuery(query, parameters);
+    }
+
     /**
      * Method removes object from database and document from the index of Elastic
      * Search.
@@ -393,12 +608,13 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
      * @return list of all documents
      */
     public List<Map<String, Object>> findAllDocuments() throws DataException {
-        QueryBuilder queryBuilder = matchAllQuery();
+        List<Map<String, Object>> documents = new ArrayList<>();
         try {
-            return searcher.findDocuments(queryBuilder, null, null, Math.toIntExact(count()));
-        } catch (CustomResponseException e) {
+            searcher.iterateDocuments(matchAllQuery(), null, DOCUMENTS_PER_PAGE).forEachRemaining(documents::add);
+        } catch (CustomResponseException | IllegalStateException e) {
             throw new DataException(e);
         }
+        return documents;
     }
 
     /**
@@ -444,6 +660,53 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
         }
     }
 
+    /**
+     * Find the DTO objects with the given ids. The objects are read with one
+     * query per {@value #IDS_PER_QUERY} ids instead of one query per object.
+     *
+     * @param ids
+     *            ids of the objects
+     * @param related
+     *            determines if converted objects are related to some other
+     *            object (if so, objects related to them are not included in
+     *            conversion)
+     * @return DTO objects by id, ids which were not found are missing
+     */
+    public Map<Integer, S> findByIds(Collection<Integer> ids, boolean related) throws DataException {
+        Map<Integer, S> dtos = new HashMap<>();
+        List<Integer> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        for (int from = 0; from < distinctIds.size(); from += IDS_PER_QUERY) {
+            List<Integer> idsOfQuery = distinctIds.subList(from, Math.min(from + IDS_PER_QUERY, distinctIds.size()));
+            try {
+                for (S dto : convertJSONObjectsToDTOs(
+                    searcher.findDocuments(createSetQueryForIds(idsOfQuery), null, idsOfQuery.size()), related)) {
+                    dtos.put(dto.getId(), dto);
+                }
+            } catch (CustomResponseException e) {
+                throw new DataException(e);
+            }
+        }
+        return dtos;
+    }
+
+    /**
+     * Get a DTO object found by {@link #findByIds(Collection, boolean)}. If it
+     * was not found, it is searched by id alone, to get the same result as
+     * {@link #findById(Integer, boolean)}.
+     *
+     * @param dtos
+     *            DTO objects by id
+     * @param id
+     *            id of the object
+     * @param related
+     *            determines if converted object is related to some other object
+     * @return DTO object
+     */
+    public S getFoundById(Map<Integer, S> dtos, Integer id, boolean related) throws DataException {
+        S dto = dtos.get(id);
+        return Objects.nonNull(dto) ? dto : findById(id, related);
+    }
+
     /**
      * Find list of DTO objects by query.
      *
@@ -508,6 +771,64 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
         }
     }
 
+    /**
+     * Find the ids of all objects matching the query. Only the ids are read
+     * from the index, no DTO objects are created and the database is not
+     * accessed. The number of results is not limited.
+     *
+     * @param query
+     *            as QueryBuilder object
+     * @return ids of the found objects
+     */
+    public Set<Integer> findIdsByQuery(QueryBuilder query) throws DataException {
+        try {
+            return new LinkedHashSet<>(searcher.findDocumentIds(query));
+        } catch (CustomResponseException e) {
+            throw new DataException(e);
+        }
+    }
+
+    /**
+     * Iterate over the DTO objects of all documents matching the query. In
+     * contrast to findByQuery, the number of results is not limited. The
+     * documents are requested and converted page by page while iterating, so
+     * only one page of documents is held in memory at a time.
+     *
+     * @param query
+     *            as QueryBuilder object
+     * @param related
+     *            determines if converted object is related to some other object (if
+     *            so, objects related to it are not included in conversion)
+     * @return iterator over the found DTO objects. If a following page cannot
+     *         be requested or converted, the iterator throws an
+     *         IllegalStateException with the cause.
+     */
+    public Iterator<S> iterateByQuery(QueryBuilder query, boolean related) throws DataException {
+        return iterateByQuery(query, null, related);
+    }
+
+    /**
+     * Iterate over the sorted DTO objects of all documents matching the query.
+     * Documents which are equal in the sort conditions are returned in the
+     * order of their ids.
+     *
+     * @param query
+     *            as QueryBuilder object
+     * @param sort
+     *            as SortBuilder object, may be null
+     * @param related
+     *            determines if converted object is related to some other object (if
+     *            so, objects related to it are not included in conversion)
+     * @return iterator over the found DTO objects
+     */
+    public Iterator<S> iterateByQuery(QueryBuilder query, SortBuilder sort, boolean related) throws DataException {
+        try {
+            return new DTOIterator(searcher.iterateDocuments(query, sort, DOCUMENTS_PER_PAGE), related);
+        } catch (CustomResponseException e) {
+            throw new DataException(e);
+        }
+    }
+
     /**
      * Convert list of JSONObject object to list of DTO objects.
      *
@@ -885,7 +1206,7 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
      * @return display properties as list of Integers
      */
     @SuppressWarnings("unchecked")
-    private List<Integer> getRelatedPropertyForDTO(Map<String, Object> object, String key) {
+    protected List<Integer> getRelatedPropertyForDTO(Map<String, Object> object, String key) {
         if (Objects.nonNull(object)) {
             List<Map<String, Object>> jsonArray = (List<Map<String, Object>>) object.get(key);
             List<Integer> ids = new ArrayList<>();
@@ -921,4 +1242,44 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
             }
         }
     }
+
+    /**
+     * Converts the documents of an iterator to DTO objects, one page of
+     * documents at a time, so that the related objects of a page can be read
+     * together.
+     */
+    private class DTOIterator implements Iterator<S> {
+        private final Iterator<Map<String, Object>> documents;
+        private final boolean related;
+        private Iterator<S> page = Collections.emptyIterator();
+
+        DTOIterator(Iterator<Map<String, Object>> documents, boolean related) {
+            this.documents = documents;
+            this.related = related;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!page.hasNext() && documents.hasNext()) {
+                List<Map<String, Object>> jsonObjects = new ArrayList<>(DOCUMENTS_PER_PAGE);
+                while (jsonObjects.size() < DOCUMENTS_PER_PAGE && documents.hasNext()) {
+                    jsonObjects.add(documents.next());
+                }
+                try {
+                    page = convertJSONObjectsToDTOs(jsonObjects, related).iterator();
+                } catch (DataException e) {
+                    throw new IllegalStateException(e.getMessage(), e);
+                }
+            }
+            return page.hasNext();
+        }
+
+        @Override
+        public S next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return page.next();
+        }
+    }
 }
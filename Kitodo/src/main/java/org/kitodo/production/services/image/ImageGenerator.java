@@ -20,12 +20,15 @@ import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -36,6 +39,10 @@ import javax.imageio.ImageIO;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.kitodo.api.imagemanagement.ImageDerivative;
+import org.kitodo.api.imagemanagement.ImageFileFormat;
+import org.kitodo.config.ConfigCore;
+import org.kitodo.config.enums.ParameterCore;
 import org.kitodo.config.xml.fileformats.FileFormat;
 import org.kitodo.data.database.beans.Folder;
 import org.kitodo.production.enums.GenerationMode;
@@ -115,7 +122,7 @@ public class ImageGenerator implements Runnable {
         this.outputs = outputs;
         this.state = ImageGeneratorStep.LIST_SOURCE_FOLDER;
         this.sources = Collections.emptyList();
-        this.contentToBeGenerated = new LinkedList<>();
+        this.contentToBeGenerated = new ArrayList<>();
     }
 
     /**
@@ -136,7 +143,9 @@ public class ImageGenerator implements Runnable {
     }
 
     /**
-     * Generates a set of derivatives.
+     * Generates a set of derivatives. All derivatives which are created by the
+     * image management interface are created from the source image read
+     * once.
      *
      * @param instruction
      *            Instruction, which pictures are to be generated. Left: image
@@ -149,8 +158,17 @@ public class ImageGenerator implements Runnable {
      */
     public void createDerivatives(ContentToBeGenerated instruction) {
         try {
+            List<ImageDerivative> derivatives = new ArrayList<>();
             for (Subfolder destinationFolder : instruction.getSubfoldersWhoseContentsAreToBeGenerated()) {
-                generateDerivative(instruction.getSourceURI(), destinationFolder, instruction.getCanonical());
+                Optional<ImageDerivative> derivative = getDerivative(destinationFolder, instruction.getCanonical());
+                if (derivative.isPresent()) {
+                    derivatives.add(derivative.get());
+                } else {
+                    generateJavaImage(instruction.getSourceURI(), destinationFolder, instruction.getCanonical());
+                }
+            }
+            if (!derivatives.isEmpty()) {
+                imageService.createDerivatives(instruction.getSourceURI(), derivatives);
             }
         } catch (IOException e) {
             throw new UndeclaredThrowableException(e);
@@ -221,7 +239,29 @@ public class ImageGenerator implements Runnable {
     }
 
     /**
-     * Generates the derivative depending on the declared generator function.
+     * Returns the derivative to be created by the image management interface
+     * for a destination folder, if the folder declares one.
+     *
+     * @param destinationImage
+     *            path to the target file to be generated
+     * @param canonical
+     *            the canonical part of the file name
+     * @return the derivative, or an empty optional if the image is to be
+     *         created otherwise
+     */
+    private Optional<ImageDerivative> getDerivative(Subfolder destinationImage, String canonical) {
+        Optional<Double> optionalDerivative = destinationImage.getFolder().getDerivative();
+        Optional<ImageFileFormat> optionalImageFileFormat = destinationImage.getFileFormat().getImageFileFormat();
+        if (optionalDerivative.isPresent() && optionalImageFileFormat.isPresent()) {
+            return Optional.of(new ImageDerivative(optionalDerivative.get(), destinationImage.getUri(canonical),
+                    optionalImageFileFormat.get()));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Generates the derivative with the on-board tools of Java, if the
+     * destination folder declares a generator function for it.
      *
      * @param sourceImage
      *            source file
@@ -232,23 +272,75 @@ public class ImageGenerator implements Runnable {
      * @throws IOException
      *             if filesystem I/O fails
      */
-    private void generateDerivative(URI sourceImage, Subfolder destinationImage, String canonical)
+    private void generateJavaImage(URI sourceImage, Subfolder destinationImage, String canonical)
             throws IOException {
 
         Folder imageProperties = destinationImage.getFolder();
         boolean isChangingDpi = imageProperties.getDpi().isPresent();
         boolean isGettingSizedWebImage = imageProperties.getImageSize().isPresent();
 
-        Optional<Double> optionalDerivative = imageProperties.getDerivative();
-        if (optionalDerivative.isPresent() && destinationImage.getFileFormat().getImageFileFormat().isPresent()) {
-            imageService.createDerivative(sourceImage, optionalDerivative.get(), destinationImage.getUri(canonical),
-                destinationImage.getFileFormat().getImageFileFormat().orElseThrow(IllegalStateException::new));
-        } else if (isChangingDpi || isGettingSizedWebImage) {
+        if (isChangingDpi || isGettingSizedWebImage) {
             createImageWithImageIO(sourceImage, imageProperties, destinationImage.getFileFormat(),
                 destinationImage.getUri(canonical));
         }
     }
 
+    /**
+     * Generates the derivatives of all images from the current position on.
+     * The images are processed concurrently on a limited number of threads.
+     * The threads get the context class loader of the calling thread, so that
+     * the modules can be loaded from them. The position and the progress are
+     * updated in the order of the images. Afterwards, the position is at the
+     * last image processed.
+     */
+    public void generateImages() {
+        int threads = Math.max(1, ConfigCore.getIntParameterOrDefaultValue(ParameterCore.IMAGE_GENERATION_THREADS));
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, ImageGenerator.class.getSimpleName());
+            thread.setContextClassLoader(contextClassLoader);
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<?>> derivatives = new ArrayList<>();
+            for (ContentToBeGenerated instruction : contentToBeGenerated.subList(position, contentToBeGenerated.size())) {
+                derivatives.add(executor.submit(() -> {
+                    logger.info("Generating {}", instruction);
+                    createDerivatives(instruction);
+                }));
+            }
+            for (Future<?> derivative : derivatives) {
+                String canonical = getFromContentToBeGeneratedByPosition().getCanonical();
+                letTheSupervisorDo(emptyTask -> emptyTask.setWorkDetail(
+                    Helper.getTranslation("generateImages", Collections.singletonList(canonical))));
+                awaitDerivatives(derivative);
+                if (position == contentToBeGenerated.size() - 1
+                        || Objects.nonNull(supervisor) && supervisor.isInterrupted()) {
+                    return;
+                }
+                position++;
+                setProgress();
+            }
+        } catch (InterruptedException e) {
+            position--;
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void awaitDerivatives(Future<?> derivative) throws InterruptedException {
+        try {
+            derivative.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new UndeclaredThrowableException(e.getCause());
+        }
+    }
+
     /**
      * Returns from contentToBeGenerated the item specified by position.
      *
@@ -353,18 +445,31 @@ public class ImageGenerator implements Runnable {
                     supervisor.setProgress(100);
                     supervisor.setWorkDetail(Helper.getTranslation("noImagesToGenerate"));
                 }
+                logCacheHitRate();
                 return;
             }
             position++;
             setProgress();
-            if (Objects.nonNull(supervisor) && supervisor.isInterrupted()) {
+            if (Objects.nonNull(supervisor) && supervisor.isInterrupted() || Thread.currentThread().isInterrupted()) {
                 return;
             }
         } while (!(state.equals(ImageGeneratorStep.GENERATE_IMAGES)
                 && getPosition() == getContentToBeGenerated().size()));
+        logCacheHitRate();
         logger.info("Completed");
     }
 
+    /**
+     * Logs the share of validation results taken from the cache, if images
+     * were validated.
+     */
+    private void logCacheHitRate() {
+        if (mode.equals(GenerationMode.MISSING_OR_DAMAGED)) {
+            logger.info("Validation results taken from cache: {}%",
+                100 * ServiceManager.getLongTermPreservationValidationService().getCacheHitRate());
+        }
+    }
+
     /**
      * Sets the current position in the list.
      *
@@ -21,6 +21,7 @@ import org.kitodo.api.validation.State;
 import org.kitodo.api.validation.ValidationResult;
 import org.kitodo.api.validation.longtermpreservation.FileType;
 import org.kitodo.production.model.Subfolder;
+import org.kitodo.production.services.ServiceManager;
 import org.kitodo.production.services.validation.LongTermPreservationValidationService;
 
 /**
@@ -54,6 +55,12 @@ public class MissingOrDamagedImagesFilterPredicate implements Predicate<Subfolde
      */
     private static final String VALIDATION_SUCCESS = "Image {} in folder {} was validated {}.";
 
+    /**
+     * This message is written to the log with the share of validation results
+     * which were taken from the cache.
+     */
+    private static final String CACHE_HIT_RATE = "Validation results taken from cache so far: {}%";
+
     /**
      * The canonical part of the filename. Usually this is the base name without
      * an extension, but in some special cases, it can only be part of the base
@@ -95,8 +102,10 @@ public class MissingOrDamagedImagesFilterPredicate implements Predicate<Subfolde
         }
         Optional<FileType> fileType = folder.getFileFormat().getFileType();
         if (fileType.isPresent()) {
-            LongTermPreservationValidationService serviceLoader = new LongTermPreservationValidationService();
-            ValidationResult validated = serviceLoader.validate(imageURI.get(), fileType.get());
+            LongTermPreservationValidationService validationService = ServiceManager
+                    .getLongTermPreservationValidationService();
+            ValidationResult validated = validationService.validate(imageURI.get(), fileType.get());
+            logger.debug(CACHE_HIT_RATE, 100 * validationService.getCacheHitRate());
             if (validated.getState().equals(State.SUCCESS)) {
                 logger.info(VALIDATION_SUCCESS, canonical, folder, validated.getState());
                 return false;
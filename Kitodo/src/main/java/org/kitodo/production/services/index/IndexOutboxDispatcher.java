@@ -0,0 +1,156 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.services.index;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.kitodo.config.ConfigCore;
+import org.kitodo.config.enums.ParameterCore;
+import org.kitodo.data.exceptions.DataException;
+import org.kitodo.production.services.data.base.SearchService;
+
+/**
+ * Drains the index outbox in the background. The outbox are the rows of the
+ * database which are marked with the index action INDEX. Saving an object only
+ * marks its row and notifies the dispatcher, which indexes all marked rows of
+ * the type in bulk after a short delay. Objects saved several times within the
+ * delay are indexed only once. If indexing fails, the rows stay marked and are
+ * tried again later, so no update is lost while Elastic Search is unavailable.
+ * When the application starts, the outbox of every type is drained.
+ */
+public class IndexOutboxDispatcher {
+
+    private static final Logger logger = LogManager.getLogger(IndexOutboxDispatcher.class);
+
+    private static volatile IndexOutboxDispatcher instance = null;
+
+    private final Set<SearchService> pendingServices = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService dispatcher;
+    private final long delay;
+    private final long retryDelay;
+    private final int batchSize;
+
+    /**
+     * Return singleton variable of type IndexOutboxDispatcher.
+     *
+     * @return unique instance of IndexOutboxDispatcher
+     */
+    public static IndexOutboxDispatcher getInstance() {
+        IndexOutboxDispatcher localReference = instance;
+        if (Objects.isNull(localReference)) {
+            synchronized (IndexOutboxDispatcher.class) {
+                localReference = instance;
+                if (Objects.isNull(localReference)) {
+                    localReference = new IndexOutboxDispatcher();
+                    instance = localReference;
+                }
+            }
+        }
+        return localReference;
+    }
+
+    private IndexOutboxDispatcher() {
+        delay = ConfigCore.getIntParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_OUTBOX_DELAY);
+        retryDelay = ConfigCore.getIntParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_OUTBOX_RETRY);
+        batchSize = ConfigCore.getIntParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_BATCH);
+        dispatcher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "IndexOutbox");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Check if saving objects only writes to the outbox.
+     *
+     * @return true, if the outbox is enabled in the configuration
+     */
+    public static boolean isEnabled() {
+        return ConfigCore.getBooleanParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_OUTBOX);
+    }
+
+    /**
+     * Prepare the outbox after the start of the application. Objects whose
+     * indexing was interrupted by the stop of the application are marked for
+     * indexing again. If the outbox is enabled, the outbox of every service is
+     * drained, because no one notifies the dispatcher of objects which were
+     * saved before the stop.
+     *
+     * @param searchServices
+     *            services of all indexed types
+     */
+    public void start(Collection<SearchService> searchServices) {
+        for (SearchService searchService : searchServices) {
+            try {
+                int reset = searchService.resetIndexingObjects();
+                if (reset > 0) {
+                    logger.info("Marked {} interrupted objects for indexing again", reset);
+                }
+            } catch (DataException | RuntimeException e) {
+                logger.error(e.getMessage(), e);
+            }
+            if (isEnabled()) {
+                schedule(searchService, delay);
+            }
+        }
+    }
+
+    /**
+     * Notify the dispatcher that the outbox contains objects of the given
+     * service. If the service is already waiting to be drained, the objects are
+     * indexed together with the others.
+     *
+     * @param searchService
+     *            service whose objects were marked for indexing
+     */
+    public void notifyPending(SearchService searchService) {
+        schedule(searchService, delay);
+    }
+
+    /**
+     * Index all objects of the given service which are in the outbox and wait
+     * until they are indexed.
+     *
+     * @param searchService
+     *            service whose objects are indexed
+     * @return number of indexed objects
+     */
+    public int drain(SearchService searchService) throws DataException {
+        return searchService.indexPendingObjects(batchSize);
+    }
+
+    private void schedule(SearchService searchService, long delay) {
+        if (pendingServices.add(searchService)) {
+            dispatcher.schedule(() -> dispatch(searchService), delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void dispatch(SearchService searchService) {
+        // objects saved from now on need another run
+        pendingServices.remove(searchService);
+        try {
+            int indexed = drain(searchService);
+            logger.debug("Indexed {} objects from outbox", indexed);
+        } catch (DataException | RuntimeException e) {
+            logger.error("Indexing from outbox failed, retrying in {} ms: {}", retryDelay, e.getMessage());
+            schedule(searchService, retryDelay);
+        }
+    }
+}
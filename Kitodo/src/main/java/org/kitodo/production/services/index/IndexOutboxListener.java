@@ -0,0 +1,42 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.services.index;
+
+import java.util.Arrays;
+
+import javax.servlet.ServletContextEvent;
+import javax.servlet.ServletContextListener;
+import javax.servlet.annotation.WebListener;
+
+import org.kitodo.production.services.ServiceManager;
+
+/**
+ * Listener to start the index outbox dispatcher on application startup, to
+ * index the objects which were left in the outbox when the application was
+ * stopped.
+ */
+@WebListener
+public class IndexOutboxListener implements ServletContextListener {
+
+    @Override
+    public void contextInitialized(ServletContextEvent event) {
+        IndexOutboxDispatcher.getInstance().start(Arrays.asList(ServiceManager.getBatchService(),
+            ServiceManager.getDocketService(), ServiceManager.getFilterService(), ServiceManager.getProcessService(),
+            ServiceManager.getProjectService(), ServiceManager.getRulesetService(), ServiceManager.getTaskService(),
+            ServiceManager.getTemplateService(), ServiceManager.getWorkflowService()));
+    }
+
+    @Override
+    public void contextDestroyed(ServletContextEvent event) {
+        // nothing is done here
+    }
+}
@@ -42,6 +42,7 @@ import org.kitodo.production.enums.IndexStates;
 import org.kitodo.production.enums.ObjectType;
 import org.kitodo.production.helper.Helper;
 import org.kitodo.production.helper.IndexWorker;
+import org.kitodo.production.helper.ParallelIndexWorker;
 import org.kitodo.production.services.ServiceManager;
 import org.kitodo.production.services.data.base.SearchService;
 
@@ -262,13 +263,38 @@ public class IndexingService {
                 indexBatches += indexLimit;
             }
 
-            for (IndexWorker worker : indexWorkerList) {
-                currentIndexWorker = worker;
-                runIndexing(currentIndexWorker, type, pushContext);
+            if (getIndexThreads(type) > 0) {
+                runIndexing(createParallelIndexWorker(type, true), type, pushContext);
+            } else {
+                for (IndexWorker worker : indexWorkerList) {
+                    currentIndexWorker = worker;
+                    runIndexing(currentIndexWorker, type, pushContext);
+                }
             }
         }
     }
 
+    /**
+     * Return the number of threads used for indexing objects of given type. It
+     * is read from the type specific parameter if present, e.g.
+     * 'elasticsearch.indexThreads.process', otherwise from the general one.
+     *
+     * @param type
+     *            type of objects that get indexed
+     * @return number of threads, 0 if objects are indexed sequentially
+     */
+    private int getIndexThreads(ObjectType type) {
+        int indexThreads = ConfigCore.getIntParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_INDEXTHREADS);
+        return ConfigCore.getConfig().getInt(
+            ParameterCore.ELASTICSEARCH_INDEXTHREADS.getName() + "." + type.name().toLowerCase(), indexThreads);
+    }
+
+    private ParallelIndexWorker createParallelIndexWorker(ObjectType type, boolean indexAllObjects) {
+        return new ParallelIndexWorker(searchServices.get(type), indexAllObjects,
+                ConfigCore.getIntParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_BATCH), getIndexThreads(type),
+                ConfigCore.getIntParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_INDEXQUEUE));
+    }
+
     /**
      * Return the number of objects in the database for the given ObjectType.
      *
@@ -293,6 +319,14 @@ public class IndexingService {
      */
     public void startIndexingRemaining(ObjectType type, PushContext context) {
         if (countDatabaseObjects.get(type) > 0) {
+            if (IndexOutboxDispatcher.isEnabled()) {
+                runIndexing(() -> drainOutbox(type), "Draining index outbox of type " + type, type, context);
+                return;
+            }
+            if (getIndexThreads(type) > 0) {
+                runIndexing(createParallelIndexWorker(type, false), type, context);
+                return;
+            }
             List<IndexWorker> indexWorkerList = indexWorkers.get(type);
             for (IndexWorker worker : indexWorkerList) {
                 worker.setIndexAllObjects(false);
@@ -302,7 +336,29 @@ public class IndexingService {
         }
     }
 
+    private void drainOutbox(ObjectType type) {
+        try {
+            IndexOutboxDispatcher.getInstance().drain(searchServices.get(type));
+        } catch (DataException e) {
+            logger.error(e.getMessage(), e);
+        }
+    }
+
     private void runIndexing(IndexWorker worker, ObjectType type, PushContext pollingChannel) {
+        runIndexing(worker, "Indexing " + worker.getIndexedObjects() + " of type " + type, type, pollingChannel);
+    }
+
+    private void runIndexing(ParallelIndexWorker worker, ObjectType type, PushContext pollingChannel) {
+        runIndexing(worker, "Parallel indexing of type " + type, type, pollingChannel);
+        if (worker.isAborted() && Objects.equals(currentIndexState, type)) {
+            logger.error("Indexing of type {} was aborted after {} objects", type, worker.getIndexedObjects());
+            currentIndexState = ObjectType.NONE;
+            objectIndexingStates.put(type, IndexStates.INDEXING_FAILED);
+            pollingChannel.send(INDEXING_FINISHED_MESSAGE + type + "!");
+        }
+    }
+
+    private void runIndexing(Runnable worker, String threadName, ObjectType type, PushContext pollingChannel) {
         currentState = IndexStates.NO_STATE;
         int attempts = 0;
         while (attempts < ConfigCore.getIntParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_INDEXLIMIT)) {
@@ -315,7 +371,7 @@ public class IndexingService {
                         pollingChannel.send(INDEXING_STARTED_MESSAGE + currentIndexState);
                     }
                     indexerThread = new Thread(worker);
-                    indexerThread.setName("Indexing " + worker.getIndexedObjects() + " of type " + type);
+                    indexerThread.setName(threadName);
                     indexerThread.setDaemon(true);
                     indexerThread.start();
                     indexerThread.join();
@@ -553,6 +609,17 @@ public class IndexingService {
         currentIndexState = ObjectType.NONE;
     }
 
+    /**
+     * Return the number of index refreshes requested by single writes which
+     * were not performed, because the configured refresh mode waits for or
+     * coalesces refreshes.
+     *
+     * @return number of avoided refreshes
+     */
+    public long getAvoidedRefreshes() {
+        return indexRestClient.getAvoidedRefreshes();
+    }
+
     /**
      * Get logger.
      *
@@ -11,23 +11,37 @@
 
 package org.kitodo.production.services.validation;
 
+import java.io.IOException;
 import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Optional;
 
+import org.kitodo.api.validation.State;
 import org.kitodo.api.validation.ValidationResult;
 import org.kitodo.api.validation.longtermpreservation.FileType;
 import org.kitodo.api.validation.longtermpreservation.LongTermPreservationValidationInterface;
+import org.kitodo.config.ConfigCore;
+import org.kitodo.config.enums.ParameterCore;
 import org.kitodo.serviceloader.KitodoServiceLoader;
 
 /**
- * This class does nothing more than call the methods on the long term
- * preservation validation interface.
+ * This class calls the methods on the long term preservation validation
+ * interface. The validation results are cached, so that files which were not
+ * changed since their last validation are not validated again.
  */
 public class LongTermPreservationValidationService {
 
     private final LongTermPreservationValidationInterface longTermPreservationValidation;
+    private final ValidationResultCache validationResults;
 
     public LongTermPreservationValidationService() {
         longTermPreservationValidation = getValidationModule();
+        validationResults = new ValidationResultCache(
+                ConfigCore.getOptionalString(ParameterCore.IMAGE_VALIDATION_CACHE_FILE).filter(path -> !path.isEmpty())
+                        .map(Paths::get).orElse(null));
     }
 
     /**
@@ -42,7 +56,12 @@ public class LongTermPreservationValidationService {
     }
 
     /**
-     * Validates a file for longTimePreservation.
+     * Validates a file for longTimePreservation. If the file was validated
+     * before for the same file type and has not been changed since, the
+     * previous result is returned. Results with state ERROR are not kept,
+     * because the validation module also returns them if the validation
+     * could not be run, for example due to an exception, and then the file
+     * must be validated again the next time.
      *
      * @param fileUri
      *            The uri to the image, which should be validated.
@@ -51,6 +70,33 @@ public class LongTermPreservationValidationService {
      * @return A validation result.
      */
     public ValidationResult validate(URI fileUri, FileType fileType) {
-        return longTermPreservationValidation.validate(fileUri, fileType);
+        Path file;
+        BasicFileAttributes attributes;
+        try {
+            file = Paths.get(fileUri);
+            attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (IOException | IllegalArgumentException e) {
+            return longTermPreservationValidation.validate(fileUri, fileType);
+        }
+        Optional<ValidationResult> cachedResult = validationResults.get(file, attributes, fileType);
+        if (cachedResult.isPresent()) {
+            return cachedResult.get();
+        }
+        ValidationResult result = longTermPreservationValidation.validate(fileUri, fileType);
+        if (!State.ERROR.equals(result.getState())) {
+            validationResults.put(file, attributes, fileType, result);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the share of validations answered from the cache.
+     *
+     * @return the cache hit rate, between 0 and 1
+     */
+    public double getCacheHitRate() {
+        long hits = validationResults.getHits();
+        long total = hits + validationResults.getMisses();
+        return total > 0 ? (double) hits / total : 0;
     }
 }
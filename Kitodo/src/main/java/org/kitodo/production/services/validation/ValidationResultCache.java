@@ -0,0 +1,238 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.services.validation;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.kitodo.api.validation.State;
+import org.kitodo.api.validation.ValidationResult;
+import org.kitodo.api.validation.longtermpreservation.FileType;
+
+/**
+ * Results of the long term preservation validation of files. A result is
+ * valid as long as the file has the same size and modification time as when it
+ * was validated, and is validated for the same file type. The results can be
+ * kept in a store file, then they are loaded from it on creation, and each new
+ * result is appended to it. A store file which contains many outdated results
+ * is rewritten on loading.
+ */
+final class ValidationResultCache {
+    private static final Logger logger = LogManager.getLogger(ValidationResultCache.class);
+
+    private static final char SEPARATOR = '\t';
+    private static final Pattern SPLITTER = Pattern.compile(Character.toString(SEPARATOR));
+    private static final int FIXED_FIELDS = 5;
+
+    /**
+     * A cached validation result together with the properties of the file
+     * when it was validated.
+     */
+    private static final class Entry {
+        private final long size;
+        private final long lastModified;
+        private final FileType fileType;
+        private final State state;
+        private final List<String> resultMessages;
+
+        private Entry(long size, long lastModified, FileType fileType, State state, List<String> resultMessages) {
+            this.size = size;
+            this.lastModified = lastModified;
+            this.fileType = fileType;
+            this.state = state;
+            this.resultMessages = resultMessages;
+        }
+
+        private boolean matches(BasicFileAttributes attributes, FileType fileType) {
+            return size == attributes.size() && lastModified == attributes.lastModifiedTime().toMillis()
+                    && this.fileType.equals(fileType);
+        }
+    }
+
+    private final Path store;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Creates a new cache of validation results.
+     *
+     * @param store
+     *            file to keep the results in, or null to keep them in memory
+     *            only
+     */
+    ValidationResultCache(Path store) {
+        this.store = store;
+        if (Objects.nonNull(store) && Files.exists(store)) {
+            load();
+        }
+    }
+
+    /**
+     * Returns the cached validation result of a file, if the file was not
+     * changed since.
+     *
+     * @param file
+     *            file to validate
+     * @param attributes
+     *            current attributes of the file
+     * @param fileType
+     *            file type to validate
+     * @return the cached result, or an empty optional if the file must be
+     *         validated
+     */
+    Optional<ValidationResult> get(Path file, BasicFileAttributes attributes, FileType fileType) {
+        Entry entry = entries.get(file.toAbsolutePath().toString());
+        if (Objects.nonNull(entry) && entry.matches(attributes, fileType)) {
+            hits.incrementAndGet();
+            return Optional.of(new ValidationResult(entry.state, entry.resultMessages));
+        }
+        misses.incrementAndGet();
+        return Optional.empty();
+    }
+
+    /**
+     * Adds the validation result of a file.
+     *
+     * @param file
+     *            validated file
+     * @param attributes
+     *            attributes of the file when it was validated
+     * @param fileType
+     *            validated file type
+     * @param result
+     *            validation result
+     */
+    void put(Path file, BasicFileAttributes attributes, FileType fileType, ValidationResult result) {
+        String path = file.toAbsolutePath().toString();
+        Entry entry = new Entry(attributes.size(), attributes.lastModifiedTime().toMillis(), fileType,
+                result.getState(), Objects.nonNull(result.getResultMessages())
+                        ? Collections.unmodifiableList(new ArrayList<>(result.getResultMessages()))
+                        : Collections.emptyList());
+        entries.put(path, entry);
+        if (Objects.nonNull(store)) {
+            append(path, entry);
+        }
+    }
+
+    /**
+     * Returns the number of validations answered from the cache.
+     *
+     * @return the number of cache hits
+     */
+    long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Returns the number of validations which were not in the cache.
+     *
+     * @return the number of cache misses
+     */
+    long getMisses() {
+        return misses.get();
+    }
+
+    private void load() {
+        int lines = 0;
+        try {
+            for (String line : Files.readAllLines(store, StandardCharsets.UTF_8)) {
+                lines++;
+                String[] fields = SPLITTER.split(line, -1);
+                if (fields.length < FIXED_FIELDS) {
+                    continue;
+                }
+                List<String> resultMessages = new ArrayList<>();
+                for (String message : Arrays.asList(fields).subList(FIXED_FIELDS, fields.length)) {
+                    resultMessages.add(unescape(message));
+                }
+                entries.put(unescape(fields[0]), new Entry(Long.parseLong(fields[1]), Long.parseLong(fields[2]),
+                        FileType.valueOf(fields[3]), State.valueOf(fields[4]),
+                        Collections.unmodifiableList(resultMessages)));
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            logger.warn("Could not read validation results from {}: {}", store, e.getMessage());
+            return;
+        }
+        if (lines > 2 * entries.size()) {
+            rewrite();
+        }
+    }
+
+    private synchronized void rewrite() {
+        try (BufferedWriter writer = Files.newBufferedWriter(store, StandardCharsets.UTF_8)) {
+            for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+                writer.write(format(entry.getKey(), entry.getValue()));
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            logger.warn("Could not write validation results to {}: {}", store, e.getMessage());
+        }
+    }
+
+    private synchronized void append(String path, Entry entry) {
+        try (BufferedWriter writer = Files.newBufferedWriter(store, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+            StandardOpenOption.APPEND)) {
+            writer.write(format(path, entry));
+            writer.newLine();
+        } catch (IOException e) {
+            logger.warn("Could not write validation result of {} to {}: {}", path, store, e.getMessage());
+        }
+    }
+
+    private static String format(String path, Entry entry) {
+        StringBuilder line = new StringBuilder(escape(path));
+        line.append(SEPARATOR).append(entry.size);
+        line.append(SEPARATOR).append(entry.lastModified);
+        line.append(SEPARATOR).append(entry.fileType.name());
+        line.append(SEPARATOR).append(entry.state.name());
+        for (String message : entry.resultMessages) {
+            line.append(SEPARATOR).append(escape(message));
+        }
+        return line.toString();
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\t", "\\t").replace("\r", "\\r").replace("\n", "\\n");
+    }
+
+    private static String unescape(String value) {
+        StringBuilder unescaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                char next = value.charAt(++i);
+                unescaped.append(next == 't' ? '\t' : next == 'r' ? '\r' : next == 'n' ? '\n' : next);
+            } else {
+                unescaped.append(c);
+            }
+        }
+        return unescaped.toString();
+    }
+}
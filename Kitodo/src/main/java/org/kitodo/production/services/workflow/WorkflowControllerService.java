@@ -11,16 +11,17 @@
 
 package org.kitodo.production.services.workflow;
 
-import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
-import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReentrantLock;
 
 import javax.xml.parsers.DocumentBuilder;
@@ -28,6 +29,7 @@ import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpression;
 import javax.xml.xpath.XPathExpressionException;
 import javax.xml.xpath.XPathFactory;
 
@@ -76,6 +78,27 @@ public class WorkflowControllerService {
     private static final Logger logger = LogManager.getLogger(WorkflowControllerService.class);
     private final TaskService taskService = ServiceManager.getTaskService();
 
+    /**
+     * Document builder of each thread for parsing metadata files. Neither
+     * document builder factories nor document builders are thread-safe, so a
+     * builder is created once per thread and reused for the following files.
+     */
+    private static final ThreadLocal<DocumentBuilder> documentBuilders = new ThreadLocal<>();
+
+    /**
+     * Compiled XPath expressions of the workflow conditions, by condition. As
+     * XPath expressions are not thread-safe, an expression must be evaluated
+     * while holding its lock.
+     */
+    private static final Map<String, XPathExpression> xPathExpressions = new ConcurrentHashMap<>();
+
+    /**
+     * Parsed metadata files by process ID, which are shared by all XPath
+     * conditions evaluated in one task transition. Null outside of a task
+     * transition.
+     */
+    private Map<Integer, Document> metadataDocuments;
+
     /**
      * Set Task status up.
      *
@@ -185,10 +208,8 @@ public class WorkflowControllerService {
     private boolean validateMetadata(Task task) throws IOException, DAOException {
         URI metadataFileUri = ServiceManager.getProcessService().getMetadataFileUri(task.getProcess());
         Workpiece workpiece = ServiceManager.getMetsService().loadWorkpiece(metadataFileUri);
-        RulesetManagementInterface ruleset = ServiceManager.getRulesetManagementService().getRulesetManagement();
-        ruleset.load(new File(Paths.get(
-                ConfigCore.getParameter(ParameterCore.DIR_RULESETS),
-                task.getProcess().getRuleset().getFile()).toString()));
+        RulesetManagementInterface ruleset = ServiceManager.getRulesetService()
+                .openRuleset(task.getProcess().getRuleset());
         ValidationResult validationResult = ServiceManager.getMetadataValidationService().validate(workpiece, ruleset);
         if (State.ERROR.equals(validationResult.getState())) {
             Helper.setErrorMessage(Helper.getTranslation("dataEditor.validation.state.error"));
@@ -257,7 +278,30 @@ public class WorkflowControllerService {
         automaticTasks = new ArrayList<>();
         tasksToFinish = new ArrayList<>();
 
-        activateTasksForClosedTask(task);
+        boolean transitionStarted = startTransition();
+        try {
+            activateTasksForClosedTask(task);
+        } finally {
+            if (transitionStarted) {
+                metadataDocuments = null;
+            }
+        }
+    }
+
+    /**
+     * Starts a task transition, if none is running yet. During a task
+     * transition, the metadata files are parsed only once for all XPath
+     * conditions.
+     *
+     * @return whether a task transition was started, which must be ended by
+     *         the caller
+     */
+    private boolean startTransition() {
+        if (Objects.nonNull(metadataDocuments)) {
+            return false;
+        }
+        metadataDocuments = new HashMap<>();
+        return true;
     }
 
     private boolean allChildrenClosed(Process process) {
@@ -569,8 +613,15 @@ public class WorkflowControllerService {
     public void activateNextTasks(List<Task> allHigherTasks) throws DataException, IOException, DAOException {
         List<Task> nextTasks = getNextTasks(allHigherTasks);
 
-        for (Task nextTask : nextTasks) {
-            activateTask(nextTask);
+        boolean transitionStarted = startTransition();
+        try {
+            for (Task nextTask : nextTasks) {
+                activateTask(nextTask);
+            }
+        } finally {
+            if (transitionStarted) {
+                metadataDocuments = null;
+            }
         }
     }
 
@@ -678,22 +729,91 @@ public class WorkflowControllerService {
     }
 
     private boolean runXPathCondition(Process process, String xpath) throws IOException {
-        try (InputStream fileInputStream = ServiceManager.getFileService().readMetadataFile(process)) {
-            DocumentBuilderFactory builderFactory = DocumentBuilderFactory.newInstance();
-            builderFactory.setNamespaceAware(true);
-            DocumentBuilder builder = builderFactory.newDocumentBuilder();
-            Document xmlDocument = builder.parse(fileInputStream);
-
-            XPath xPath = XPathFactory.newInstance().newXPath();
-            xPath.setNamespaceContext(new KitodoNamespaceContext());
-            NodeList nodeList = (NodeList) xPath.compile(xpath).evaluate(xmlDocument, XPathConstants.NODESET);
-            return nodeList.getLength() > 0;
+        try {
+            return isXPathMatching(getMetadataDocument(process), getXPathExpression(xpath));
         } catch (ParserConfigurationException | SAXException | XPathExpressionException e) {
             logger.error(e.getMessage(), e);
             throw new IOException(e);
         }
     }
 
+    private Document getMetadataDocument(Process process)
+            throws IOException, ParserConfigurationException, SAXException {
+        Document xmlDocument = Objects.nonNull(metadataDocuments) ? metadataDocuments.get(process.getId()) : null;
+        if (Objects.isNull(xmlDocument)) {
+            try (InputStream fileInputStream = ServiceManager.getFileService().readMetadataFile(process)) {
+                xmlDocument = parseMetadata(fileInputStream);
+            }
+            if (Objects.nonNull(metadataDocuments)) {
+                metadataDocuments.put(process.getId(), xmlDocument);
+            }
+        }
+        return xmlDocument;
+    }
+
+    /**
+     * Parses a metadata file.
+     *
+     * @param inputStream
+     *            stream of the metadata file
+     * @return the parsed document
+     */
+    static Document parseMetadata(InputStream inputStream)
+            throws IOException, ParserConfigurationException, SAXException {
+        return getDocumentBuilder().parse(inputStream);
+    }
+
+    private static DocumentBuilder getDocumentBuilder() throws ParserConfigurationException {
+        DocumentBuilder documentBuilder = documentBuilders.get();
+        if (Objects.isNull(documentBuilder)) {
+            DocumentBuilderFactory documentBuilderFactory = DocumentBuilderFactory.newInstance();
+            documentBuilderFactory.setNamespaceAware(true);
+            documentBuilder = documentBuilderFactory.newDocumentBuilder();
+            documentBuilders.set(documentBuilder);
+        } else {
+            documentBuilder.reset();
+        }
+        return documentBuilder;
+    }
+
+    /**
+     * Returns the compiled XPath expression of a workflow condition. The
+     * expression is compiled once and then taken from the cache.
+     *
+     * @param xpath
+     *            XPath of the workflow condition
+     * @return the compiled expression
+     */
+    static XPathExpression getXPathExpression(String xpath) throws XPathExpressionException {
+        XPathExpression xPathExpression = xPathExpressions.get(xpath);
+        if (Objects.isNull(xPathExpression)) {
+            XPath xPath = XPathFactory.newInstance().newXPath();
+            xPath.setNamespaceContext(new KitodoNamespaceContext());
+            xPathExpression = xPath.compile(xpath);
+            xPathExpressions.put(xpath, xPathExpression);
+        }
+        return xPathExpression;
+    }
+
+    /**
+     * Returns whether a compiled XPath expression matches any node of a
+     * document.
+     *
+     * @param xmlDocument
+     *            document to evaluate the expression on
+     * @param xPathExpression
+     *            compiled expression
+     * @return whether the expression matches
+     */
+    static boolean isXPathMatching(Document xmlDocument, XPathExpression xPathExpression)
+            throws XPathExpressionException {
+        NodeList nodeList;
+        synchronized (xPathExpression) {
+            nodeList = (NodeList) xPathExpression.evaluate(xmlDocument, XPathConstants.NODESET);
+        }
+        return nodeList.getLength() > 0;
+    }
+
     private void verifyTask(Task task) {
         // if it is an automatic task with script
         if (task.isTypeAutomatic()) {
@@ -39,7 +39,7 @@ public class Updater {
         List<Process> processes = this.template.getProcesses();
 
         for (Process process : processes) {
-            ServiceManager.getProcessService().save(process);
+            ServiceManager.getProcessService().save(process, false);
         }
     }
 
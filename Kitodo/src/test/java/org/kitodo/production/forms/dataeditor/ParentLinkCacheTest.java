@@ -0,0 +1,86 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.forms.dataeditor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+import org.kitodo.api.dataformat.IncludedStructuralElement;
+import org.kitodo.api.dataformat.Workpiece;
+import org.kitodo.api.dataformat.mets.LinkedMetsResource;
+
+public class ParentLinkCacheTest {
+
+    private static final URI PARENT_URI = URI.create("1/meta.xml");
+
+    private final AtomicInteger reads = new AtomicInteger();
+    private final AtomicLong lastModified = new AtomicLong(1000);
+
+    private final ParentLinkCache cache = new ParentLinkCache(uri -> {
+        reads.incrementAndGet();
+        return createParentWorkpiece();
+    }, uri -> lastModified.get());
+
+    @Test
+    public void shouldReadParentOnlyOnce() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            assertEquals("Wrong path to child!", Arrays.asList("Periodical", "PeriodicalVolume", null),
+                cache.getPathToChild(PARENT_URI, 42));
+        }
+        assertEquals("Parent should only be read once!", 1, reads.get());
+    }
+
+    @Test
+    public void shouldReadParentAgainAfterItWasWritten() throws Exception {
+        cache.getPathToChild(PARENT_URI, 42);
+        lastModified.set(2000);
+        cache.getPathToChild(PARENT_URI, 42);
+        cache.getPathToChild(PARENT_URI, 42);
+        assertEquals("Parent should be read again after it was written!", 2, reads.get());
+    }
+
+    @Test
+    public void shouldReadParentAgainAfterClear() throws Exception {
+        cache.getPathToChild(PARENT_URI, 42);
+        cache.clear();
+        cache.getPathToChild(PARENT_URI, 42);
+        assertEquals("Parent should be read again after clear!", 2, reads.get());
+    }
+
+    @Test
+    public void shouldReturnEmptyPathForChildNotLinked() throws Exception {
+        assertTrue("Path to child not linked should be empty!", cache.getPathToChild(PARENT_URI, 43).isEmpty());
+        cache.getPathToChild(PARENT_URI, 43);
+        assertEquals("Parent should only be read once!", 1, reads.get());
+    }
+
+    private static Workpiece createParentWorkpiece() {
+        Workpiece workpiece = new Workpiece();
+        IncludedStructuralElement rootElement = workpiece.getRootElement();
+        rootElement.setType("Periodical");
+        IncludedStructuralElement volume = new IncludedStructuralElement();
+        volume.setType("PeriodicalVolume");
+        rootElement.getChildren().add(volume);
+        IncludedStructuralElement linkedChild = new IncludedStructuralElement();
+        LinkedMetsResource link = new LinkedMetsResource();
+        link.setUri(URI.create("database://?process.id=42"));
+        linkedChild.setLink(link);
+        volume.getChildren().add(linkedChild);
+        return workpiece;
+    }
+}
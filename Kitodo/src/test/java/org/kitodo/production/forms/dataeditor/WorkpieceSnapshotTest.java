@@ -0,0 +1,116 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.forms.dataeditor;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.net.URI;
+
+import org.junit.Test;
+import org.kitodo.api.MdSec;
+import org.kitodo.api.MetadataEntry;
+import org.kitodo.api.MetadataGroup;
+import org.kitodo.api.dataformat.IncludedStructuralElement;
+import org.kitodo.api.dataformat.MediaUnit;
+import org.kitodo.api.dataformat.MediaVariant;
+import org.kitodo.api.dataformat.View;
+import org.kitodo.api.dataformat.Workpiece;
+
+public class WorkpieceSnapshotTest {
+
+    @Test
+    public void shouldFindUnchangedWorkpiece() {
+        Workpiece workpiece = createWorkpiece();
+        WorkpieceSnapshot snapshot = new WorkpieceSnapshot(workpiece);
+        assertTrue("Unchanged workpiece was reported as changed!", snapshot.isUnchanged(workpiece));
+    }
+
+    @Test
+    public void shouldFindSwappedMetadataValues() {
+        Workpiece workpiece = createWorkpiece();
+        WorkpieceSnapshot snapshot = new WorkpieceSnapshot(workpiece);
+        MetadataEntry title = getMetadataEntry(workpiece.getRootElement(), "TitleDocMain");
+        MetadataEntry subtitle = getMetadataEntry(workpiece.getRootElement(), "TitleDocSub1");
+        String value = title.getValue();
+        title.setValue(subtitle.getValue());
+        subtitle.setValue(value);
+        assertFalse("Swapped metadata values were not found!", snapshot.isUnchanged(workpiece));
+    }
+
+    @Test
+    public void shouldFindChangedMetadataInGroup() {
+        Workpiece workpiece = createWorkpiece();
+        WorkpieceSnapshot snapshot = new WorkpieceSnapshot(workpiece);
+        MetadataGroup person = (MetadataGroup) workpiece.getRootElement().getMetadata().stream()
+                .filter(metadata -> metadata.getKey().equals("Person")).findAny().orElseThrow(AssertionError::new);
+        ((MetadataEntry) person.getGroup().iterator().next()).setValue("Doe");
+        assertFalse("Changed metadata in group was not found!", snapshot.isUnchanged(workpiece));
+    }
+
+    @Test
+    public void shouldFindAddedChild() {
+        Workpiece workpiece = createWorkpiece();
+        WorkpieceSnapshot snapshot = new WorkpieceSnapshot(workpiece);
+        IncludedStructuralElement chapter = new IncludedStructuralElement();
+        chapter.setType("Chapter");
+        workpiece.getRootElement().getChildren().add(chapter);
+        assertFalse("Added child was not found!", snapshot.isUnchanged(workpiece));
+    }
+
+    @Test
+    public void shouldFindChangedPageOrder() {
+        Workpiece workpiece = createWorkpiece();
+        WorkpieceSnapshot snapshot = new WorkpieceSnapshot(workpiece);
+        workpiece.getMediaUnit().getChildren().get(0).setOrderlabel("uncounted");
+        assertFalse("Changed page was not found!", snapshot.isUnchanged(workpiece));
+    }
+
+    private static Workpiece createWorkpiece() {
+        Workpiece workpiece = new Workpiece();
+        workpiece.setId("1");
+        IncludedStructuralElement rootElement = workpiece.getRootElement();
+        rootElement.setType("Monograph");
+        rootElement.getMetadata().add(createMetadataEntry("TitleDocMain", "Title"));
+        rootElement.getMetadata().add(createMetadataEntry("TitleDocSub1", "Subtitle"));
+        MetadataGroup person = new MetadataGroup();
+        person.setKey("Person");
+        person.getGroup().add(createMetadataEntry("LastName", "Smith"));
+        rootElement.getMetadata().add(person);
+        MediaVariant local = new MediaVariant();
+        local.setUse("LOCAL");
+        local.setMimeType("image/tiff");
+        for (int order = 1; order <= 2; order++) {
+            MediaUnit page = new MediaUnit();
+            page.setType("page");
+            page.setOrder(order);
+            page.setOrderlabel(Integer.toString(order));
+            page.getMediaFiles().put(local, URI.create("images/0000000" + order + ".tif"));
+            workpiece.getMediaUnit().getChildren().add(page);
+            rootElement.getViews().add(View.of(page));
+        }
+        return workpiece;
+    }
+
+    private static MetadataEntry createMetadataEntry(String key, String value) {
+        MetadataEntry metadataEntry = new MetadataEntry();
+        metadataEntry.setDomain(MdSec.DMD_SEC);
+        metadataEntry.setKey(key);
+        metadataEntry.setValue(value);
+        return metadataEntry;
+    }
+
+    private static MetadataEntry getMetadataEntry(IncludedStructuralElement includedStructuralElement, String key) {
+        return (MetadataEntry) includedStructuralElement.getMetadata().stream()
+                .filter(metadata -> metadata.getKey().equals(key)).findAny().orElseThrow(AssertionError::new);
+    }
+}
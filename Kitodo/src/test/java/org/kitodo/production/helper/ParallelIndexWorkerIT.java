@@ -0,0 +1,81 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.helper;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.Assert.assertEquals;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.kitodo.MockDatabase;
+import org.kitodo.SecurityTestUtils;
+import org.kitodo.production.services.ServiceManager;
+import org.kitodo.production.services.data.TaskService;
+
+public class ParallelIndexWorkerIT {
+
+    private static final TaskService taskService = ServiceManager.getTaskService();
+
+    @BeforeClass
+    public static void prepareDatabase() throws Exception {
+        MockDatabase.startNode();
+        MockDatabase.insertProcessesFull();
+        MockDatabase.setUpAwaitility();
+
+        SecurityTestUtils.addUserDataToSecurityContext(ServiceManager.getUserService().getById(1), 1);
+    }
+
+    @AfterClass
+    public static void cleanDatabase() throws Exception {
+        SecurityTestUtils.cleanSecurityContext();
+
+        MockDatabase.stopNode();
+        MockDatabase.cleanDatabase();
+    }
+
+    @Test
+    public void shouldIndexLikeSequentialIndexWorker() throws Exception {
+        long amount = taskService.countDatabaseRows();
+
+        new IndexWorker(taskService).run();
+        await().untilAsserted(() -> assertEquals("Tasks were not indexed sequentially!", Long.valueOf(amount),
+            taskService.count()));
+        Map<String, Map<String, Object>> sequentialDocuments = findAllDocumentsById();
+
+        for (Integer id : taskService.findAllIDs()) {
+            taskService.removeFromIndex(id, true);
+        }
+        assertEquals("Tasks were not removed from index!", Long.valueOf(0), taskService.count());
+
+        ParallelIndexWorker parallelIndexWorker = new ParallelIndexWorker(taskService, true, 2, 3, 1);
+        parallelIndexWorker.run();
+        assertEquals("Not all tasks were indexed!", amount, parallelIndexWorker.getIndexedObjects());
+        await().untilAsserted(() -> assertEquals("Tasks were not indexed in parallel!", Long.valueOf(amount),
+            taskService.count()));
+
+        assertEquals("Parallel indexing created different documents!", sequentialDocuments, findAllDocumentsById());
+    }
+
+    private Map<String, Map<String, Object>> findAllDocumentsById() throws Exception {
+        List<Map<String, Object>> documents = taskService.findAllDocuments();
+        Map<String, Map<String, Object>> documentsById = new HashMap<>();
+        for (Map<String, Object> document : documents) {
+            documentsById.put((String) document.get("id"), document);
+        }
+        return documentsById;
+    }
+}
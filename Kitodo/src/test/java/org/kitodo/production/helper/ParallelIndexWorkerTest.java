@@ -0,0 +1,100 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.helper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyList;
+import static org.mockito.Matchers.anyMap;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.kitodo.data.database.beans.Task;
+import org.kitodo.data.elasticsearch.exceptions.CustomResponseException;
+import org.kitodo.production.services.data.TaskService;
+
+public class ParallelIndexWorkerTest {
+
+    private static final int BATCHES = 10;
+    private static final int BATCH_SIZE = 2;
+
+    @Test(timeout = 60000)
+    public void shouldIndexAllBatches() throws Exception {
+        TaskService taskService = mockTaskService();
+        doNothing().when(taskService).addDocumentsToIndex(anyMap());
+
+        ParallelIndexWorker parallelIndexWorker = new ParallelIndexWorker(taskService, true, BATCH_SIZE, 3, 1);
+        parallelIndexWorker.run();
+
+        assertFalse("Indexing should not be aborted!", parallelIndexWorker.isAborted());
+        assertEquals("Not all tasks were indexed!", BATCHES * BATCH_SIZE, parallelIndexWorker.getIndexedObjects());
+    }
+
+    @Test(timeout = 60000)
+    public void shouldAbortIfSendingFails() throws Exception {
+        TaskService taskService = mockTaskService();
+        doThrow(new CustomResponseException("Bulk request failed")).when(taskService).addDocumentsToIndex(anyMap());
+
+        ParallelIndexWorker parallelIndexWorker = new ParallelIndexWorker(taskService, true, BATCH_SIZE, 3, 1);
+        parallelIndexWorker.run();
+
+        assertTrue("Indexing should be aborted!", parallelIndexWorker.isAborted());
+        assertEquals("No tasks should be indexed!", 0, parallelIndexWorker.getIndexedObjects());
+    }
+
+    @Test(timeout = 60000)
+    public void shouldNotHangIfSendingThrowsRuntimeException() throws Exception {
+        TaskService taskService = mockTaskService();
+        doThrow(new IllegalStateException("Connection lost")).when(taskService).addDocumentsToIndex(anyMap());
+
+        ParallelIndexWorker parallelIndexWorker = new ParallelIndexWorker(taskService, true, BATCH_SIZE, 1, 1);
+        parallelIndexWorker.run();
+
+        assertTrue("Indexing should be aborted!", parallelIndexWorker.isAborted());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static TaskService mockTaskService() throws Exception {
+        TaskService taskService = mock(TaskService.class);
+        for (int batch = 0; batch <= BATCHES; batch++) {
+            List<Task> tasks = new ArrayList<>();
+            if (batch < BATCHES) {
+                for (int id = batch * BATCH_SIZE + 1; id <= (batch + 1) * BATCH_SIZE; id++) {
+                    Task task = new Task();
+                    task.setId(id);
+                    tasks.add(task);
+                }
+            }
+            when(taskService.getAllAfterId(eq(batch * BATCH_SIZE), anyInt())).thenReturn(tasks);
+        }
+        when(taskService.createIndexDocuments(anyList())).thenAnswer(invocation -> {
+            Map<Integer, Map<String, Object>> documents = new HashMap<>();
+            for (Object task : (List<Object>) invocation.getArguments()[0]) {
+                documents.put(((Task) task).getId(), Collections.emptyMap());
+            }
+            return documents;
+        });
+        return taskService;
+    }
+}
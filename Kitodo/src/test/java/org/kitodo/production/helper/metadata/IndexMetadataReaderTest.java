@@ -0,0 +1,97 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.helper.metadata;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class IndexMetadataReaderTest {
+
+    private static final String METS_START = "<mets:mets xmlns:mets=\"http://www.loc.gov/METS/\">";
+    private static final String METS_END = "</mets:mets>";
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldReadMetadataAndBaseType() throws Exception {
+        try (InputStream inputStream = Files.newInputStream(Paths.get("src/test/resources/metadata/2/meta.xml"))) {
+            IndexMetadataReader indexMetadataReader = IndexMetadataReader.read(inputStream);
+
+            assertEquals("Wrong base type!", "Monograph", indexMetadataReader.getBaseType());
+            List<Map<String, Object>> metadata = indexMetadataReader.getMetadata();
+            assertEquals("Wrong number of dmdSecs!", 2, metadata.size());
+            assertEquals("Wrong ID of dmdSec!", "DMDLOG_0000", metadata.get(0).get("ID"));
+            assertEquals("Wrong ID of dmdSec!", "DMDPHYS_0000", metadata.get(1).get("ID"));
+
+            Map<String, Object> mdWrap = (Map<String, Object>) metadata.get(0).get("mdWrap");
+            Map<String, Object> xmlData = (Map<String, Object>) mdWrap.get("xmlData");
+            Map<String, Object> kitodo = (Map<String, Object>) xmlData.get("kitodo");
+            List<Map<String, Object>> entries = (List<Map<String, Object>>) kitodo.get("metadata");
+            assertEquals("Wrong number of metadata!", 3, entries.size());
+            assertEquals("Wrong metadata name!", "TitleDocMain", entries.get(0).get("name"));
+            assertEquals("Wrong metadata value!", "Second process", entries.get(0).get("content"));
+
+            Map<String, Object> person = (Map<String, Object>) kitodo.get("metadataGroup");
+            List<Map<String, Object>> personEntries = (List<Map<String, Object>>) person.get("metadata");
+            assertEquals("Leading zeros were lost!", "079309542", personEntries.get(0).get("content"));
+        }
+    }
+
+    @Test
+    public void shouldReadTypeOfFirstTypedDivision() throws Exception {
+        String mets = METS_START + "<mets:structMap TYPE=\"PHYSICAL\"><mets:div TYPE=\"physSequence\"/></mets:structMap>"
+                + "<mets:structMap TYPE=\"LOGICAL\"><mets:div><mets:div TYPE=\"Volume\"/>"
+                + "<mets:div TYPE=\"Other\"/></mets:div></mets:structMap>" + METS_END;
+
+        assertEquals("Wrong base type!", "Volume", read(mets).getBaseType());
+    }
+
+    @Test
+    public void shouldNotReadTypeOfLaterDivision() throws Exception {
+        String mets = METS_START + "<mets:structMap TYPE=\"LOGICAL\"><mets:div><mets:div/>"
+                + "<mets:div><mets:div TYPE=\"Other\"/></mets:div></mets:div></mets:structMap>" + METS_END;
+
+        assertNull("Base type should not be set!", read(mets).getBaseType());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldConvertValuesLikeJson() throws Exception {
+        String mets = METS_START + "<mets:dmdSec ID=\"DMD\" ORDER=\"1\" FLAG=\"true\">"
+                + "<value>12</value><value>text</value><empty/></mets:dmdSec>" + METS_END;
+
+        List<Map<String, Object>> metadata = read(mets).getMetadata();
+
+        assertEquals("Wrong number of dmdSecs!", 1, metadata.size());
+        Map<String, Object> dmdSec = metadata.get(0);
+        assertEquals("Integer attribute was not kept!", 1, dmdSec.get("ORDER"));
+        assertTrue("Boolean attribute was indexed!", !dmdSec.containsKey("FLAG"));
+        assertEquals("Empty element was not kept!", "", dmdSec.get("empty"));
+        List<Object> values = (List<Object>) dmdSec.get("value");
+        assertEquals("Integer in list was indexed!", 1, values.size());
+        assertEquals("Text in list was not kept!", "text", values.get(0));
+    }
+
+    private static IndexMetadataReader read(String mets) throws Exception {
+        return IndexMetadataReader.read(new ByteArrayInputStream(mets.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.helper.tasks;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class CatalogRequestLimiterTest {
+
+    @Test(timeout = 60000)
+    public void shouldLimitConcurrentRequests() throws Exception {
+        CatalogRequestLimiter requestLimiter = new CatalogRequestLimiter(2, 0);
+        CountDownLatch finishRequests = new CountDownLatch(1);
+        AtomicInteger runningRequests = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            for (int i = 0; i < 3; i++) {
+                executor.execute(() -> {
+                    try {
+                        requestLimiter.acquire();
+                        try {
+                            runningRequests.incrementAndGet();
+                            finishRequests.await();
+                        } finally {
+                            runningRequests.decrementAndGet();
+                            requestLimiter.release();
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+            while (runningRequests.get() < 2) {
+                Thread.sleep(10);
+            }
+            Thread.sleep(200);
+            assertEquals("Third request should wait for a connection!", 2, runningRequests.get());
+
+            finishRequests.countDown();
+            executor.shutdown();
+            assertTrue("Third request should run after a connection was released!",
+                executor.awaitTermination(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(timeout = 60000)
+    public void shouldWaitBetweenRequests() throws Exception {
+        long start = System.nanoTime();
+        CatalogRequestLimiter requestLimiter = new CatalogRequestLimiter(3, 100);
+        for (int i = 0; i < 3; i++) {
+            requestLimiter.acquire();
+            requestLimiter.release();
+        }
+        assertTrue("Requests were sent too fast!",
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 200);
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.helper.tasks;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+import org.kitodo.data.database.beans.Job;
+
+public class KitodoScriptExecutionTaskTest {
+
+    private static final String SCRIPT = "action:addData \"TitleDocMain=Title with spaces\"";
+
+    @Test
+    public void shouldResumeFromJob() throws Exception {
+        KitodoScriptExecutionTask task = new KitodoScriptExecutionTask(SCRIPT, Arrays.asList(1, 2, 3, 4));
+        KitodoScriptExecutionTask resumed = new KitodoScriptExecutionTask(createJob(task.getJobParameters(),
+            "{\"position\":3,\"errors\":{\"2\":\"Process not found\",\"3\":\"Line one\\nline two\"}}"));
+
+        KitodoScriptExecutionTask resumedAgain = new KitodoScriptExecutionTask(
+                createJob(resumed.getJobParameters(), resumed.getCheckpoint()));
+
+        assertEquals("Parameters changed on resume!", task.getJobParameters(), resumedAgain.getJobParameters());
+        assertEquals("Checkpoint changed on resume!", resumed.getCheckpoint(), resumedAgain.getCheckpoint());
+        Map<Integer, String> errors = new LinkedHashMap<>();
+        errors.put(2, "Process not found");
+        errors.put(3, "Line one\nline two");
+        assertEquals("Errors changed on resume!", errors, resumedAgain.getErrors());
+    }
+
+    @Test
+    public void shouldResumeWithoutCheckpoint() throws Exception {
+        KitodoScriptExecutionTask task = new KitodoScriptExecutionTask(SCRIPT, Arrays.asList(1, 2));
+        KitodoScriptExecutionTask resumed = new KitodoScriptExecutionTask(createJob(task.getJobParameters(), null));
+
+        assertFalse("Result log should not be available before the first batch!", resumed.isResultLogAvailable());
+        assertEquals("Resumed task should start at the beginning!", task.getCheckpoint(), resumed.getCheckpoint());
+    }
+
+    @Test
+    public void shouldWriteResultLog() throws Exception {
+        KitodoScriptExecutionTask task = new KitodoScriptExecutionTask(SCRIPT, Arrays.asList(1, 2, 3, 4));
+        KitodoScriptExecutionTask resumed = new KitodoScriptExecutionTask(createJob(task.getJobParameters(),
+            "{\"position\":3,\"errors\":{\"2\":\"Process not found\",\"3\":\"Line one\\nline two\"}}"));
+
+        assertTrue("Result log should be available after the first batch!", resumed.isResultLogAvailable());
+        String newline = System.lineSeparator();
+        assertEquals("Wrong result log!", "1\tOK" + newline + "2\tERROR\tProcess not found" + newline
+                + "3\tERROR\tLine one line two" + newline,
+            resumed.getResultLog());
+    }
+
+    @Test
+    public void shouldBeRetryableAfterPartialProgress() throws Exception {
+        KitodoScriptExecutionTask task = new KitodoScriptExecutionTask(SCRIPT, Arrays.asList(1, 2, 3, 4));
+        assertFalse("Task without database record should not be retryable!", task.isRetryable());
+
+        KitodoScriptExecutionTask partial = new KitodoScriptExecutionTask(
+                createJob(task.getJobParameters(), "{\"position\":2,\"errors\":{}}"));
+        assertTrue("Task with processes left should be retryable!", partial.isRetryable());
+        assertTrue("Replacement of task with processes left should be retryable!", partial.replace().isRetryable());
+
+        KitodoScriptExecutionTask complete = new KitodoScriptExecutionTask(
+                createJob(task.getJobParameters(), "{\"position\":4,\"errors\":{}}"));
+        assertFalse("Task without processes left should not be retryable!", complete.isRetryable());
+    }
+
+    private static Job createJob(String parameters, String checkpoint) {
+        Job job = new Job();
+        job.setType(KitodoScriptExecutionTask.class.getName());
+        job.setTitle("kitodoScriptExecutionTask");
+        job.setParameters(parameters);
+        job.setCheckpoint(checkpoint);
+        return job;
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.helper.tasks;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyList;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.kitodo.api.dataformat.Workpiece;
+import org.kitodo.api.schemaconverter.DataRecord;
+import org.kitodo.data.database.beans.Job;
+import org.kitodo.data.database.beans.Process;
+import org.kitodo.data.database.beans.Template;
+import org.kitodo.exceptions.ImportException;
+import org.kitodo.exceptions.NoRecordFoundException;
+import org.kitodo.exceptions.UnsupportedFormatException;
+import org.kitodo.production.helper.TempProcess;
+import org.kitodo.production.process.ProcessGenerator;
+import org.kitodo.production.services.data.ImportService;
+import org.w3c.dom.Document;
+
+public class MassImportTaskTest {
+
+    private static final String CATALOG = "K10plus";
+    private static final List<String> RECORD_IDS = Arrays.asList("1", "2", "3", "4", "5", "6", "7", "8");
+
+    private final List<String> requestedRecords = new CopyOnWriteArrayList<>();
+    private final List<String> savedRecords = new CopyOnWriteArrayList<>();
+    private final Map<Document, String> recordIdsOfDocuments = new ConcurrentHashMap<>();
+
+    @Test(timeout = 60000)
+    public void shouldSaveRecordsInOrderIfRequestsFinishOutOfOrder() throws Exception {
+        CountDownLatch thirdRequestStarted = new CountDownLatch(1);
+        ImportService importService = mockImportService(recordId -> {
+            if (recordId.equals("1") && !thirdRequestStarted.await(10, TimeUnit.SECONDS)) {
+                throw new NoRecordFoundException("Requests were not sent concurrently");
+            }
+            if (recordId.equals("3")) {
+                thirdRequestStarted.countDown();
+            }
+        });
+
+        MassImportTask task = new MassImportTask(CATALOG, RECORD_IDS, 1, 1);
+        task.importRecords(importService, new Template(), new CatalogRequestLimiter(3, 0), 3);
+
+        assertNull("Import should not fail!", task.getException());
+        assertTrue("There should be no errors!", task.getErrors().isEmpty());
+        assertEquals("Records were not saved in order!", RECORD_IDS, savedRecords);
+        assertEquals("Wrong progress!", 100, task.getProgress());
+    }
+
+    @Test(timeout = 60000)
+    public void shouldReportFailedRecords() throws Exception {
+        ImportService importService = mockImportService(recordId -> {
+            if (recordId.equals("2")) {
+                throw new NoRecordFoundException("Record 2 not found");
+            }
+        });
+        doThrow(new UnsupportedFormatException("Record 5 has an unknown format")).when(importService)
+                .convertDataRecordToInternal(any(DataRecord.class), eq(CATALOG), eq(false), eq("5"));
+
+        MassImportTask task = new MassImportTask(CATALOG, RECORD_IDS, 1, 1);
+        task.importRecords(importService, new Template(), new CatalogRequestLimiter(2, 0), 2);
+
+        Map<String, String> errors = new LinkedHashMap<>();
+        errors.put("2", "Record 2 not found");
+        errors.put("5", "Record 5 has an unknown format");
+        assertEquals("Wrong errors!", errors, task.getErrors());
+        assertEquals("Wrong records saved!", Arrays.asList("1", "3", "4", "6", "7", "8"), savedRecords);
+        assertTrue("Failed import should be reported!", task.getException() instanceof ImportException);
+    }
+
+    @Test(timeout = 60000)
+    public void shouldResumeFromCheckpoint() throws Exception {
+        ImportService importService = mockImportService(recordId -> {
+        });
+        MassImportTask task = new MassImportTask(CATALOG, RECORD_IDS, 1, 1);
+        Job job = new Job();
+        job.setType(MassImportTask.class.getName());
+        job.setTitle("massImportTask");
+        job.setParameters(task.getJobParameters());
+        job.setCheckpoint("{\"position\":6,\"errors\":{\"2\":\"Record 2 not found\"}}");
+
+        MassImportTask resumed = new MassImportTask(job);
+        resumed.importRecords(importService, new Template(), new CatalogRequestLimiter(2, 0), 2);
+
+        assertEquals("Wrong records requested!", new HashSet<>(Arrays.asList("7", "8")), new HashSet<>(requestedRecords));
+        assertEquals("Wrong records saved!", Arrays.asList("7", "8"), savedRecords);
+        assertEquals("Errors of the first run were lost!", Collections.singletonMap("2", "Record 2 not found"),
+            resumed.getErrors());
+        assertEquals("Wrong checkpoint!", "{\"position\":8,\"errors\":{\"2\":\"Record 2 not found\"}}",
+            resumed.getCheckpoint());
+        assertTrue("Errors of the first run should be reported!", resumed.getException() instanceof ImportException);
+    }
+
+    /**
+     * Creates an import service which returns a record for each record ID
+     * and records the IDs of the requested and the saved records.
+     *
+     * @param beforeRequest
+     *            called in each request before the record is returned
+     * @return the import service
+     */
+    private ImportService mockImportService(Request beforeRequest) throws Exception {
+        ImportService importService = mock(ImportService.class);
+        when(importService.getMetadataLanguagePriorityList()).thenReturn(Collections.emptyList());
+        when(importService.getDataRecordById(eq(CATALOG), anyString())).thenAnswer(invocation -> {
+            String recordId = (String) invocation.getArguments()[1];
+            requestedRecords.add(recordId);
+            beforeRequest.run(recordId);
+            DataRecord dataRecord = new DataRecord();
+            dataRecord.setOriginalData(recordId);
+            return dataRecord;
+        });
+        when(importService.convertDataRecordToInternal(any(DataRecord.class), eq(CATALOG), eq(false), anyString()))
+                .thenAnswer(invocation -> {
+                    Document document = mock(Document.class);
+                    recordIdsOfDocuments.put(document, (String) invocation.getArguments()[3]);
+                    return document;
+                });
+        when(importService.createTempProcessFromDocument(any(ProcessGenerator.class), any(Document.class), anyInt(),
+            anyInt())).thenAnswer(invocation -> {
+                Process process = new Process();
+                process.setTitle(recordIdsOfDocuments.get(invocation.getArguments()[1]));
+                return new TempProcess(process, new Workpiece());
+            });
+        doAnswer(invocation -> {
+            savedRecords.add(((TempProcess) invocation.getArguments()[0]).getProcess().getTitle());
+            return null;
+        }).when(importService).saveImportedProcess(any(TempProcess.class), any(Template.class), anyList());
+        return importService;
+    }
+
+    @FunctionalInterface
+    private interface Request {
+        void run(String recordId) throws Exception;
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+
+package org.kitodo.production.helper.tasks;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.kitodo.MockDatabase;
+import org.kitodo.data.database.beans.Job;
+import org.kitodo.data.database.enums.JobState;
+import org.kitodo.production.services.ServiceManager;
+
+public class TaskManagerIT {
+
+    @BeforeClass
+    public static void prepareTaskManager() {
+        TaskSitter.setAutoRunningThreads(false);
+    }
+
+    @AfterClass
+    public static void cleanDatabase() {
+        TaskManager.stopAndDeleteAllTasks();
+        TaskSitter.setAutoRunningThreads(true);
+        MockDatabase.cleanDatabase();
+    }
+
+    @Test
+    public void shouldResumeRecordedTask() throws Exception {
+        ResumableTask task = new ResumableTask("first");
+        task.setProgress(40);
+        TaskManager.addTask(task);
+
+        List<Job> jobs = ServiceManager.getJobService().getByState(JobState.NEW);
+        assertEquals("Task should be recorded!", 1, jobs.size());
+        assertEquals("Wrong type!", ResumableTask.class.getName(), jobs.get(0).getType());
+
+        task.saveCheckpoint();
+        TaskManager.singleton().taskList.clear();
+        TaskManager.resumeJobs();
+
+        List<EmptyTask> tasks = TaskManager.getTaskList();
+        assertEquals("Task should be resumed!", 1, tasks.size());
+        assertTrue("Wrong type of resumed task!", tasks.get(0) instanceof ResumableTask);
+        assertEquals("Wrong parameters of resumed task!", "first", ((ResumableTask) tasks.get(0)).value);
+        assertEquals("Wrong progress of resumed task!", 40, tasks.get(0).getProgress());
+
+        TaskManager.stopAndDeleteAllTasks();
+        assertEquals("Record of removed task should be removed!", Long.valueOf(0),
+            ServiceManager.getJobService().countDatabaseRows());
+    }
+
+    @Test
+    public void shouldNotRecordOtherTasks() throws Exception {
+        TaskManager.addTask(new EmptyTask("second"));
+
+        assertEquals("Task should not be recorded!", Long.valueOf(0),
+            ServiceManager.getJobService().countDatabaseRows());
+        TaskManager.stopAndDeleteAllTasks();
+    }
+
+    /**
+     * A task which can be resumed, for testing.
+     */
+    public static class ResumableTask extends EmptyTask {
+        private final String value;
+
+        ResumableTask(String value) {
+            super(value);
+            this.value = value;
+        }
+
+        /**
+         * Resume constructor.
+         *
+         * @param job
+         *            database record of the task
+         */
+        public ResumableTask(Job job) {
+            super(job);
+            this.value = job.getParameters();
+        }
+
+        @Override
+        protected String getJobParameters() {
+            return value;
+        }
+    }
+}
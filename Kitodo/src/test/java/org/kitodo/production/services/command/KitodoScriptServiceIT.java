@@ -11,6 +11,7 @@
 
 package org.kitodo.production.services.command;
 
+import static org.awaitility.Awaitility.await;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
@@ -18,8 +19,11 @@ import static org.junit.Assert.assertTrue;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.SystemUtils;
@@ -44,8 +48,10 @@ import org.kitodo.data.database.beans.User;
 import org.kitodo.data.database.enums.TaskStatus;
 import org.kitodo.data.database.exceptions.DAOException;
 import org.kitodo.data.exceptions.DataException;
+import org.kitodo.exceptions.CommandException;
 import org.kitodo.production.dto.ProcessDTO;
 import org.kitodo.production.helper.tasks.EmptyTask;
+import org.kitodo.production.helper.tasks.KitodoScriptExecutionTask;
 import org.kitodo.production.helper.tasks.TaskManager;
 import org.kitodo.production.services.ServiceManager;
 
@@ -530,4 +536,53 @@ public class KitodoScriptServiceIT {
         Assert.assertEquals("should contain new metadata value", 1, processByMetadata.size());
 
     }
+
+    @Test
+    public void shouldAddDataConcurrently() throws Exception {
+        File metadataFileOfFirstProcess = new File("src/test/resources/metadata/1/meta.xml");
+        FileUtils.copyFile(new File("src/test/resources/metadata/2/meta.xml"), metadataFileOfFirstProcess);
+        try {
+            String metadataKey = "LegalNoteAndTermsOfUse";
+            List<Process> processes = new ArrayList<>();
+            processes.add(ServiceManager.getProcessService().getById(1));
+            processes.add(ServiceManager.getProcessService().getById(2));
+            Map<Integer, String> errors = new KitodoScriptService().execute(processes,
+                "action:addData " + metadataKey + "=$(processid)", 2);
+
+            assertTrue("should not report errors: " + errors, errors.isEmpty());
+            for (Process process : processes) {
+                Map<String, String> metadataSearchMap = Collections.singletonMap(metadataKey,
+                    process.getId().toString());
+                await().untilAsserted(() -> assertEquals("should contain metadata", 1,
+                    ServiceManager.getProcessService().findByMetadata(metadataSearchMap).size()));
+            }
+        } finally {
+            FileUtils.deleteQuietly(metadataFileOfFirstProcess);
+            Process process = ServiceManager.getProcessService().getById(1);
+            ServiceManager.getProcessService().save(process);
+        }
+    }
+
+    @Test
+    public void shouldExecuteScriptInTask() throws Exception {
+        KitodoScriptExecutionTask task = new KitodoScriptExecutionTask("action:addData LegalNoteAndTermsOfUse=CC0",
+                Arrays.asList(2, Integer.MAX_VALUE));
+        try {
+            task.run();
+        } finally {
+            SecurityTestUtils.addUserDataToSecurityContext(ServiceManager.getUserService().getById(1), 1);
+        }
+
+        assertEquals("should write a line for each process to the result log",
+            "2\tOK" + System.lineSeparator() + Integer.MAX_VALUE + "\tERROR\tProcess not found"
+                    + System.lineSeparator(),
+            task.getResultLog());
+    }
+
+    @Test(expected = CommandException.class)
+    public void shouldNotExecuteScriptWithoutAction() throws Exception {
+        List<Process> processes = new ArrayList<>();
+        processes.add(ServiceManager.getProcessService().getById(2));
+        new KitodoScriptService().execute(processes, "tasktitle:Testing", 2);
+    }
 }
@@ -0,0 +1,121 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.services.data;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.elasticsearch.index.query.QueryBuilder;
+import org.kitodo.production.enums.ObjectType;
+import org.kitodo.production.services.ServiceManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares parsing the filter strings of a process list on each reload with
+ * taking them from the cache of parsed filters of the {@link FilterService},
+ * once for parsing alone and once together with building the queries. The
+ * filters are chosen so that building their queries needs no index. This is
+ * not a unit test; run it with the main method from the test class path of
+ * this module.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class FilterParsingBenchmark {
+
+    private static final String[] FILTERS = {
+        "\"id:1 2 3 4 5 6 7 8 9 10\"",
+        "\"project:First project\" \"process:Zeitung_*\"",
+        "\"-project:Second project\" \"parentprocessid:4\" \"Title search\"",
+        "\"batch:1\" \"projekt:Erstes Projekt\" \"prozess:Zeitung_1900*\" \"Ausgabe\"",
+        "\"id:42\" \"parentprocessid:7\" \"batch:2\" \"process:Monograph_*\" \"-project:Third project\"",
+    };
+
+    private FilterService filterService;
+
+    /**
+     * Get the filter service and fill its cache once.
+     */
+    @Setup
+    public void setUp() {
+        filterService = ServiceManager.getFilterService();
+        for (String filter : FILTERS) {
+            filterService.getParsedFilter(filter);
+        }
+    }
+
+    @Benchmark
+    public int parseCold() {
+        int parts = 0;
+        for (String filter : FILTERS) {
+            parts += ParsedFilter.parse(filter).getParts().size();
+        }
+        return parts;
+    }
+
+    @Benchmark
+    public int parseCached() {
+        int parts = 0;
+        for (String filter : FILTERS) {
+            parts += filterService.getParsedFilter(filter).getParts().size();
+        }
+        return parts;
+    }
+
+    @Benchmark
+    public List<QueryBuilder> buildQueriesCold() throws Exception {
+        List<QueryBuilder> queries = new ArrayList<>();
+        for (String filter : FILTERS) {
+            for (ParsedFilter.Part part : ParsedFilter.parse(filter).getParts()) {
+                queries.add(filterService.createFilterQuery(part, ObjectType.PROCESS));
+            }
+        }
+        return queries;
+    }
+
+    @Benchmark
+    public List<QueryBuilder> buildQueriesCached() throws Exception {
+        List<QueryBuilder> queries = new ArrayList<>();
+        for (String filter : FILTERS) {
+            for (ParsedFilter.Part part : filterService.getParsedFilter(filter).getParts()) {
+                queries.add(filterService.createFilterQuery(part, ObjectType.PROCESS));
+            }
+        }
+        return queries;
+    }
+
+    /**
+     * Run the benchmark.
+     *
+     * @param args
+     *            not used
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(FilterParsingBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.services.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Test;
+import org.kitodo.production.enums.FilterString;
+
+public class ParsedFilterTest {
+
+    @Test
+    public void shouldParseFilters() {
+        ParsedFilter parsedFilter = ParsedFilter.parse("\"stepopen:Scanning\" \"-project:First\" \"Second title\"");
+
+        List<ParsedFilter.Part> parts = parsedFilter.getParts();
+        assertEquals("Wrong number of filters!", 3, parts.size());
+        assertEquals("Wrong kind of filter!", FilterString.TASKOPEN, parts.get(0).getFilterString());
+        assertFalse("Filter should not be negated!", parts.get(0).isNegated());
+        assertEquals("Wrong filter!", "stepopen:Scanning", parts.get(0).getToken());
+        assertEquals("Wrong kind of filter!", FilterString.PROJECT, parts.get(1).getFilterString());
+        assertTrue("Filter should be negated!", parts.get(1).isNegated());
+        assertNull("Standard search should not have a kind!", parts.get(2).getFilterString());
+        assertEquals("Wrong filter!", "Second title", parts.get(2).getToken());
+        assertTrue("Filter should not have syntax errors!", parsedFilter.getSyntaxErrors().isEmpty());
+    }
+
+    @Test
+    public void shouldParseGermanAndUpperCaseFilters() {
+        List<ParsedFilter.Part> parts = ParsedFilter.parse("\"schrittoffen:Scannen\" \"StepDoneTitle:Scanning\"")
+                .getParts();
+
+        assertEquals("Wrong kind of filter!", FilterString.TASKOPEN, parts.get(0).getFilterString());
+        assertEquals("Wrong kind of filter!", FilterString.TASKDONETITLE, parts.get(1).getFilterString());
+    }
+
+    @Test
+    public void shouldParseNegatedStandardSearch() {
+        ParsedFilter.Part part = ParsedFilter.parse("\"-id:5\"").getParts().get(0);
+
+        assertNull("Negated id filter should be a standard search!", part.getFilterString());
+        assertTrue("Filter should be negated!", part.isNegated());
+        assertEquals("Wrong filter!", "id:5", part.getToken());
+    }
+
+    @Test
+    public void shouldReportUnclosedQuotationMark() {
+        ParsedFilter parsedFilter = ParsedFilter.parse("\"id:5\" \"batch:12");
+
+        assertEquals("Wrong number of filters!", 2, parsedFilter.getParts().size());
+        assertEquals("Wrong number of syntax errors!", 1, parsedFilter.getSyntaxErrors().size());
+        ParsedFilter.SyntaxError syntaxError = parsedFilter.getSyntaxErrors().get(0);
+        assertEquals("Wrong error!", "filterUnclosedQuotationMark", syntaxError.getMessageKey());
+        assertEquals("Wrong position of error!", 7, syntaxError.getPosition());
+    }
+
+    @Test
+    public void shouldReportMissingValue() {
+        ParsedFilter parsedFilter = ParsedFilter.parse("\"id:5\" \"stepdone:\"");
+
+        assertEquals("Wrong number of syntax errors!", 1, parsedFilter.getSyntaxErrors().size());
+        ParsedFilter.SyntaxError syntaxError = parsedFilter.getSyntaxErrors().get(0);
+        assertEquals("Wrong error!", "filterMissingValue", syntaxError.getMessageKey());
+        assertEquals("Wrong filter name!", "stepdone:", syntaxError.getFilterName());
+        assertEquals("Wrong position of error!", 17, syntaxError.getPosition());
+    }
+}
@@ -25,7 +25,9 @@ import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.commons.lang.SystemUtils;
 import org.elasticsearch.index.query.Operator;
@@ -47,9 +49,12 @@ import org.kitodo.api.dataformat.mets.LinkedMetsResource;
 import org.kitodo.config.ConfigCore;
 import org.kitodo.config.enums.ParameterCore;
 import org.kitodo.data.database.beans.Process;
+import org.kitodo.data.database.beans.Project;
+import org.kitodo.data.database.beans.Ruleset;
 import org.kitodo.data.database.beans.Task;
 import org.kitodo.data.database.beans.User;
 import org.kitodo.data.database.exceptions.DAOException;
+import org.kitodo.data.elasticsearch.search.Searcher;
 import org.kitodo.data.exceptions.DataException;
 import org.kitodo.production.dto.ProcessDTO;
 import org.kitodo.production.helper.metadata.legacytypeimplementations.LegacyMetsModsDigitalDocumentHelper;
@@ -114,6 +119,24 @@ public class ProcessServiceIT {
             processService.findNumberOfProcessesWithTitle(firstProcess));
     }
 
+    @Test
+    public void shouldFindRelatedObjectsOfProcessesWithOneQueryPerType() throws Exception {
+        List<Searcher> searchers = Arrays.asList(new Searcher(Project.class), new Searcher(Ruleset.class),
+            new Searcher(Task.class));
+        Map<String, Long> requestsBefore = new HashMap<>();
+        for (Searcher searcher : searchers) {
+            requestsBefore.put(searcher.getType(), searcher.getDocumentRequests());
+        }
+
+        List<ProcessDTO> processes = processService.findAll(false);
+        assertFalse("Processes were not found in index!", processes.isEmpty());
+
+        for (Searcher searcher : searchers) {
+            assertEquals("Wrong number of search requests for " + searcher.getType() + "!", 1,
+                searcher.getDocumentRequests() - requestsBefore.get(searcher.getType()));
+        }
+    }
+
     @Test
     public void shouldCountAllDatabaseRowsForProcesses() throws Exception {
         Long amount = processService.countDatabaseRows();
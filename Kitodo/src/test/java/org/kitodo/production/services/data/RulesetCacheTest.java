@@ -0,0 +1,94 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.services.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.kitodo.api.dataeditor.rulesetmanagement.RulesetManagementInterface;
+
+public class RulesetCacheTest {
+
+    private File firstFile;
+    private File secondFile;
+    private final AtomicInteger loads = new AtomicInteger();
+    private final RulesetCache.RulesetLoader loader = rulesetFile -> {
+        loads.incrementAndGet();
+        return mock(RulesetManagementInterface.class);
+    };
+
+    @Before
+    public void createFiles() throws Exception {
+        firstFile = File.createTempFile("ruleset", ".xml");
+        secondFile = File.createTempFile("ruleset", ".xml");
+    }
+
+    @After
+    public void deleteFiles() throws Exception {
+        Files.deleteIfExists(firstFile.toPath());
+        Files.deleteIfExists(secondFile.toPath());
+    }
+
+    @Test
+    public void shouldLoadRulesetOnce() throws Exception {
+        RulesetCache rulesetCache = new RulesetCache(2, loader);
+
+        RulesetManagementInterface ruleset = rulesetCache.get(firstFile);
+
+        assertSame("Ruleset was not cached!", ruleset, rulesetCache.get(firstFile));
+        assertEquals("Ruleset was loaded more than once!", 1, loads.get());
+        assertEquals("Wrong number of cache hits!", 1, rulesetCache.getHits());
+        assertEquals("Wrong number of cache misses!", 1, rulesetCache.getMisses());
+    }
+
+    @Test
+    public void shouldLoadModifiedRulesetAgain() throws Exception {
+        RulesetCache rulesetCache = new RulesetCache(2, loader);
+        RulesetManagementInterface ruleset = rulesetCache.get(firstFile);
+
+        Files.write(firstFile.toPath(), "<ruleset/>".getBytes(StandardCharsets.UTF_8));
+
+        assertNotSame("Modified ruleset was not loaded again!", ruleset, rulesetCache.get(firstFile));
+        assertEquals("Wrong number of loads!", 2, loads.get());
+    }
+
+    @Test
+    public void shouldLoadInvalidatedRulesetAgain() throws Exception {
+        RulesetCache rulesetCache = new RulesetCache(2, loader);
+        RulesetManagementInterface ruleset = rulesetCache.get(firstFile);
+
+        rulesetCache.invalidate(firstFile);
+
+        assertNotSame("Invalidated ruleset was not loaded again!", ruleset, rulesetCache.get(firstFile));
+    }
+
+    @Test
+    public void shouldRemoveLeastRecentlyUsedRuleset() throws Exception {
+        RulesetCache rulesetCache = new RulesetCache(1, loader);
+        RulesetManagementInterface ruleset = rulesetCache.get(firstFile);
+
+        rulesetCache.get(secondFile);
+
+        assertNotSame("Least recently used ruleset was not removed!", ruleset, rulesetCache.get(firstFile));
+        assertEquals("Wrong number of loads!", 3, loads.get());
+    }
+}
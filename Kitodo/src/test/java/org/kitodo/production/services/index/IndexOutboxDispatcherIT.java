@@ -0,0 +1,91 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.services.index;
+
+import static org.awaitility.Awaitility.await;
+import static org.elasticsearch.index.query.QueryBuilders.matchQuery;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Collections;
+
+import org.elasticsearch.index.query.Operator;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.kitodo.MockDatabase;
+import org.kitodo.SecurityTestUtils;
+import org.kitodo.data.database.beans.Docket;
+import org.kitodo.data.database.beans.User;
+import org.kitodo.data.database.enums.IndexAction;
+import org.kitodo.production.services.ServiceManager;
+import org.kitodo.production.services.data.DocketService;
+
+public class IndexOutboxDispatcherIT {
+
+    private static final DocketService docketService = ServiceManager.getDocketService();
+
+    @BeforeClass
+    public static void prepareDatabase() throws Exception {
+        MockDatabase.startNode();
+        MockDatabase.insertClients();
+        MockDatabase.insertDockets();
+        MockDatabase.setUpAwaitility();
+        SecurityTestUtils.addUserDataToSecurityContext(new User(), 1);
+    }
+
+    @AfterClass
+    public static void cleanDatabase() throws Exception {
+        MockDatabase.stopNode();
+        MockDatabase.cleanDatabase();
+    }
+
+    @Test
+    public void shouldDrainOutbox() throws Exception {
+        Docket docket = new Docket();
+        docket.setTitle("Outbox");
+        docket.setFile("outbox.xsl");
+        docket.setIndexAction(IndexAction.INDEX);
+        docketService.saveToDatabase(docket);
+        assertEquals("Docket was indexed without draining outbox!", Long.valueOf(0),
+            docketService.count(matchQuery("title", "Outbox").operator(Operator.AND)));
+
+        int indexed = IndexOutboxDispatcher.getInstance().drain(docketService);
+
+        assertEquals("Docket was not drained from outbox!", 1, indexed);
+        await().untilAsserted(() -> assertEquals("Docket was not found in index!", Long.valueOf(1),
+            docketService.count(matchQuery("title", "Outbox").operator(Operator.AND))));
+        assertEquals("Docket was not marked as indexed!", IndexAction.DONE,
+            docketService.getById(docket.getId()).getIndexAction());
+        assertEquals("Outbox was not empty after draining!", 0, IndexOutboxDispatcher.getInstance().drain(docketService));
+    }
+
+    @Test
+    public void shouldIndexInterruptedObjectsAfterStart() throws Exception {
+        Docket docket = new Docket();
+        docket.setTitle("Interrupted");
+        docket.setFile("interrupted.xsl");
+        docket.setIndexAction(IndexAction.INDEXING);
+        docketService.saveToDatabase(docket);
+        assertEquals("Docket being indexed was drained again!", 0, IndexOutboxDispatcher.getInstance().drain(docketService));
+
+        IndexOutboxDispatcher.getInstance().start(Collections.singletonList(docketService));
+
+        assertEquals("Interrupted docket was not marked for indexing!", IndexAction.INDEX,
+            docketService.getById(docket.getId()).getIndexAction());
+        assertEquals("Interrupted docket was not drained from outbox!", 1,
+            IndexOutboxDispatcher.getInstance().drain(docketService));
+        await().untilAsserted(() -> assertEquals("Docket was not found in index!", Long.valueOf(1),
+            docketService.count(matchQuery("title", "Interrupted").operator(Operator.AND))));
+        assertEquals("Docket was not marked as indexed!", IndexAction.DONE,
+            docketService.getById(docket.getId()).getIndexAction());
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.services.validation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.kitodo.api.validation.State;
+import org.kitodo.api.validation.ValidationResult;
+import org.kitodo.api.validation.longtermpreservation.FileType;
+
+public class ValidationResultCacheTest {
+
+    private Path image;
+    private Path store;
+
+    @Before
+    public void createFiles() throws Exception {
+        image = Files.createTempFile("image", ".tif");
+        Files.write(image, "image".getBytes(StandardCharsets.UTF_8));
+        store = Files.createTempFile("validation", ".cache");
+        Files.delete(store);
+    }
+
+    @After
+    public void deleteFiles() throws Exception {
+        Files.deleteIfExists(image);
+        Files.deleteIfExists(store);
+    }
+
+    @Test
+    public void shouldReturnResultOfUnchangedFile() throws Exception {
+        ValidationResultCache cache = new ValidationResultCache(null);
+        assertFalse("Unknown file should not be cached!", cache.get(image, attributes(), FileType.TIFF).isPresent());
+
+        cache.put(image, attributes(), FileType.TIFF, new ValidationResult(State.SUCCESS, Collections.emptyList()));
+
+        Optional<ValidationResult> result = cache.get(image, attributes(), FileType.TIFF);
+        assertTrue("Result should be cached!", result.isPresent());
+        assertEquals("Wrong state!", State.SUCCESS, result.get().getState());
+        assertFalse("Result for other file type should not be cached!",
+            cache.get(image, attributes(), FileType.JPEG).isPresent());
+        assertEquals("Wrong number of cache hits!", 1, cache.getHits());
+        assertEquals("Wrong number of cache misses!", 2, cache.getMisses());
+    }
+
+    @Test
+    public void shouldNotReturnResultOfModifiedFile() throws Exception {
+        ValidationResultCache cache = new ValidationResultCache(null);
+        cache.put(image, attributes(), FileType.TIFF, new ValidationResult(State.SUCCESS, Collections.emptyList()));
+
+        Files.setLastModifiedTime(image, FileTime.fromMillis(attributes().lastModifiedTime().toMillis() + 1000));
+
+        assertFalse("Modified file should not be cached!", cache.get(image, attributes(), FileType.TIFF).isPresent());
+    }
+
+    @Test
+    public void shouldLoadResultsFromStore() throws Exception {
+        new ValidationResultCache(store).put(image, attributes(), FileType.TIFF,
+            new ValidationResult(State.ERROR, Arrays.asList("first\tmessage", "second\nmessage\\")));
+
+        Optional<ValidationResult> result = new ValidationResultCache(store).get(image, attributes(), FileType.TIFF);
+
+        assertTrue("Result should be loaded from store!", result.isPresent());
+        assertEquals("Wrong state!", State.ERROR, result.get().getState());
+        assertEquals("Wrong messages!", Arrays.asList("first\tmessage", "second\nmessage\\"),
+            result.get().getResultMessages());
+    }
+
+    private BasicFileAttributes attributes() throws Exception {
+        return Files.readAttributes(image, BasicFileAttributes.class);
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+
+package org.kitodo.production.services.workflow;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathFactory;
+
+import org.kitodo.production.workflow.KitodoNamespaceContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.w3c.dom.Document;
+import org.w3c.dom.NodeList;
+
+/**
+ * Compares evaluating ten XPath workflow conditions on a METS file of about
+ * 20 MB with parsing the file and compiling the expression for each
+ * condition, to parsing the file once and using the compiled expressions of
+ * the {@link WorkflowControllerService}. This is not a unit test; run it with
+ * the main method from the test class path of this module.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class XPathConditionBenchmark {
+
+    private static final int DIVS = 100_000;
+
+    private static final String[] CONDITIONS = {
+        "/mets:mets/mets:metsHdr",
+        "/mets:mets/mets:dmdSec/mets:mdWrap/mets:xmlData/kitodo:kitodo/kitodo:metadata[@name='TitleDocMain']",
+        "//kitodo:metadata[@name='PublicationYear' and text()='1900']",
+        "/mets:mets/mets:structMap[@TYPE='LOGICAL']/mets:div[@TYPE='Monograph']",
+        "//mets:div[@TYPE='Chapter']",
+        "//mets:div[@ORDER='50000']",
+        "//mets:div[@TYPE='Index']",
+        "/mets:mets/mets:fileSec/mets:fileGrp[@USE='LOCAL']",
+        "//mets:file[@MIMETYPE='image/tiff']",
+        "/mets:mets/mets:structMap[@TYPE='PHYSICAL']/mets:div/mets:div[last()]",
+    };
+
+    private byte[] metsFile;
+
+    /**
+     * Generate the METS file of the benchmark once.
+     */
+    @Setup
+    public void setUp() {
+        StringBuilder mets = new StringBuilder(DIVS * 200);
+        mets.append("<mets:mets xmlns:mets=\"http://www.loc.gov/METS/\" xmlns:kitodo=\"http://meta.kitodo.org/v1/\">");
+        mets.append("<mets:metsHdr CREATEDATE=\"2020-01-01T00:00:00\"/>");
+        mets.append("<mets:dmdSec ID=\"DMDLOG_0000\"><mets:mdWrap MDTYPE=\"OTHER\"><mets:xmlData><kitodo:kitodo>");
+        mets.append("<kitodo:metadata name=\"TitleDocMain\">Title</kitodo:metadata>");
+        mets.append("<kitodo:metadata name=\"PublicationYear\">1900</kitodo:metadata>");
+        mets.append("</kitodo:kitodo></mets:xmlData></mets:mdWrap></mets:dmdSec>");
+        mets.append("<mets:fileSec><mets:fileGrp USE=\"LOCAL\">");
+        for (int i = 1; i <= DIVS; i++) {
+            mets.append("<mets:file ID=\"FILE_").append(i).append("\" MIMETYPE=\"image/tiff\"><mets:FLocat LOCTYPE=\"URL\" ")
+                    .append("xlink:href=\"images/").append(i).append(".tif\" ")
+                    .append("xmlns:xlink=\"http://www.w3.org/1999/xlink\"/></mets:file>");
+        }
+        mets.append("</mets:fileGrp></mets:fileSec>");
+        mets.append("<mets:structMap TYPE=\"LOGICAL\"><mets:div TYPE=\"Monograph\">");
+        mets.append("<mets:div TYPE=\"Chapter\"/></mets:div></mets:structMap>");
+        mets.append("<mets:structMap TYPE=\"PHYSICAL\"><mets:div TYPE=\"physSequence\">");
+        for (int i = 1; i <= DIVS; i++) {
+            mets.append("<mets:div ID=\"PHYS_").append(i).append("\" ORDER=\"").append(i)
+                    .append("\" TYPE=\"page\"><mets:fptr FILEID=\"FILE_").append(i).append("\"/></mets:div>");
+        }
+        mets.append("</mets:div></mets:structMap></mets:mets>");
+        metsFile = mets.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public int parseAndCompileForEachCondition() throws Exception {
+        int matches = 0;
+        for (String condition : CONDITIONS) {
+            DocumentBuilderFactory builderFactory = DocumentBuilderFactory.newInstance();
+            builderFactory.setNamespaceAware(true);
+            Document xmlDocument = builderFactory.newDocumentBuilder().parse(new ByteArrayInputStream(metsFile));
+            XPath xPath = XPathFactory.newInstance().newXPath();
+            xPath.setNamespaceContext(new KitodoNamespaceContext());
+            NodeList nodeList = (NodeList) xPath.compile(condition).evaluate(xmlDocument, XPathConstants.NODESET);
+            if (nodeList.getLength() > 0) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public int parseOnceWithCompiledConditions() throws Exception {
+        int matches = 0;
+        Document xmlDocument = WorkflowControllerService.parseMetadata(new ByteArrayInputStream(metsFile));
+        for (String condition : CONDITIONS) {
+            XPathExpression xPathExpression = WorkflowControllerService.getXPathExpression(condition);
+            if (WorkflowControllerService.isXPathMatching(xmlDocument, xPathExpression)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Run the benchmark.
+     *
+     * @param args
+     *            not used
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(XPathConditionBenchmark.class.getSimpleName()).build()).run();
+    }
+}